@@ -0,0 +1,72 @@
+package jest.benchmarks;
+
+import jest.modele.jeu.Partie;
+import jest.modele.joueurs.Jest;
+import jest.modele.joueurs.Joueur;
+import jest.modele.score.CalculateurScore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Banc de mesure de CalculateurScore sur les Jests de fin de partie.
+ * Chaque opération évalue le Jest de tous les joueurs d'une partie.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BenchCalculScore {
+
+    @Param({"3", "4"})
+    public int nbJoueurs;
+
+    @Param({"standard", "tactique", "rapide"})
+    public String variante;
+
+    @Param({"false", "true"})
+    public boolean magique;
+
+    private CalculateurScore calculateur;
+    private Jest[] jests;
+
+    @Setup(Level.Trial)
+    public void preparer() {
+        Partie partie = PartiesDeReference.jouer(nbJoueurs, variante, magique);
+        List<Joueur> joueurs = partie.getJoueurs();
+        calculateur = partie.getCalculateur();
+        jests = new Jest[joueurs.size()];
+        for (int i = 0; i < jests.length; i++) {
+            jests[i] = joueurs.get(i).getJest();
+        }
+    }
+
+    @Benchmark
+    public int calculerScore() {
+        int total = 0;
+        for (Jest jest : jests) {
+            total += calculateur.calculerScore(jest);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int calculerScoreSansTrophees() {
+        int total = 0;
+        for (Jest jest : jests) {
+            total += calculateur.calculerScore(jest, true);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public void calculerDetail(Blackhole bh) {
+        for (Jest jest : jests) {
+            bh.consume(calculateur.calculerDetail(jest, false));
+        }
+    }
+}
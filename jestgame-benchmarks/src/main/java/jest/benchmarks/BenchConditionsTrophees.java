@@ -0,0 +1,69 @@
+package jest.benchmarks;
+
+import jest.modele.cartes.ConditionTrophee;
+import jest.modele.jeu.Partie;
+import jest.modele.joueurs.JestCompact;
+import jest.modele.joueurs.Joueur;
+import jest.modele.score.MoteurTrophees;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Banc de mesure de ConditionTrophee.evaluer pour les 15 conditions,
+ * par la liste des joueurs et par la représentation compacte des Jests,
+ * et de MoteurTrophees (analyse de toutes les conditions, puis lecture d'une condition).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BenchConditionsTrophees {
+
+    /** Sans valeurs explicites, JMH parcourt toutes les constantes de l'énumération. */
+    @Param
+    public ConditionTrophee condition;
+
+    @Param({"3", "4"})
+    public int nbJoueurs;
+
+    @Param({"standard", "tactique", "rapide"})
+    public String variante;
+
+    private List<Joueur> joueurs;
+    private JestCompact[] jests;
+    private int[] scores;
+    private MoteurTrophees moteur;
+
+    @Setup(Level.Trial)
+    public void preparer() {
+        Partie partie = PartiesDeReference.jouer(nbJoueurs, variante, false);
+        joueurs = partie.getJoueurs();
+        jests = new JestCompact[joueurs.size()];
+        scores = new int[joueurs.size()];
+        for (int i = 0; i < jests.length; i++) {
+            jests[i] = joueurs.get(i).getJest().getCompact();
+            scores[i] = joueurs.get(i).getScore();
+        }
+        moteur = new MoteurTrophees();
+    }
+
+    @Benchmark
+    public Joueur evaluerListe() {
+        return condition.evaluer(joueurs);
+    }
+
+    @Benchmark
+    public int evaluerCompact() {
+        return condition.evaluer(jests, scores);
+    }
+
+    @Benchmark
+    public int evaluerMoteur() {
+        moteur.analyser(jests, scores);
+        return moteur.getGagnant(condition);
+    }
+}
@@ -0,0 +1,110 @@
+package jest.benchmarks;
+
+import jest.modele.cartes.Carte;
+import jest.modele.cartes.Paquet;
+import jest.modele.extensions.Extension;
+import jest.modele.extensions.ExtensionMagique;
+import jest.modele.extensions.Variante;
+import jest.modele.jeu.Pioche;
+import jest.modele.jeu.Tour;
+import jest.modele.joueurs.Joueur;
+import jest.simulation.MoteurSimulation;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Banc de mesure de la mise en place des cartes :
+ * Paquet.initialiser, Pioche.melanger et Tour.distribuerCartes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BenchDistribution {
+
+    @Param({"3", "4"})
+    public int nbJoueurs;
+
+    @Param({"standard", "tactique", "rapide"})
+    public String variante;
+
+    @Param({"false", "true"})
+    public boolean magique;
+
+    private Extension extension;
+    private Paquet paquet;
+    private Pioche pioche;
+    private List<Joueur> joueurs;
+    private int nbCartes;
+    private List<Carte> residuelles;
+    private List<Carte> piochees;
+
+    @Setup(Level.Trial)
+    public void preparer() {
+        extension = magique ? new ExtensionMagique(nbJoueurs) : null;
+        paquet = new Paquet();
+        paquet.initialiser(extension);
+        // Un tour suivant repart d'une carte résiduelle par joueur, hors pioche
+        List<Carte> cartes = new ArrayList<>(paquet.getCartes());
+        residuelles = new ArrayList<>(cartes.subList(0, nbJoueurs));
+        piochees = new ArrayList<>();
+        pioche = new Pioche(cartes.subList(nbJoueurs, cartes.size()));
+        joueurs = PartiesDeReference.jouer(nbJoueurs, variante, magique).getJoueurs();
+
+        Variante v = MoteurSimulation.varianteDepuisNom(variante);
+        Tour tour = new Tour(1, joueurs, pioche);
+        nbCartes = v.modifierDistribution(tour, pioche.getTaille(), nbJoueurs);
+    }
+
+    @Benchmark
+    public List<Carte> initialiserPaquet() {
+        paquet.initialiser(extension);
+        return paquet.getCartes();
+    }
+
+    @Benchmark
+    public Pioche melangerPioche() {
+        pioche.melanger();
+        return pioche;
+    }
+
+    /**
+     * Premier tour : les mains sont piochées directement.
+     * Les cartes sont remises dans la pioche pour que chaque opération mesure le même tirage.
+     */
+    @Benchmark
+    public void distribuerPremierTour(Blackhole bh) {
+        Tour tour = new Tour(1, joueurs, pioche);
+        List<List<Carte>> mains = tour.distribuerCartes(nbCartes);
+        bh.consume(mains);
+        for (List<Carte> main : mains) {
+            pioche.ajouterCartes(main);
+        }
+    }
+
+    /**
+     * Tours suivants : cartes résiduelles complétées par la pioche, puis mélangées.
+     */
+    @Benchmark
+    public void distribuerTourSuivant(Blackhole bh) {
+        Tour tour = new Tour(2, joueurs, pioche);
+        tour.setCartesResiduelles(residuelles);
+        List<List<Carte>> mains = tour.distribuerCartes(nbCartes);
+        bh.consume(mains);
+        piochees.clear();
+        for (List<Carte> main : mains) {
+            for (Carte carte : main) {
+                if (!residuelles.contains(carte)) {
+                    piochees.add(carte);
+                }
+            }
+        }
+        pioche.ajouterCartes(piochees);
+    }
+}
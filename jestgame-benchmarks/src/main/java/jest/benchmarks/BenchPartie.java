@@ -0,0 +1,48 @@
+package jest.benchmarks;
+
+import jest.modele.jeu.Partie;
+import jest.simulation.MoteurSimulation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Banc de mesure d'une partie complète sans affichage
+ * (initialisation, tous les tours, trophées et scores finaux),
+ * et de la seule mise en place d'une partie (création en masse).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BenchPartie {
+
+    @Param({"3", "4"})
+    public int nbJoueurs;
+
+    @Param({"standard", "tactique", "rapide"})
+    public String variante;
+
+    @Param({"false", "true"})
+    public boolean magique;
+
+    private MoteurSimulation moteur;
+    private long graine;
+
+    @Setup(Level.Trial)
+    public void preparer() {
+        moteur = PartiesDeReference.moteur(nbJoueurs, variante, magique);
+    }
+
+    @Benchmark
+    public Partie jouerPartie() {
+        return moteur.jouerPartie();
+    }
+
+    @Benchmark
+    public Partie creerPartie() {
+        return moteur.creerPartie(graine++);
+    }
+}
@@ -0,0 +1,55 @@
+package jest.benchmarks;
+
+import jest.modele.jeu.Partie;
+import jest.modele.joueurs.*;
+import jest.simulation.MoteurSimulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Construction des parties servant de données aux bancs de mesure.
+ * Les Jests mesurés sont ceux de vraies parties jouées sans affichage,
+ * donc représentatifs de la variante et du nombre de joueurs.
+ */
+final class PartiesDeReference {
+
+    private PartiesDeReference() {
+    }
+
+    /**
+     * Crée un moteur de simulation alternant les trois stratégies sur les sièges.
+     * @param nbJoueurs Nombre de joueurs (3 ou 4)
+     * @param variante Nom court de la variante ("standard", "tactique" ou "rapide")
+     * @param magique true pour jouer avec l'extension Cartes Magiques
+     * @return Moteur de simulation
+     */
+    static MoteurSimulation moteur(int nbJoueurs, String variante, boolean magique) {
+        List<Supplier<StrategieJeu>> strategies = new ArrayList<>();
+        for (int i = 0; i < nbJoueurs; i++) {
+            switch (i % 3) {
+                case 0:
+                    strategies.add(StrategieAleatoire::new);
+                    break;
+                case 1:
+                    strategies.add(StrategieGloutonne::new);
+                    break;
+                default:
+                    strategies.add(StrategieDefensive::new);
+            }
+        }
+        return new MoteurSimulation(strategies, MoteurSimulation.varianteDepuisNom(variante), magique);
+    }
+
+    /**
+     * Joue une partie complète sans affichage.
+     * @param nbJoueurs Nombre de joueurs
+     * @param variante Nom court de la variante
+     * @param magique true pour l'extension Cartes Magiques
+     * @return Partie terminée (trophées attribués, scores calculés)
+     */
+    static Partie jouer(int nbJoueurs, String variante, boolean magique) {
+        return moteur(nbJoueurs, variante, magique).jouerPartie();
+    }
+}
@@ -1,8 +1,10 @@
 package jest.modele;
 
+import jest.modele.evenements.EcouteurConsole;
 import jest.modele.jeu.Partie;
 import jest.modele.joueurs.*;
 import jest.modele.extensions.*;
+import jest.utilitaires.SauvegardeAutomatique;
 
 import java.util.*;
 
@@ -12,6 +14,9 @@ import java.util.*;
  */
 public class Main {
     private static Scanner scanner = new Scanner(System.in);
+    /** Sauvegarde écrite automatiquement après chaque tour. */
+    private static final String SAUVEGARDE_AUTOMATIQUE = "sauvegarde_auto";
+    private static boolean sauvegardeAutomatiqueUtilisee = false;
 
     public static void main(String[] args) {
         afficherBanniere();
@@ -28,6 +33,9 @@ public class Main {
             }
         }
 
+        if (sauvegardeAutomatiqueUtilisee) {
+            SauvegardeAutomatique.parDefaut().close();
+        }
         System.out.println("\nMerci d'avoir joué à Jest !");
         scanner.close();
     }
@@ -79,6 +87,10 @@ public class Main {
      * @param partie Partie à jouer
      */
     private static void jouerPartie(Partie partie) {
+        if (demanderSauvegardeAutomatique()) {
+            partie.activerSauvegardeAutomatique(SAUVEGARDE_AUTOMATIQUE);
+            sauvegardeAutomatiqueUtilisee = true;
+        }
         while (!partie.estTerminee()) {
             // Menu d'options avant chaque tour
             System.out.println("\n--- Options ---");
@@ -119,6 +131,7 @@ public class Main {
         Variante variante = choisirVariante();
 
         Partie partie = new Partie();
+        partie.ajouterEcouteur(new EcouteurConsole());
         partie.initialiser(joueurs, extension, variante);
 
         System.out.println("\nPartie initialisée avec succès !\n");
@@ -154,6 +167,7 @@ public class Main {
         try {
             String nomFichier = sauvegardes.get(choix - 1);
             Partie partie = Partie.charger(nomFichier);
+            partie.ajouterEcouteur(new EcouteurConsole());
             System.out.println("\nPartie chargée avec succès !");
             System.out.println("Reprise au tour " + partie.getTourActuel() + "\n");
             return partie;
@@ -234,9 +248,11 @@ public class Main {
             System.out.println("    2. IA Aléatoire");
             System.out.println("    3. IA Gloutonne");
             System.out.println("    4. IA Défensive");
-            System.out.print("  Choix (1-4) : ");
+            System.out.println("    5. IA MCTS");
+            System.out.println("    6. IA Fin de partie exacte");
+            System.out.print("  Choix (1-6) : ");
 
-            int choix = lireChoix(1, 4);
+            int choix = lireChoix(1, 6);
 
             Joueur joueur;
             switch (choix) {
@@ -252,6 +268,12 @@ public class Main {
                 case 4:
                     joueur = new JoueurVirtuel(nom, new StrategieDefensive());
                     break;
+                case 5:
+                    joueur = new JoueurVirtuel(nom, new StrategieMCTS());
+                    break;
+                case 6:
+                    joueur = new JoueurVirtuel(nom, new StrategieOptimaleFinDePartie());
+                    break;
                 default:
                     joueur = new JoueurPhysique(nom);
             }
@@ -307,6 +329,17 @@ public class Main {
         }
     }
 
+    /**
+     * Demande si la partie doit être sauvegardée automatiquement après chaque tour.
+     * 
+     * @return true pour activer la sauvegarde automatique
+     */
+    private static boolean demanderSauvegardeAutomatique() {
+        System.out.print("Sauvegarde automatique après chaque tour dans " + SAUVEGARDE_AUTOMATIQUE + " ? (o/N) : ");
+        String reponse = scanner.nextLine().trim().toLowerCase();
+        return reponse.equals("o") || reponse.equals("oui");
+    }
+
     /**
      * Demande si le joueur veut rejouer.
      * 
@@ -6,17 +6,29 @@ import jest.modele.joueurs.Jest;
 /**
  * Représente un As, carte spéciale avec valeur variable.
  * Règle : L'As vaut 5 s'il est la seule carte de sa couleur dans le Jest, sinon il vaut 1.
+ * L'As est une carte normale de valeur faciale 1 dont seule la valeur effective diffère.
  */
-public class As extends Carte {
+public class As extends CarteNormale {
+    private static final long serialVersionUID = 4353126876794802282L;
     
     /**
      * Constructeur d'As.
+     * Réservé aux instances uniques : utiliser {@link Carte#standard(Couleur, int)}.
      * @param couleur Couleur de l'As
      */
-    public As(Couleur couleur) {
+    As(Couleur couleur) {
         super(couleur, 1); // Valeur faciale = 1
     }
     
+    /**
+     * Identifie cette carte comme un As.
+     * @return true
+     */
+    @Override
+    public boolean estAs() {
+        return true;
+    }
+    
     /**
      * Calcule la valeur effective de l'As selon le contexte.
      * @param jest Jest contenant cet As
@@ -36,17 +48,11 @@ public class As extends Carte {
      * Accepte un visiteur pour le calcul de score.
      * @param visiteur Visiteur de score
      * @param contexte Jest contenant cet As
+     * @return Points apportés par l'As
      */
     @Override
-    public void accepter(VisiteurScore visiteur, Jest contexte) {
-        // L'As est traité comme une CarteNormale par les visiteurs
-        // mais avec sa valeur effective calculée dynamiquement
-        visiteur.visiterCarteNormale(new CarteNormale(this.couleur, this.valeurFaciale) {
-            @Override
-            public int getValeurEffective(Jest j) {
-                return As.this.getValeurEffective(j);
-            }
-        }, contexte);
+    public int accepter(VisiteurScore visiteur, Jest contexte) {
+        return visiteur.visiterAs(this, contexte);
     }
     
     @Override
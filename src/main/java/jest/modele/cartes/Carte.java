@@ -3,29 +3,86 @@ package jest.modele.cartes;
 import jest.modele.score.VisiteurScore;
 
 import java.io.Serializable;
+import java.util.List;
 
 import jest.modele.joueurs.Jest;
 
 /**
  * Classe abstraite représentant une carte générique du jeu Jest.
- * Une carte possède une couleur, une valeur faciale et un état de visibilité.
+ * Une carte possède une couleur et une valeur faciale ; elle est immuable.
+ * <p>
+ * Chaque carte existe en un seul exemplaire, partagé par toutes les parties, sauvegardes et
+ * simulations ({@link #depuisIndex(int)}, {@link #standard(Couleur, int)}) : deux cartes se
+ * comparent par identité ou par index. Le fait qu'une carte soit face visible dépend de
+ * l'endroit où elle se trouve et est donc tenu par l'{@code Offre} et le {@link Jest}.
  */
 public abstract class Carte implements Serializable {
     private static final long serialVersionUID = 1L;
-    protected Couleur couleur;
-    protected int valeurFaciale;
-    protected boolean estVisible;
+
+    /** Nombre d'identités de cartes distinctes (16 standard + Joker + 4 magiques). */
+    public static final int NB_IDENTITES = 21;
+    /** Index du Joker (les 16 cartes standard occupent les index 0 à 15). */
+    public static final int INDEX_JOKER = 16;
+    /** Index de la carte magique Multiplicateur. */
+    public static final int INDEX_MULTIPLICATEUR = 17;
+    /** Index de la carte magique Bouclier. */
+    public static final int INDEX_BOUCLIER = 18;
+    /** Index de la carte magique Chance. */
+    public static final int INDEX_CHANCE = 19;
+    /** Index de la carte magique Malchance. */
+    public static final int INDEX_MALCHANCE = 20;
+
+    protected final Couleur couleur;
+    protected final int valeurFaciale;
 
     /**
      * Constructeur de Carte.
+     * Les cartes du jeu sont créées une seule fois : utiliser {@link #depuisIndex(int)}.
      * 
      * @param couleur       Couleur de la carte
      * @param valeurFaciale Valeur imprimée sur la carte (1-5, 0 pour Joker)
      */
-    public Carte(Couleur couleur, int valeurFaciale) {
+    protected Carte(Couleur couleur, int valeurFaciale) {
         this.couleur = couleur;
         this.valeurFaciale = valeurFaciale;
-        this.estVisible = false;
+    }
+
+    /**
+     * Retourne l'unique instance d'une carte standard ou du Joker.
+     * 
+     * @param index Index de la carte, de 0 à {@link #INDEX_JOKER}
+     * @return Carte partagée
+     * @throws IllegalArgumentException Si l'index désigne une carte d'extension ou n'existe pas
+     */
+    public static Carte depuisIndex(int index) {
+        if (index < 0 || index > INDEX_JOKER) {
+            throw new IllegalArgumentException("Pas de carte de base d'index " + index);
+        }
+        return Canoniques.CARTES[index];
+    }
+
+    /**
+     * Retourne l'unique instance d'une carte standard.
+     * 
+     * @param couleur Couleur standard (hors SPECIALE)
+     * @param valeur  Valeur faciale (1 pour l'As, jusqu'à 4)
+     * @return Carte partagée (un {@link As} pour la valeur 1)
+     * @throws IllegalArgumentException Si la couleur ou la valeur est invalide
+     */
+    public static CarteNormale standard(Couleur couleur, int valeur) {
+        if (couleur == Couleur.SPECIALE || valeur < 1 || valeur > 4) {
+            throw new IllegalArgumentException("Carte standard invalide : " + valeur + " " + couleur);
+        }
+        return (CarteNormale) Canoniques.CARTES[couleur.ordinal() * 4 + valeur - 1];
+    }
+
+    /**
+     * Retourne les 16 cartes standard et le Joker, dans l'ordre des index.
+     * 
+     * @return Liste non modifiable des cartes de base
+     */
+    public static List<Carte> cartesDeBase() {
+        return Canoniques.LISTE;
     }
 
     /**
@@ -55,6 +112,17 @@ public abstract class Carte implements Serializable {
      */
     public abstract int getValeurEffective(Jest jest);
 
+    /**
+     * Retourne l'identité de la carte, entre 0 et {@link #NB_IDENTITES} - 1.
+     * Cartes standard : 4 × rang de la couleur + valeur - 1 (PIQUE 0-3, TREFLE 4-7, CARREAU 8-11, COEUR 12-15).
+     * Redéfini par le Joker et les cartes magiques.
+     * 
+     * @return Index de la carte
+     */
+    public int getIndex() {
+        return couleur.ordinal() * 4 + valeurFaciale - 1;
+    }
+
     /**
      * Vérifie si la carte est un As.
      * 
@@ -77,29 +145,6 @@ public abstract class Carte implements Serializable {
         return false; // Redéfini dans ExtensionMagique
     }
 
-    /**
-     * Vérifie si la carte est visible.
-     * 
-     * @return true si face visible
-     */
-    public boolean estVisible() {
-        return estVisible;
-    }
-
-    /**
-     * Révèle la carte (passe en face visible).
-     */
-    public void reveler() {
-        this.estVisible = true;
-    }
-
-    /**
-     * Cache la carte (passe en face cachée).
-     */
-    public void cacher() {
-        this.estVisible = false;
-    }
-
     /**
      * Compare la force de cette carte avec une autre.
      * Comparaison basée sur valeur faciale puis couleur.
@@ -121,8 +166,10 @@ public abstract class Carte implements Serializable {
      * Accepte un visiteur pour le pattern Visitor.
      * 
      * @param visiteur Visiteur de score
+     * @param contexte Jest contenant la carte
+     * @return Points apportés par la carte selon le visiteur
      */
-    public abstract void accepter(VisiteurScore visiteur, Jest contexte);
+    public abstract int accepter(VisiteurScore visiteur, Jest contexte);
 
     @Override
     public String toString() {
@@ -150,4 +197,24 @@ public abstract class Carte implements Serializable {
         }
         return valeur + couleur.getSymbole();
     }
+
+    /**
+     * Instances uniques des cartes de base, créées au premier usage.
+     */
+    private static final class Canoniques {
+        static final Carte[] CARTES = creer();
+        static final List<Carte> LISTE = List.of(CARTES);
+
+        private static Carte[] creer() {
+            Carte[] cartes = new Carte[INDEX_JOKER + 1];
+            Couleur[] couleurs = Couleur.values();
+            for (int index = 0; index < INDEX_JOKER; index++) {
+                Couleur couleur = couleurs[index / 4];
+                int valeur = index % 4 + 1;
+                cartes[index] = valeur == 1 ? new As(couleur) : new CarteNormale(couleur, valeur);
+            }
+            cartes[INDEX_JOKER] = new Joker();
+            return cartes;
+        }
+    }
 }
\ No newline at end of file
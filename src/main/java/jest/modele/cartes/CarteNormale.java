@@ -5,32 +5,24 @@ import jest.modele.joueurs.Jest;
 
 /**
  * Représente une carte normale du jeu ( AS(1), 2, 3 ou 4 d'une couleur).
- * Note : Les As sont gérés par la classe As séparée.
+ * Note : Les As sont gérés par la sous-classe As (valeur effective contextuelle).
  */
 public class CarteNormale extends Carte {
+    private static final long serialVersionUID = 1159820224172215748L;
     
     /**
      * Constructeur de CarteNormale.
+     * Réservé aux instances uniques : utiliser {@link Carte#standard(Couleur, int)}.
      * @param couleur Couleur de la carte
      * @param valeurFaciale Valeur (2, 3 ou 4)
      */
-    public CarteNormale(Couleur couleur, int valeurFaciale) {
+    CarteNormale(Couleur couleur, int valeurFaciale) {
         super(couleur, valeurFaciale);
         if (valeurFaciale < 1 || valeurFaciale > 4) {
             throw new IllegalArgumentException("Valeur faciale invalide pour CarteNormale : " + valeurFaciale);
         }
     }
     
-    /**
-     * Constructeur protégé pour usage interne (notamment dans As.accepter()).
-     * @param couleur Couleur de la carte
-     * @param valeurFaciale Valeur
-     * @param skipValidation true pour ignorer la validation
-     */
-    protected CarteNormale(Couleur couleur, int valeurFaciale, boolean skipValidation) {
-        super(couleur, valeurFaciale);
-    }
-    
     /**
      * Calcule la valeur effective de la carte.
      * Pour les cartes normales (2-4), la valeur est toujours la valeur faciale (as gérée séparément).
@@ -46,9 +38,18 @@ public class CarteNormale extends Carte {
      * Accepte un visiteur pour le calcul de score.
      * @param visiteur Visiteur de score
      * @param contexte Jest contenant cette carte
+     * @return Points apportés par la carte
      */
     @Override
-    public void accepter(VisiteurScore visiteur, Jest contexte) {
-        visiteur.visiterCarteNormale(this, contexte);
+    public int accepter(VisiteurScore visiteur, Jest contexte) {
+        return visiteur.visiterCarteNormale(this, contexte);
+    }
+
+    /**
+     * Une carte relue d'une sauvegarde est remplacée par son instance unique (As compris).
+     * @return Carte partagée de même index
+     */
+    protected Object readResolve() {
+        return depuisIndex(getIndex());
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package jest.modele.cartes;
 
+import jest.modele.joueurs.JestCompact;
 import jest.modele.joueurs.Joueur;
 import java.util.List;
 
@@ -75,6 +76,131 @@ public enum ConditionTrophee {
         }
     }
     
+    /**
+     * Évalue la condition sur des Jests compacts, sans allocation.
+     * Mêmes règles et bris d'égalité que {@link #evaluer(List)}.
+     * @param jests Jest compact de chaque joueur
+     * @param scores Score de chaque joueur (utilisé par les conditions de meilleur Jest)
+     * @return Index du joueur gagnant ou -1 si aucun
+     */
+    public int evaluer(JestCompact[] jests, int[] scores) {
+        switch (this) {
+            case MAJORITY_AS:
+                return evaluerMajorite(jests, 1);
+            case MAJORITY_DEUX:
+                return evaluerMajorite(jests, 2);
+            case MAJORITY_TROIS:
+                return evaluerMajorite(jests, 3);
+            case MAJORITY_QUATRE:
+                return evaluerMajorite(jests, 4);
+            case HIGHEST_PIQUE:
+                return evaluerCartePlusHaute(jests, Couleur.PIQUE);
+            case HIGHEST_TREFLE:
+                return evaluerCartePlusHaute(jests, Couleur.TREFLE);
+            case HIGHEST_CARREAU:
+                return evaluerCartePlusHaute(jests, Couleur.CARREAU);
+            case HIGHEST_COEUR:
+                return evaluerCartePlusHaute(jests, Couleur.COEUR);
+            case LOWEST_PIQUE:
+                return evaluerCartePlusBasse(jests, Couleur.PIQUE);
+            case LOWEST_TREFLE:
+                return evaluerCartePlusBasse(jests, Couleur.TREFLE);
+            case LOWEST_CARREAU:
+                return evaluerCartePlusBasse(jests, Couleur.CARREAU);
+            case LOWEST_COEUR:
+                return evaluerCartePlusBasse(jests, Couleur.COEUR);
+            case HAS_JOKER:
+                return evaluerPossessionJoker(jests);
+            case BEST_JEST:
+                return evaluerMeilleurScore(jests, scores, false);
+            case BEST_JEST_NO_JOKER:
+                return evaluerMeilleurScore(jests, scores, true);
+            default:
+                return -1;
+        }
+    }
+    
+    private int evaluerMajorite(JestCompact[] jests, int valeur) {
+        int gagnant = -1;
+        int maxCount = 0;
+        
+        for (int i = 0; i < jests.length; i++) {
+            int count = jests[i].compterCartesValeur(valeur);
+            if (count > maxCount) {
+                maxCount = count;
+                gagnant = i;
+            } else if (count == maxCount && count > 0
+                    && jests[i].rangPlusHauteValeur(valeur) > jests[gagnant].rangPlusHauteValeur(valeur)) {
+                // Bris d'égalité : carte la plus forte
+                gagnant = i;
+            }
+        }
+        return gagnant;
+    }
+    
+    private int evaluerCartePlusHaute(JestCompact[] jests, Couleur couleur) {
+        int gagnant = -1;
+        int valeurMax = -1;
+        
+        for (int i = 0; i < jests.length; i++) {
+            int bits = jests[i].masqueCouleur(couleur);
+            if (bits != 0) {
+                int valeur = 31 - Integer.numberOfLeadingZeros(bits);
+                if (valeur > valeurMax) {
+                    valeurMax = valeur;
+                    gagnant = i;
+                }
+            }
+        }
+        return gagnant;
+    }
+    
+    private int evaluerCartePlusBasse(JestCompact[] jests, Couleur couleur) {
+        int gagnant = -1;
+        int valeurMin = Integer.MAX_VALUE;
+        
+        for (int i = 0; i < jests.length; i++) {
+            int bits = jests[i].masqueCouleur(couleur);
+            if (bits != 0) {
+                int valeur = Integer.numberOfTrailingZeros(bits);
+                if (valeur < valeurMin) {
+                    valeurMin = valeur;
+                    gagnant = i;
+                }
+            }
+        }
+        return gagnant;
+    }
+    
+    private int evaluerPossessionJoker(JestCompact[] jests) {
+        for (int i = 0; i < jests.length; i++) {
+            if (jests[i].contientJoker()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private int evaluerMeilleurScore(JestCompact[] jests, int[] scores, boolean sansJoker) {
+        int gagnant = -1;
+        int maxScore = Integer.MIN_VALUE;
+        
+        for (int i = 0; i < jests.length; i++) {
+            if (sansJoker && jests[i].contientJoker()) {
+                continue;
+            }
+            if (scores[i] > maxScore) {
+                maxScore = scores[i];
+                gagnant = i;
+            } else if (scores[i] == maxScore
+                    && jests[i].rangPlusHauteGlobale() > jests[gagnant].rangPlusHauteGlobale()) {
+                // Bris d'égalité : carte la plus haute
+                gagnant = i;
+            }
+        }
+        return gagnant;
+    }
+    
     private Joueur evaluerMajorite(List<Joueur> joueurs, int valeur) {
         Joueur gagnant = null;
         int maxCount = 0;
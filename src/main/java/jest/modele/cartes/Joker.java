@@ -9,12 +9,14 @@ import jest.modele.joueurs.Jest;
  * Son effet dépend des Cœurs présents dans le Jest.
  */
 public class Joker extends Carte {
+    private static final long serialVersionUID = -4268216865836607638L;
     
     /**
      * Constructeur de Joker.
      * Le Joker n'a pas de couleur réelle (on utilise arbitrairement COEUR).
+     * Réservé à l'instance unique : utiliser {@link Carte#depuisIndex(int)}.
      */
-    public Joker() {
+    Joker() {
         super(Couleur.SPECIALE, 0); // Couleur arbitraire
     }
     
@@ -27,6 +29,11 @@ public class Joker extends Carte {
         return true;
     }
     
+    @Override
+    public int getIndex() {
+        return INDEX_JOKER;
+    }
+    
     /**
      * Calcule la valeur effective du Joker.
      * Règles :
@@ -50,10 +57,19 @@ public class Joker extends Carte {
      * Accepte un visiteur pour le calcul de score.
      * @param visiteur Visiteur de score
      * @param contexte Jest contenant le Joker
+     * @return Points apportés par le Joker
      */
     @Override
-    public void accepter(VisiteurScore visiteur, Jest contexte) {
-        visiteur.visiterJoker(this, contexte);
+    public int accepter(VisiteurScore visiteur, Jest contexte) {
+        return visiteur.visiterJoker(this, contexte);
+    }
+
+    /**
+     * Un Joker relu d'une sauvegarde est remplacé par l'instance unique.
+     * @return Joker partagé
+     */
+    private Object readResolve() {
+        return depuisIndex(INDEX_JOKER);
     }
     
     @Override
@@ -2,27 +2,41 @@ package jest.modele.cartes;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 import jest.modele.extensions.*;
 
 /**
  * Représente le paquet complet de cartes du jeu Jest.
  * Contient les 16 cartes standard + Joker + éventuellement des extensions.
+ * Les cartes sont rangées dans un tableau de capacité fixe et distribuées par un curseur :
+ * une distribution avance le curseur et rend une vue sur les cartes, sans copie ni décalage.
  */
 public class Paquet implements Serializable{
-    private static final long serialVersionUID = 1L;
-    private List<Carte> cartes;
-    private Random random;
+    private static final long serialVersionUID = 2L;
+    private Carte[] cartes;
+    private int taille;
+    private int curseur; // Prochaine carte distribuée
+    private transient RandomGenerator random; // non sérialisable, recréé si besoin
     
     /**
      * Constructeur de Paquet.
-     * Crée un paquet vide.
+     * Crée un paquet vide ; le générateur n'est créé qu'au premier mélange.
      */
     public Paquet() {
-        this.cartes = new ArrayList<>();
-        this.random = new Random();
+        this(null);
+    }
+
+    /**
+     * Constructeur de Paquet avec un générateur imposé (partie reproductible).
+     * @param random Générateur utilisé pour mélanger
+     */
+    public Paquet(RandomGenerator random) {
+        this.cartes = new Carte[Carte.NB_IDENTITES];
+        this.random = random;
     }
     
     /**
@@ -30,52 +44,45 @@ public class Paquet implements Serializable{
      * @param extension Extension choisie (null si aucune)
      */
     public void initialiser(Extension extension) {
-        cartes.clear();
+        taille = 0;
+        curseur = 0;
         
-        // Ajouter les 16 cartes standard (4 couleurs × 4 valeurs)
-        for (Couleur couleur : Couleur.values()) {
-            if (couleur == Couleur.SPECIALE) {
-                continue; // cartes spéciales créées plus tard
-            }
-            // Ajouter l'As (classe spéciale)
-            cartes.add(new As(couleur));
-            
-            // Ajouter les cartes 2, 3, 4
-            for (int valeur = 2; valeur <= 4; valeur++) {
-                cartes.add(new CarteNormale(couleur, valeur));
-            }
-        }
-        
-        // Ajouter le Joker
-        cartes.add(new Joker());
+        // 16 cartes standard (4 couleurs × 4 valeurs) et Joker : instances partagées, aucune création
+        ajouterCartes(Carte.cartesDeBase());
         
         if (extension != null) {
-            cartes.addAll(extension.getCartesSupplementaires());
+            ajouterCartes(extension.getCartesSupplementaires());
         }
     }
     
     /**
-     * Mélange le paquet.
+     * Mélange les cartes non distribuées, sur place (Fisher-Yates).
+     * Même suite de tirages que {@link Collections#shuffle(List, RandomGenerator)}.
      */
     public void melanger() {
-        Collections.shuffle(cartes, random);
+        if (random == null) {
+            random = new SplittableRandom(); // paquet désérialisé ou sans générateur imposé
+        }
+        for (int i = taille - curseur; i > 1; i--) {
+            int j = curseur + random.nextInt(i);
+            Carte carte = cartes[curseur + i - 1];
+            cartes[curseur + i - 1] = cartes[j];
+            cartes[j] = carte;
+        }
     }
     
     /**
-     * Distribue un nombre de cartes depuis le paquet.
+     * Distribue un nombre de cartes depuis le paquet, en temps constant.
      * @param nombre Nombre de cartes à distribuer
-     * @return Liste des cartes distribuées
+     * @return Vue non modifiable des cartes distribuées (inchangée jusqu'à la prochaine initialisation)
      * @throws IllegalStateException Si pas assez de cartes
      */
     public List<Carte> distribuer(int nombre) {
-        if (nombre > cartes.size()) {
+        if (nombre > getTaille()) {
             throw new IllegalStateException("Pas assez de cartes dans le paquet");
         }
-        
-        List<Carte> distribuees = new ArrayList<>();
-        for (int i = 0; i < nombre; i++) {
-            distribuees.add(cartes.remove(0));
-        }
+        List<Carte> distribuees = tranche(curseur, curseur + nombre);
+        curseur += nombre;
         return distribuees;
     }
     
@@ -84,7 +91,7 @@ public class Paquet implements Serializable{
      * @return true si vide
      */
     public boolean estVide() {
-        return cartes.isEmpty();
+        return getTaille() == 0;
     }
     
     /**
@@ -92,7 +99,7 @@ public class Paquet implements Serializable{
      * @return Taille du paquet
      */
     public int getTaille() {
-        return cartes.size();
+        return taille - curseur;
     }
     
     /**
@@ -100,14 +107,32 @@ public class Paquet implements Serializable{
      * @return Liste des cartes
      */
     public List<Carte> getCartes() {
-        return new ArrayList<>(cartes);
+        return new ArrayList<>(getCartesRestantes());
+    }
+
+    /**
+     * Retourne les cartes restantes sans les copier (par exemple pour former la pioche).
+     * @return Vue non modifiable des cartes non distribuées
+     */
+    public List<Carte> getCartesRestantes() {
+        return tranche(curseur, taille);
     }
     
     /**
      * Ajoute des cartes au paquet.
      * @param nouvelles Cartes à ajouter
+     * @throws IllegalStateException Si le paquet contiendrait plus que toutes les cartes du jeu
      */
     public void ajouterCartes(List<Carte> nouvelles) {
-        cartes.addAll(nouvelles);
+        if (taille + nouvelles.size() > cartes.length) {
+            throw new IllegalStateException("Paquet plein : " + (taille + nouvelles.size()) + " cartes");
+        }
+        for (int i = 0; i < nouvelles.size(); i++) {
+            cartes[taille++] = nouvelles.get(i);
+        }
+    }
+
+    private List<Carte> tranche(int debut, int fin) {
+        return Collections.unmodifiableList(Arrays.asList(cartes).subList(debut, fin));
     }
 }
@@ -11,6 +11,7 @@ import java.util.List;
  * Le joueur qui remporte le trophée l'ajoute à son Jest (effet sur le score).
  */
 public class Trophee extends Carte{
+    private static final long serialVersionUID = -5935272988139804024L;
     private ConditionTrophee condition;
     private Carte carteAssociee;
 
@@ -131,15 +132,26 @@ public class Trophee extends Carte{
         return carteAssociee.getValeurEffective(jest);
     }
 
+    /**
+     * Un trophée a l'identité de sa carte associée.
+     * 
+     * @return Index de la carte associée
+     */
+    @Override
+    public int getIndex() {
+        return carteAssociee.getIndex();
+    }
+
     /**
      * Les trophées sont visités pour le calcul final du score
      * 
      * @param visiteur Visiteur
      * @param contexte Contexte
+     * @return Points apportés par la carte associée
      */
     @Override
-    public void accepter(VisiteurScore visiteur, Jest contexte) {
-        carteAssociee.accepter(visiteur, contexte);
+    public int accepter(VisiteurScore visiteur, Jest contexte) {
+        return carteAssociee.accepter(visiteur, contexte);
     }
 
     @Override
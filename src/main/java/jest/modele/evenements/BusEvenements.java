@@ -0,0 +1,56 @@
+package jest.modele.evenements;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bus d'événements d'une partie.
+ * Le moteur teste {@link #estActif()} avant de construire un événement :
+ * sans écouteur abonné (simulations), aucun événement n'est créé.
+ */
+public class BusEvenements {
+    private final List<EcouteurJeu> ecouteurs;
+
+    /**
+     * Constructeur de BusEvenements.
+     * Crée un bus sans écouteur.
+     */
+    public BusEvenements() {
+        this.ecouteurs = new ArrayList<>();
+    }
+
+    /**
+     * Abonne un écouteur aux événements.
+     * @param ecouteur Écouteur à abonner
+     */
+    public void abonner(EcouteurJeu ecouteur) {
+        ecouteurs.add(ecouteur);
+    }
+
+    /**
+     * Désabonne un écouteur.
+     * @param ecouteur Écouteur à retirer
+     * @return true si l'écouteur était abonné
+     */
+    public boolean desabonner(EcouteurJeu ecouteur) {
+        return ecouteurs.remove(ecouteur);
+    }
+
+    /**
+     * Indique si au moins un écouteur est abonné.
+     * @return true si les événements sont consommés
+     */
+    public boolean estActif() {
+        return !ecouteurs.isEmpty();
+    }
+
+    /**
+     * Diffuse un événement à tous les écouteurs, dans l'ordre d'abonnement.
+     * @param evenement Événement à diffuser
+     */
+    public void publier(EvenementJeu evenement) {
+        for (int i = 0; i < ecouteurs.size(); i++) {
+            evenement.diffuser(ecouteurs.get(i));
+        }
+    }
+}
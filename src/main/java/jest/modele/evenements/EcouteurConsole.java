@@ -0,0 +1,171 @@
+package jest.modele.evenements;
+
+import jest.modele.cartes.Carte;
+import jest.modele.cartes.Trophee;
+import jest.modele.evenements.EvenementJeu.*;
+import jest.modele.jeu.Offre;
+import jest.modele.joueurs.Joueur;
+import jest.modele.joueurs.JoueurVirtuel;
+import jest.modele.score.DetailScore;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Écouteur affichant le déroulement de la partie dans la console.
+ * Reproduit l'affichage historique du moteur ; les lignes "(IA)" ne concernent
+ * que les joueurs virtuels (les joueurs physiques ont leurs propres invites).
+ */
+public class EcouteurConsole implements EcouteurJeu {
+    private final PrintStream out;
+
+    /**
+     * Constructeur de EcouteurConsole.
+     * Affiche sur la sortie standard.
+     */
+    public EcouteurConsole() {
+        this(System.out);
+    }
+
+    /**
+     * Constructeur de EcouteurConsole.
+     * @param out Flux d'affichage
+     */
+    public EcouteurConsole(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void surPartieInitialisee(PartieInitialisee e) {
+        out.println("\n=== PARTIE INITIALISÉE ===");
+        out.println("Joueurs : " + e.joueurs().size());
+        for (Joueur j : e.joueurs()) {
+            out.println("  - " + j.getNom());
+        }
+        if (e.extension() != null) {
+            out.println("\nExtension utilisée : " + e.extension().getNom());
+            out.println(e.extension().getDescription());
+        }
+        out.println("\nTrophées en jeu :");
+        for (Trophee t : e.trophees()) {
+            out.println("  " + t);
+        }
+        out.println("\nPioche : " + e.taillePioche() + " cartes");
+    }
+
+    @Override
+    public void surTourCommence(TourCommence e) {
+        out.println("\n═══════════════════════════════════");
+        out.println("         TOUR " + e.numero());
+        out.println("═══════════════════════════════════\n");
+    }
+
+    @Override
+    public void surCarteOffreChoisie(CarteOffreChoisie e) {
+        if (e.joueur() instanceof JoueurVirtuel) {
+            out.println(e.joueur().getNom() + " (IA) choisit une carte pour son offre.");
+        }
+    }
+
+    @Override
+    public void surOffresCreees(OffresCreees e) {
+        out.println("\n--- Offres créées ---");
+        for (Offre offre : e.offres()) {
+            out.println(offre.toString());
+        }
+    }
+
+    @Override
+    public void surPrisesCommencees(PrisesCommencees e) {
+        out.println("\n--- Phase de prises ---");
+        out.println("Premier joueur : " + e.premierJoueur().getNom());
+    }
+
+    @Override
+    public void surJoueurActif(JoueurActif e) {
+        out.println("\n>> Tour de " + e.joueur().getNom());
+    }
+
+    @Override
+    public void surOffreCibleChoisie(OffreCibleChoisie e) {
+        if (e.joueur() instanceof JoueurVirtuel) {
+            out.println(e.joueur().getNom() + " (IA) choisit l'offre de " + e.offre().getProprietaire().getNom());
+        }
+    }
+
+    @Override
+    public void surCartePrise(CartePrise e) {
+        if (e.joueur() instanceof JoueurVirtuel) {
+            out.println(e.joueur().getNom() + " (IA) prend la carte " + (e.visible() ? "visible" : "cachée"));
+        }
+        out.println(e.joueur().getNom() + " ajoute " + e.carte().toStringCourt() + " à son Jest");
+    }
+
+    @Override
+    public void surPartieTerminee(PartieTerminee e) {
+        out.println("\n");
+        out.println("═══════════════════════════════════");
+        out.println("         FIN DE PARTIE");
+        out.println("═══════════════════════════════════");
+    }
+
+    @Override
+    public void surDernieresCartesRecuperees(DernieresCartesRecuperees e) {
+        out.println("\nRécupération des dernières cartes...");
+        for (Map.Entry<Joueur, Carte> entree : e.cartes().entrySet()) {
+            out.println(entree.getKey().getNom() + " récupère " + entree.getValue().toStringCourt());
+        }
+    }
+
+    @Override
+    public void surJestsReveles(JestsReveles e) {
+        out.println("\n--- Révélation des Jests ---");
+        for (Joueur joueur : e.joueurs()) {
+            out.println(joueur.getNom() + " : " + joueur.getJest().afficherDetails());
+        }
+    }
+
+    @Override
+    public void surScoresCalcules(ScoresCalcules e) {
+        out.println(e.avecTrophees() ? "\n--- Calcul des scores finaux avec trophées ---" : "\n--- Calcul des scores ---");
+        for (Map.Entry<Joueur, DetailScore> entree : e.details().entrySet()) {
+            out.println(entree.getKey().getNom() + " : " + entree.getValue().getTotal() + " points");
+            out.println(entree.getValue().toString());
+        }
+    }
+
+    @Override
+    public void surTropheesAttribues(TropheesAttribues e) {
+        out.println("\n--- Attribution des trophées ---");
+        for (Map.Entry<Trophee, Joueur> entree : e.gagnants().entrySet()) {
+            Trophee trophee = entree.getKey();
+            Joueur gagnant = entree.getValue();
+            if (gagnant != null) {
+                out.println("Trophée " + trophee.getCondition().getDescription() + "(" + trophee.toStringCourt() + ") "
+                        + " --> " + gagnant.getNom());
+            } else {
+                out.println("Trophée " + trophee.getCondition().getDescription() + " --> Aucun gagnant");
+            }
+        }
+    }
+
+    @Override
+    public void surScoreFinal(ScoreFinal e) {
+        out.println("\n");
+        out.println("═══════════════════════════════════");
+        out.println("       RÉSULTATS FINAUX");
+        out.println("═══════════════════════════════════");
+
+        List<Joueur> classement = e.classement();
+        for (int i = 0; i < classement.size(); i++) {
+            Joueur j = classement.get(i);
+            String rang = (i + 1) + ". ";
+            String trophees = j.getJest().getTrophees().isEmpty() ? "" : " Trophée*" + j.getJest().getTrophees().size();
+            out.println(rang + j.getNom() + " : " + j.getScore() + " points" + trophees);
+        }
+
+        out.println("\n** VAINQUEUR : " + e.gagnant().getNom() + " **");
+        out.println("═══════════════════════════════════\n");
+    }
+}
@@ -0,0 +1,53 @@
+package jest.modele.evenements;
+
+import jest.modele.evenements.EvenementJeu.*;
+
+/**
+ * Écouteur des événements de la partie.
+ * Toutes les méthodes ont une implémentation vide : un écouteur ne redéfinit
+ * que les événements qui l'intéressent.
+ */
+public interface EcouteurJeu {
+
+    default void surPartieInitialisee(PartieInitialisee evenement) {
+    }
+
+    default void surTourCommence(TourCommence evenement) {
+    }
+
+    default void surCarteOffreChoisie(CarteOffreChoisie evenement) {
+    }
+
+    default void surOffresCreees(OffresCreees evenement) {
+    }
+
+    default void surPrisesCommencees(PrisesCommencees evenement) {
+    }
+
+    default void surJoueurActif(JoueurActif evenement) {
+    }
+
+    default void surOffreCibleChoisie(OffreCibleChoisie evenement) {
+    }
+
+    default void surCartePrise(CartePrise evenement) {
+    }
+
+    default void surPartieTerminee(PartieTerminee evenement) {
+    }
+
+    default void surDernieresCartesRecuperees(DernieresCartesRecuperees evenement) {
+    }
+
+    default void surJestsReveles(JestsReveles evenement) {
+    }
+
+    default void surScoresCalcules(ScoresCalcules evenement) {
+    }
+
+    default void surTropheesAttribues(TropheesAttribues evenement) {
+    }
+
+    default void surScoreFinal(ScoreFinal evenement) {
+    }
+}
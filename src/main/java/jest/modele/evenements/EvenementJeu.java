@@ -0,0 +1,191 @@
+package jest.modele.evenements;
+
+import jest.modele.cartes.Carte;
+import jest.modele.cartes.Trophee;
+import jest.modele.extensions.Extension;
+import jest.modele.jeu.Offre;
+import jest.modele.joueurs.Joueur;
+import jest.modele.score.DetailScore;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Événement typé émis par le moteur de jeu au fil de la partie.
+ * Les événements sont publiés sur le {@link BusEvenements} de la partie et diffusés
+ * aux écouteurs par double dispatch (même principe que Carte.accepter / VisiteurScore).
+ * Ils ne sont construits que si au moins un écouteur est abonné.
+ */
+public sealed interface EvenementJeu {
+
+    /**
+     * Transmet l'événement à la méthode correspondante de l'écouteur.
+     * @param ecouteur Écouteur destinataire
+     */
+    void diffuser(EcouteurJeu ecouteur);
+
+    /**
+     * La partie est initialisée : joueurs, extension, trophées placés et pioche prête.
+     * @param joueurs Joueurs de la partie
+     * @param extension Extension utilisée (null si aucune)
+     * @param trophees Trophées en jeu
+     * @param taillePioche Nombre de cartes dans la pioche
+     */
+    record PartieInitialisee(List<Joueur> joueurs, Extension extension, List<Trophee> trophees,
+                             int taillePioche) implements EvenementJeu {
+        @Override
+        public void diffuser(EcouteurJeu ecouteur) {
+            ecouteur.surPartieInitialisee(this);
+        }
+    }
+
+    /**
+     * Un nouveau tour commence.
+     * @param numero Numéro du tour
+     */
+    record TourCommence(int numero) implements EvenementJeu {
+        @Override
+        public void diffuser(EcouteurJeu ecouteur) {
+            ecouteur.surTourCommence(this);
+        }
+    }
+
+    /**
+     * Un joueur a choisi la carte qu'il place face cachée dans son offre.
+     * @param joueur Joueur
+     * @param carteCachee Carte face cachée
+     */
+    record CarteOffreChoisie(Joueur joueur, Carte carteCachee) implements EvenementJeu {
+        @Override
+        public void diffuser(EcouteurJeu ecouteur) {
+            ecouteur.surCarteOffreChoisie(this);
+        }
+    }
+
+    /**
+     * Les offres de tous les joueurs sont créées.
+     * @param numeroTour Numéro du tour
+     * @param offres Offres du tour
+     */
+    record OffresCreees(int numeroTour, List<Offre> offres) implements EvenementJeu {
+        @Override
+        public void diffuser(EcouteurJeu ecouteur) {
+            ecouteur.surOffresCreees(this);
+        }
+    }
+
+    /**
+     * La phase de prises commence.
+     * @param premierJoueur Joueur dont l'offre a la carte visible la plus forte
+     */
+    record PrisesCommencees(Joueur premierJoueur) implements EvenementJeu {
+        @Override
+        public void diffuser(EcouteurJeu ecouteur) {
+            ecouteur.surPrisesCommencees(this);
+        }
+    }
+
+    /**
+     * C'est au tour d'un joueur de prendre une carte.
+     * @param joueur Joueur actif
+     */
+    record JoueurActif(Joueur joueur) implements EvenementJeu {
+        @Override
+        public void diffuser(EcouteurJeu ecouteur) {
+            ecouteur.surJoueurActif(this);
+        }
+    }
+
+    /**
+     * Un joueur a choisi l'offre dans laquelle il prend une carte.
+     * @param joueur Joueur actif
+     * @param offre Offre choisie
+     */
+    record OffreCibleChoisie(Joueur joueur, Offre offre) implements EvenementJeu {
+        @Override
+        public void diffuser(EcouteurJeu ecouteur) {
+            ecouteur.surOffreCibleChoisie(this);
+        }
+    }
+
+    /**
+     * Un joueur a pris une carte et l'a ajoutée à son Jest.
+     * @param joueur Joueur actif
+     * @param carte Carte prise
+     * @param proprietaire Propriétaire de l'offre
+     * @param visible true si la carte était visible
+     */
+    record CartePrise(Joueur joueur, Carte carte, Joueur proprietaire, boolean visible) implements EvenementJeu {
+        @Override
+        public void diffuser(EcouteurJeu ecouteur) {
+            ecouteur.surCartePrise(this);
+        }
+    }
+
+    /**
+     * La partie est terminée, le décompte commence.
+     */
+    record PartieTerminee() implements EvenementJeu {
+        @Override
+        public void diffuser(EcouteurJeu ecouteur) {
+            ecouteur.surPartieTerminee(this);
+        }
+    }
+
+    /**
+     * Chaque joueur récupère la carte restée dans son offre au dernier tour.
+     * @param cartes Carte récupérée par chaque joueur (ordre des joueurs)
+     */
+    record DernieresCartesRecuperees(Map<Joueur, Carte> cartes) implements EvenementJeu {
+        @Override
+        public void diffuser(EcouteurJeu ecouteur) {
+            ecouteur.surDernieresCartesRecuperees(this);
+        }
+    }
+
+    /**
+     * Les Jests de tous les joueurs sont révélés.
+     * @param joueurs Joueurs de la partie
+     */
+    record JestsReveles(List<Joueur> joueurs) implements EvenementJeu {
+        @Override
+        public void diffuser(EcouteurJeu ecouteur) {
+            ecouteur.surJestsReveles(this);
+        }
+    }
+
+    /**
+     * Les scores ont été calculés, avant ou après attribution des trophées.
+     * @param details Détail du score de chaque joueur (ordre des joueurs)
+     * @param avecTrophees true pour les scores finaux (trophées inclus)
+     */
+    record ScoresCalcules(Map<Joueur, DetailScore> details, boolean avecTrophees) implements EvenementJeu {
+        @Override
+        public void diffuser(EcouteurJeu ecouteur) {
+            ecouteur.surScoresCalcules(this);
+        }
+    }
+
+    /**
+     * Les trophées ont été attribués.
+     * @param gagnants Gagnant de chaque trophée (null si aucun), dans l'ordre des trophées
+     */
+    record TropheesAttribues(Map<Trophee, Joueur> gagnants) implements EvenementJeu {
+        @Override
+        public void diffuser(EcouteurJeu ecouteur) {
+            ecouteur.surTropheesAttribues(this);
+        }
+    }
+
+    /**
+     * Classement final de la partie.
+     * @param classement Joueurs par score décroissant
+     * @param gagnant Vainqueur (départage par carte la plus forte)
+     */
+    record ScoreFinal(List<Joueur> classement, Joueur gagnant) implements EvenementJeu {
+        @Override
+        public void diffuser(EcouteurJeu ecouteur) {
+            ecouteur.surScoreFinal(this);
+        }
+    }
+}
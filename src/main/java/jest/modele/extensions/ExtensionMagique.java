@@ -4,57 +4,114 @@ import jest.modele.cartes.*;
 import jest.modele.joueurs.Jest;
 import jest.modele.score.VisiteurScore;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
 /**
  * Extension "Cartes Magiques"
  * Ajoute 4 cartes spéciales avec effets uniques.
  * on fixe leur couleur à SPECIALE et valeur à 1 car elles n'ont pas de valeur
  * intrinsèque classique.
+ * Les cartes sont des instances uniques partagées par toutes les parties ; Chance et Malchance
+ * portent la valeur tirée pour la partie, d'où une instance par valeur possible (0 à 5).
  */
 public class ExtensionMagique extends Extension {
+   private static final long serialVersionUID = 3430627647582015500L;
+   private static final CarteMultiplicateur MULTIPLICATEUR = new CarteMultiplicateur();
+   private static final CarteBouclier BOUCLIER = new CarteBouclier();
+   private static final CarteChance[] CHANCES = new CarteChance[6];
+   private static final CarteMalchance[] MALCHANCES = new CarteMalchance[6];
+
+   static {
+      for (int valeur = 0; valeur < 6; valeur++) {
+         CHANCES[valeur] = new CarteChance(valeur);
+         MALCHANCES[valeur] = new CarteMalchance(valeur);
+      }
+   }
 
+   /**
+    * Crée l'extension en tirant les valeurs des cartes Chance et Malchance.
+    * 
+    * @param nbJoueurs Nombre de joueurs (3 ou 4)
+    */
    public ExtensionMagique(int nbJoueurs) {
+      this(nbJoueurs, ThreadLocalRandom.current());
+   }
+
+   /**
+    * Crée l'extension en tirant les valeurs des cartes Chance et Malchance avec un
+    * générateur imposé (partie reproductible).
+    * 
+    * @param nbJoueurs Nombre de joueurs (3 ou 4)
+    * @param random    Générateur des valeurs aléatoires
+    */
+   public ExtensionMagique(int nbJoueurs, RandomGenerator random) {
+      this(nbJoueurs, random.nextInt(6), -random.nextInt(6));
+   }
+
+   /**
+    * Recrée l'extension d'une partie sauvegardée, avec les valeurs tirées à l'origine
+    * pour les cartes Chance et Malchance.
+    * 
+    * @param nbJoueurs       Nombre de joueurs (3 ou 4)
+    * @param valeurChance    Valeur de la carte Chance (0 à 5)
+    * @param valeurMalchance Valeur effective de la carte Malchance (0 à -5)
+    */
+   public ExtensionMagique(int nbJoueurs, int valeurChance, int valeurMalchance) {
       super("Cartes Magiques",
             "4 cartes spéciales avec effets bonus :\nMultiplicateur --> double les Piques\nBouclier --> annule les Carreaux négatifs\nMalchance --> valeur malus aléatoire\nChance --> valeur bonus aléatoire", nbJoueurs);
+      cartesSupplementaires.add(CHANCES[valeurChance]); // 0-5
+      if (nbJoueurs == 4) {
+         cartesSupplementaires.add(MALCHANCES[-valeurMalchance]); // 0 à -5
+      }
    }
 
+   /**
+    * Ajoute les cartes sans valeur tirée ; Chance et Malchance sont ajoutées par le constructeur.
+    */
    @Override
    protected void initialiserCartes(int nbJoueurs) {
-      cartesSupplementaires.add(new CarteMultiplicateur());
-      cartesSupplementaires.add(new CarteBouclier());
-      cartesSupplementaires.add(new CarteChance());
-      if (nbJoueurs == 4) {
-         cartesSupplementaires.add(new CarteMalchance());
-      }
+      cartesSupplementaires.add(MULTIPLICATEUR);
+      cartesSupplementaires.add(BOUCLIER);
    }
 
    /**
     * Carte Multiplicateur : Double les points des Piques.
     */
-   class CarteMultiplicateur extends Carte {
-      public CarteMultiplicateur() {
+   static final class CarteMultiplicateur extends Carte {
+      private static final long serialVersionUID = -6418648411387766725L;
+
+      private CarteMultiplicateur() {
          super(Couleur.SPECIALE, 1); // Valeur spéciale
       }
 
+      /**
+       * Instance unique, y compris pour une carte relue d'une sauvegarde.
+       */
+      private Object readResolve() {
+         return MULTIPLICATEUR;
+      }
+
       @Override
       public int getValeurEffective(Jest jest) {
          // Compte les Piques et double leur valeur
-         int totalPiques = 0;
-         for (Carte c : jest.getCartes()) {
-            if (c.getCouleur() == Couleur.PIQUE) {
-               totalPiques += c.getValeurEffective(jest);
-            }
-         }
+         int totalPiques = jest.sommeValeursCouleur(Couleur.PIQUE);
          return totalPiques; // Bonus égal a la valeur des Piques
       }
 
+      @Override
+      public int getIndex() {
+         return INDEX_MULTIPLICATEUR;
+      }
+
       @Override
       public boolean estCarteMagique() {
          return true;
       }
 
       @Override
-      public void accepter(VisiteurScore visiteur, Jest contexte) {
-         visiteur.visiterCarteExtension(this, contexte);
+      public int accepter(VisiteurScore visiteur, Jest contexte) {
+         return visiteur.visiterCarteExtension(this, contexte);
       }
 
       @Override
@@ -71,32 +128,40 @@ public class ExtensionMagique extends Extension {
    /**
     * Carte Bouclier : Annule les effets négatifs des Carreaux.
     */
-   class CarteBouclier extends Carte {
+   static final class CarteBouclier extends Carte {
+      private static final long serialVersionUID = 4028479265071213024L;
 
-      public CarteBouclier() {
+      private CarteBouclier() {
          super(Couleur.SPECIALE, 1);
       }
 
+      /**
+       * Instance unique, y compris pour une carte relue d'une sauvegarde.
+       */
+      private Object readResolve() {
+         return BOUCLIER;
+      }
+
       @Override
       public int getValeurEffective(Jest jest) {
          // Annule les Carreaux : compte leur valeur en positif
-         int totalCarreaux = 0;
-         for (Carte c : jest.getCartes()) {
-            if (c.getCouleur() == Couleur.CARREAU) {
-               totalCarreaux += c.getValeurEffective(jest);
-            }
-         }
+         int totalCarreaux = jest.sommeValeursCouleur(Couleur.CARREAU);
          return totalCarreaux; // Compense les négatifs
       }
 
+      @Override
+      public int getIndex() {
+         return INDEX_BOUCLIER;
+      }
+
       @Override
       public boolean estCarteMagique() {
          return true;
       }
 
       @Override
-      public void accepter(VisiteurScore visiteur, Jest contexte) {
-         visiteur.visiterCarteExtension(this, contexte);
+      public int accepter(VisiteurScore visiteur, Jest contexte) {
+         return visiteur.visiterCarteExtension(this, contexte);
       }
 
       @Override
@@ -113,12 +178,21 @@ public class ExtensionMagique extends Extension {
    /**
     * Carte Malchance : Malus aléatoire entre 1 et 5 points
     */
-   class CarteMalchance extends Carte {
-      private int valeurAleatoire;
+   static final class CarteMalchance extends Carte {
+      private static final long serialVersionUID = -1871566949917482109L;
 
-      public CarteMalchance() {
+      private final int valeurAleatoire;
+
+      private CarteMalchance(int valeurAleatoire) {
          super(Couleur.SPECIALE, 1);
-         this.valeurAleatoire = new java.util.Random().nextInt(6); // 0-5
+         this.valeurAleatoire = valeurAleatoire;
+      }
+
+      /**
+       * Instance unique, y compris pour une carte relue d'une sauvegarde.
+       */
+      private Object readResolve() {
+         return MALCHANCES[valeurAleatoire];
       }
 
       @Override
@@ -127,14 +201,19 @@ public class ExtensionMagique extends Extension {
          return -valeurAleatoire;
       }
 
+      @Override
+      public int getIndex() {
+         return INDEX_MALCHANCE;
+      }
+
       @Override
       public boolean estCarteMagique() {
          return true;
       }
 
       @Override
-      public void accepter(VisiteurScore visiteur, Jest contexte) {
-         visiteur.visiterCarteExtension(this, contexte);
+      public int accepter(VisiteurScore visiteur, Jest contexte) {
+         return visiteur.visiterCarteExtension(this, contexte);
       }
 
       @Override
@@ -151,12 +230,21 @@ public class ExtensionMagique extends Extension {
    /**
     * Carte Chance : Valeur aléatoire entre 0 et 5.
     */
-   class CarteChance extends Carte {
-      private int valeurAleatoire;
+   static final class CarteChance extends Carte {
+      private static final long serialVersionUID = -1596685869570318249L;
+
+      private final int valeurAleatoire;
 
-      public CarteChance() {
+      private CarteChance(int valeurAleatoire) {
          super(Couleur.SPECIALE, 1);
-         this.valeurAleatoire = new java.util.Random().nextInt(6); // 0-5
+         this.valeurAleatoire = valeurAleatoire;
+      }
+
+      /**
+       * Instance unique, y compris pour une carte relue d'une sauvegarde.
+       */
+      private Object readResolve() {
+         return CHANCES[valeurAleatoire];
       }
 
       @Override
@@ -164,14 +252,19 @@ public class ExtensionMagique extends Extension {
          return valeurAleatoire;
       }
 
+      @Override
+      public int getIndex() {
+         return INDEX_CHANCE;
+      }
+
       @Override
       public boolean estCarteMagique() {
          return true;
       }
 
       @Override
-      public void accepter(VisiteurScore visiteur, Jest contexte) {
-         visiteur.visiterCarteExtension(this, contexte);
+      public int accepter(VisiteurScore visiteur, Jest contexte) {
+         return visiteur.visiterCarteExtension(this, contexte);
       }
 
       @Override
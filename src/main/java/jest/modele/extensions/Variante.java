@@ -32,6 +32,17 @@ public interface Variante extends Serializable{
      */
     int modifierDistribution(Tour tour, int taillePioche, int nbJoueurs);
     
+    /**
+     * Nombre de cartes par main, sans dépendre d'un Tour (utilisé par les IA qui simulent la partie).
+     * Doit rester cohérent avec {@link #modifierDistribution(Tour, int, int)}.
+     * @param cartesDisponibles Cartes résiduelles + cartes de la pioche
+     * @param nbJoueurs Nombre de joueurs dans la partie
+     * @return Nombre de cartes à distribuer par joueur
+     */
+    default int nombreCartesParMain(int cartesDisponibles, int nbJoueurs) {
+        return 2; // Distribution standard
+    }
+    
     /**
      * Modifie les règles de calcul de score.
      * @param calculateur Calculateur à modifier
@@ -24,7 +24,12 @@ public class VarianteTactique implements Variante {
     
     @Override
     public int modifierDistribution(Tour tour, int taillePioche, int nbJoueurs) {
-        if (tour.getCartesResiduelles().size() + taillePioche >= 3 * nbJoueurs) {
+        return nombreCartesParMain(tour.getCartesResiduelles().size() + taillePioche, nbJoueurs);
+    }
+    
+    @Override
+    public int nombreCartesParMain(int cartesDisponibles, int nbJoueurs) {
+        if (cartesDisponibles >= 3 * nbJoueurs) {
             return 3; // Distribuer 3 cartes si possible
         } else {
             return 2; // Sinon on diminue
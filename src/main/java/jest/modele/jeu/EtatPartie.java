@@ -0,0 +1,835 @@
+package jest.modele.jeu;
+
+import jest.modele.cartes.Carte;
+import jest.modele.cartes.ConditionTrophee;
+import jest.modele.cartes.Trophee;
+import jest.modele.extensions.Variante;
+import jest.modele.joueurs.Jest;
+import jest.modele.joueurs.JestCompact;
+import jest.modele.joueurs.Joueur;
+import jest.modele.score.CalculateurScore;
+import jest.modele.score.MoteurTrophees;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Instantané immuable d'une partie, pour la recherche (IA) et l'analyse "et si".
+ * Contient les Jests, les mains, les offres, l'ordre de la pioche, les cartes résiduelles,
+ * les trophées en jeu et le numéro du tour. Les cartes sont désignées par leur index
+ * ({@link Carte#getIndex()}) et les ensembles de cartes par des masques de bits.
+ * <p>
+ * Chaque transition retourne un nouvel état et partage avec l'ancien tout ce qui ne change pas :
+ * les tableaux par joueur ne sont recopiés que s'ils sont modifiés (O(joueurs)),
+ * la pioche n'est jamais recopiée (seul l'index du sommet avance).
+ * <p>
+ * Les transitions reproduisent les trois phases de {@link Tour} :
+ * {@link #distribuer(RandomGenerator)}, puis {@link #appliquer(int)} pour chaque offre
+ * et chaque prise, et enfin {@link #terminer()} quand la variante déclare la fin de partie.
+ */
+public final class EtatPartie {
+
+    /**
+     * Phase courante : les trois phases d'un tour, puis la fin de partie.
+     */
+    public enum Phase {
+        DISTRIBUTION, OFFRES, PRISES, TERMINEE
+    }
+
+    /** Action "prendre la carte cachée de l'offre du siège s" : ACTION_CACHEE + s. */
+    public static final int ACTION_CACHEE = 32;
+    /** Taille suffisante pour le tableau passé à {@link #actionsLegales(int[])}. */
+    public static final int MAX_ACTIONS = 32;
+    /** Index de carte absente. */
+    public static final int AUCUNE = -1;
+
+    private static final int[] VIDE = new int[0];
+
+    private final Regles regles;
+    private int[] pioche;
+    private int sommet;
+    private int[] residuelles;
+    private int[] jests;
+    private int[] jestsVisibles;
+    private int[] cacheesDonnees; // Par siège : cartes cachées de ses offres prises par un adversaire
+    private int[] mains;
+    private int[] visibles;
+    private int[] cachees;
+    private int numeroTour;
+    private Phase phase;
+    private int joueurCourant;
+    private int ontJoue;
+
+    private EtatPartie(Regles regles) {
+        int n = regles.nbJoueurs;
+        this.regles = regles;
+        this.pioche = VIDE;
+        this.residuelles = VIDE;
+        this.jests = new int[n];
+        this.jestsVisibles = new int[n];
+        this.cacheesDonnees = new int[n];
+        this.mains = new int[n];
+        this.visibles = new int[n];
+        this.cachees = new int[n];
+        Arrays.fill(cachees, AUCUNE);
+        this.phase = Phase.DISTRIBUTION;
+    }
+
+    /**
+     * Copie superficielle : les tableaux sont partagés, l'appelant recopie ceux qu'il modifie.
+     */
+    private EtatPartie(EtatPartie source) {
+        this.regles = source.regles;
+        this.pioche = source.pioche;
+        this.sommet = source.sommet;
+        this.residuelles = source.residuelles;
+        this.jests = source.jests;
+        this.jestsVisibles = source.jestsVisibles;
+        this.cacheesDonnees = source.cacheesDonnees;
+        this.mains = source.mains;
+        this.visibles = source.visibles;
+        this.cachees = source.cachees;
+        this.numeroTour = source.numeroTour;
+        this.phase = source.phase;
+        this.joueurCourant = source.joueurCourant;
+        this.ontJoue = source.ontJoue;
+    }
+
+    /**
+     * Capture l'état d'une partie, entre deux tours ou pendant un tour.
+     * @param partie Partie initialisée
+     * @return Instantané de la partie
+     * @throws IllegalStateException Si les cartes capturées ne forment pas le paquet attendu
+     */
+    public static EtatPartie depuis(Partie partie) {
+        List<Joueur> joueurs = partie.getJoueurs();
+        int n = joueurs.size();
+        EtatPartie etat = new EtatPartie(new Regles(partie));
+
+        for (int p = 0; p < n; p++) {
+            Jest jest = joueurs.get(p).getJest();
+            etat.jests[p] = jest.getCompact().getMasqueCartes();
+            etat.jestsVisibles[p] = jest.getMasqueVisibles();
+            etat.cacheesDonnees[p] = jest.getMasqueCacheesDonnees();
+        }
+
+        // Pile : le sommet est en dernière position, lue sans copie
+        Pioche pioche = partie.getPioche();
+        etat.pioche = new int[pioche.getTaille()];
+        for (int i = 0; i < etat.pioche.length; i++) {
+            etat.pioche[i] = pioche.getCarte(pioche.getTaille() - 1 - i).getIndex();
+        }
+
+        Tour tour = partie.getTourEnCours();
+        if (tour == null || !tour.estDistribue()) {
+            // Entre deux tours : les cartes résiduelles attendent la prochaine distribution
+            etat.numeroTour = partie.getTourActuel();
+            etat.residuelles = indexDe(partie.getCartesResiduelles());
+        } else {
+            etat.numeroTour = tour.getNumero();
+            for (int p = 0; p < n; p++) {
+                Offre offre = tour.getOffre(p);
+                if (offre != null) {
+                    for (Carte carte : offre.getCartesVisibles()) {
+                        etat.visibles[p] |= 1 << carte.getIndex();
+                    }
+                    if (offre.getCarteCachee() != null) {
+                        etat.cachees[p] = offre.getCarteCachee().getIndex();
+                    }
+                } else {
+                    for (Carte carte : tour.getMain(p)) {
+                        etat.mains[p] |= 1 << carte.getIndex();
+                    }
+                }
+                if (tour.aJoue(p)) {
+                    etat.ontJoue |= 1 << p;
+                }
+            }
+            if (tour.getNombreOffres() < n) {
+                etat.phase = Phase.OFFRES;
+                etat.joueurCourant = tour.getNombreOffres();
+            } else if (Integer.bitCount(etat.ontJoue) < n) {
+                etat.phase = Phase.PRISES;
+                etat.joueurCourant = joueurs.indexOf(tour.getJoueurActif());
+            } else {
+                etat.finirTour();
+            }
+        }
+        etat.verifierCoherence();
+        return etat;
+    }
+
+    private static int[] indexDe(List<Carte> cartes) {
+        int[] index = new int[cartes.size()];
+        for (int i = 0; i < index.length; i++) {
+            index[i] = cartes.get(i).getIndex();
+        }
+        return index;
+    }
+
+    /**
+     * Vérifie que chaque carte du paquet (hors trophées) est à exactement un endroit.
+     */
+    private void verifierCoherence() {
+        int vues = 0;
+        int nb = 0;
+        for (int p = 0; p < regles.nbJoueurs; p++) {
+            int cachee = cachees[p] != AUCUNE ? 1 << cachees[p] : 0;
+            for (int masque : new int[] {jests[p], mains[p], visibles[p], cachee}) {
+                vues |= masque;
+                nb += Integer.bitCount(masque);
+            }
+        }
+        for (int i = sommet; i < pioche.length; i++) {
+            vues |= 1 << pioche[i];
+            nb++;
+        }
+        for (int carte : residuelles) {
+            vues |= 1 << carte;
+            nb++;
+        }
+        if (vues != regles.univers || nb != Integer.bitCount(regles.univers)) {
+            throw new IllegalStateException("État de partie incohérent : " + nb + " cartes pour "
+                    + Integer.bitCount(regles.univers) + " attendues");
+        }
+    }
+
+    // ========== Transitions ==========
+
+    /**
+     * Indique si la partie doit se terminer au lieu de distribuer (même règle que {@link Partie#estTerminee()}).
+     * @return true en phase de distribution si la variante déclare la fin, ou si la partie est terminée
+     */
+    public boolean estTerminee() {
+        if (phase == Phase.TERMINEE) {
+            return true;
+        }
+        if (phase != Phase.DISTRIBUTION) {
+            return false;
+        }
+        boolean cartesInsuffisantes = numeroTour > 1
+                && residuelles.length + getTaillePioche() < regles.nbJoueurs * 2;
+        return regles.variante.verifierFinPartie(cartesInsuffisantes, numeroTour);
+    }
+
+    /**
+     * PHASE 1 : distribue les mains du tour.
+     * Tour 1 : cartes prises au sommet de la pioche. Tours suivants : résiduelles
+     * complétées par la pioche, puis mélangées.
+     * @param random Générateur du mélange
+     * @return État en phase des offres
+     * @throws IllegalStateException Hors phase de distribution ou si les cartes manquent
+     */
+    public EtatPartie distribuer(RandomGenerator random) {
+        if (phase != Phase.DISTRIBUTION) {
+            throw new IllegalStateException("Distribution impossible en phase " + phase);
+        }
+        int n = regles.nbJoueurs;
+        int parMain = regles.variante.nombreCartesParMain(getTaillePioche(), n);
+        int total = parMain * n;
+        int[] cartes = new int[Math.max(total, residuelles.length)];
+        System.arraycopy(residuelles, 0, cartes, 0, residuelles.length);
+        int aPiocher = Math.max(0, total - residuelles.length);
+        if (aPiocher > getTaillePioche()) {
+            throw new IllegalStateException("Pas assez de cartes restantes pour une distribution complète");
+        }
+        System.arraycopy(pioche, sommet, cartes, residuelles.length, aPiocher);
+        if (numeroTour > 1) {
+            for (int i = cartes.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int t = cartes[i];
+                cartes[i] = cartes[j];
+                cartes[j] = t;
+            }
+        }
+
+        EtatPartie suivant = new EtatPartie(this);
+        suivant.sommet = sommet + aPiocher;
+        suivant.residuelles = VIDE;
+        suivant.mains = new int[n];
+        for (int p = 0; p < n; p++) {
+            for (int k = 0; k < parMain; k++) {
+                suivant.mains[p] |= 1 << cartes[p * parMain + k];
+            }
+        }
+        suivant.phase = Phase.OFFRES;
+        suivant.joueurCourant = 0;
+        suivant.ontJoue = 0;
+        return suivant;
+    }
+
+    /**
+     * Joue l'action du joueur courant.
+     * Phase des offres : index de la carte à cacher. Phase des prises : index d'une carte visible,
+     * ou ACTION_CACHEE + siège pour la carte cachée de l'offre de ce siège.
+     * @param action Action légale (voir {@link #actionsLegales(int[])})
+     * @return État suivant
+     * @throws IllegalStateException Hors phase d'offres ou de prises
+     * @throws IllegalArgumentException Si l'action n'est pas légale
+     */
+    public EtatPartie appliquer(int action) {
+        if (phase == Phase.OFFRES) {
+            return offrir(action);
+        }
+        if (phase == Phase.PRISES) {
+            return prendre(action);
+        }
+        throw new IllegalStateException("Aucune action de joueur en phase " + phase);
+    }
+
+    /**
+     * PHASE 2 : le joueur courant cache une carte, les autres deviennent visibles.
+     */
+    private EtatPartie offrir(int carte) {
+        int p = joueurCourant;
+        if (carte < 0 || carte >= ACTION_CACHEE || (mains[p] & (1 << carte)) == 0) {
+            throw new IllegalArgumentException("Carte " + carte + " absente de la main");
+        }
+        EtatPartie suivant = new EtatPartie(this);
+        suivant.cachees = cachees.clone();
+        suivant.visibles = visibles.clone();
+        suivant.mains = mains.clone();
+        suivant.cachees[p] = carte;
+        suivant.visibles[p] = mains[p] & ~(1 << carte);
+        suivant.mains[p] = 0;
+        if (p + 1 < regles.nbJoueurs) {
+            suivant.joueurCourant = p + 1;
+        } else {
+            // Premier joueur : carte visible la plus forte
+            suivant.phase = Phase.PRISES;
+            suivant.ontJoue = 0;
+            suivant.joueurCourant = suivant.plusForteOffreVisible(0);
+        }
+        return suivant;
+    }
+
+    /**
+     * PHASE 3 : le joueur courant prend une carte, puis désigne le joueur suivant.
+     */
+    private EtatPartie prendre(int action) {
+        int proprietaire = proprietaire(action);
+        if (proprietaire < 0 || !offreAccessible(proprietaire)) {
+            throw new IllegalArgumentException("Action " + action + " non disponible");
+        }
+        int a = joueurCourant;
+        EtatPartie suivant = new EtatPartie(this);
+        suivant.jests = jests.clone();
+        int carte;
+        if (action >= ACTION_CACHEE) {
+            carte = cachees[proprietaire];
+            suivant.cachees = cachees.clone();
+            suivant.cachees[proprietaire] = AUCUNE;
+            if (proprietaire != a) {
+                suivant.cacheesDonnees = cacheesDonnees.clone();
+                suivant.cacheesDonnees[proprietaire] |= 1 << carte;
+            }
+        } else {
+            carte = action;
+            suivant.visibles = visibles.clone();
+            suivant.visibles[proprietaire] &= ~(1 << carte);
+            suivant.jestsVisibles = jestsVisibles.clone();
+            suivant.jestsVisibles[a] |= 1 << carte;
+        }
+        suivant.jests[a] |= 1 << carte;
+        suivant.ontJoue = ontJoue | (1 << a);
+
+        if (Integer.bitCount(suivant.ontJoue) == regles.nbJoueurs) {
+            suivant.finirTour();
+        } else if ((suivant.ontJoue & (1 << proprietaire)) == 0) {
+            suivant.joueurCourant = proprietaire;
+        } else {
+            int prochain = suivant.plusForteOffreVisible(suivant.ontJoue);
+            suivant.joueurCourant = prochain >= 0 ? prochain : Integer.numberOfTrailingZeros(~suivant.ontJoue);
+        }
+        return suivant;
+    }
+
+    /**
+     * Fin de tour : les cartes restantes des offres deviennent les résiduelles (ordre des sièges).
+     * Appelé uniquement sur un état en construction.
+     */
+    private void finirTour() {
+        int n = regles.nbJoueurs;
+        int nb = 0;
+        for (int p = 0; p < n; p++) {
+            nb += Integer.bitCount(visibles[p]) + (cachees[p] != AUCUNE ? 1 : 0);
+        }
+        int[] restantes = new int[nb];
+        int i = 0;
+        for (int p = 0; p < n; p++) {
+            for (int m = visibles[p]; m != 0; m &= m - 1) {
+                restantes[i++] = Integer.numberOfTrailingZeros(m);
+            }
+            if (cachees[p] != AUCUNE) {
+                restantes[i++] = cachees[p];
+            }
+        }
+        residuelles = restantes;
+        visibles = new int[n];
+        cachees = new int[n];
+        Arrays.fill(cachees, AUCUNE);
+        phase = Phase.DISTRIBUTION;
+        numeroTour++;
+    }
+
+    /**
+     * Termine la partie : le joueur i récupère la i-ème carte résiduelle (comme Partie),
+     * puis tous les Jests sont révélés.
+     * @return État terminé
+     * @throws IllegalStateException Hors phase de distribution
+     */
+    public EtatPartie terminer() {
+        if (phase != Phase.DISTRIBUTION) {
+            throw new IllegalStateException("Fin de partie impossible en phase " + phase);
+        }
+        EtatPartie suivant = new EtatPartie(this);
+        suivant.jests = jests.clone();
+        for (int p = 0; p < regles.nbJoueurs && p < residuelles.length; p++) {
+            suivant.jests[p] |= 1 << residuelles[p];
+        }
+        suivant.jestsVisibles = suivant.jests;
+        suivant.residuelles = VIDE;
+        suivant.phase = Phase.TERMINEE;
+        return suivant;
+    }
+
+    /**
+     * Passe au tour suivant ou termine la partie, selon la variante.
+     * @param random Générateur du mélange
+     * @return État en phase des offres, ou terminé
+     */
+    public EtatPartie avancer(RandomGenerator random) {
+        return estTerminee() ? terminer() : distribuer(random);
+    }
+
+    // ========== Actions légales ==========
+
+    /**
+     * Énumère les actions légales du joueur courant, sans allocation.
+     * @param actions Tableau recevant les actions (taille MAX_ACTIONS)
+     * @return Nombre d'actions (0 hors phases d'offres et de prises)
+     */
+    public int actionsLegales(int[] actions) {
+        int nb = 0;
+        if (phase == Phase.OFFRES) {
+            for (int m = mains[joueurCourant]; m != 0; m &= m - 1) {
+                actions[nb++] = Integer.numberOfTrailingZeros(m);
+            }
+        } else if (phase == Phase.PRISES) {
+            for (int o = 0; o < regles.nbJoueurs; o++) {
+                if (offreAccessible(o)) {
+                    for (int m = visibles[o]; m != 0; m &= m - 1) {
+                        actions[nb++] = Integer.numberOfTrailingZeros(m);
+                    }
+                    if (cachees[o] != AUCUNE) {
+                        actions[nb++] = ACTION_CACHEE + o;
+                    }
+                }
+            }
+        }
+        return nb;
+    }
+
+    /**
+     * Une offre est accessible si elle est complète et n'appartient pas au joueur courant,
+     * ou si c'est la sienne et qu'aucune autre offre n'est complète.
+     */
+    private boolean offreAccessible(int siege) {
+        if (!estComplete(siege)) {
+            return false;
+        }
+        if (siege != joueurCourant) {
+            return true;
+        }
+        for (int o = 0; o < regles.nbJoueurs; o++) {
+            if (o != joueurCourant && estComplete(o)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean estComplete(int siege) {
+        return Integer.bitCount(visibles[siege]) + (cachees[siege] != AUCUNE ? 1 : 0) >= 2;
+    }
+
+    /**
+     * Siège de l'offre visée par une action de prise.
+     * @return Siège, ou -1 si la carte n'est dans aucune offre
+     */
+    private int proprietaire(int action) {
+        if (action >= ACTION_CACHEE) {
+            int siege = action - ACTION_CACHEE;
+            return siege < regles.nbJoueurs && cachees[siege] != AUCUNE ? siege : -1;
+        }
+        for (int p = 0; p < regles.nbJoueurs; p++) {
+            if (action >= 0 && (visibles[p] & (1 << action)) != 0) {
+                return p;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Cherche, parmi les sièges non exclus, l'offre dont la carte visible est la plus forte.
+     * Les cartes magiques sont de force égale : à égalité, le premier siège l'emporte.
+     * @param exclus Masque des sièges à ignorer
+     * @return Siège, ou -1 si aucune offre n'a de carte visible
+     */
+    private int plusForteOffreVisible(int exclus) {
+        int meilleur = -1;
+        int rangMax = -1;
+        for (int p = 0; p < regles.nbJoueurs; p++) {
+            if ((exclus & (1 << p)) == 0) {
+                for (int m = visibles[p]; m != 0; m &= m - 1) {
+                    int rang = JestCompact.rangForce(Integer.numberOfTrailingZeros(m));
+                    if (rang > rangMax) {
+                        rangMax = rang;
+                        meilleur = p;
+                    }
+                }
+            }
+        }
+        return meilleur;
+    }
+
+    // ========== Information imparfaite ==========
+
+    /**
+     * Retourne les cartes face cachée du Jest d'un adversaire qu'un joueur ne connaît pas :
+     * toutes, sauf les cartes cachées de ses propres offres que cet adversaire a prises.
+     * @param observateur Siège du joueur observateur
+     * @param siege Siège de l'adversaire
+     * @return Masque des cartes inconnues du Jest
+     */
+    public int getMasqueJestInconnu(int observateur, int siege) {
+        return jests[siege] & ~jestsVisibles[siege] & ~cacheesDonnees[observateur];
+    }
+
+    /**
+     * Retourne les cartes qu'un joueur ne voit pas : cartes face cachée des Jests adverses
+     * (sauf celles qu'il leur a données, voir {@link #getMasqueJestInconnu(int, int)}),
+     * cartes cachées des offres adverses, mains adverses et pioche.
+     * @param siege Siège du joueur observateur
+     * @return Masque des cartes inconnues
+     */
+    public int getMasqueInconnues(int siege) {
+        int inconnues = 0;
+        for (int p = 0; p < regles.nbJoueurs; p++) {
+            if (p != siege) {
+                inconnues |= getMasqueJestInconnu(siege, p) | mains[p];
+                if (cachees[p] != AUCUNE) {
+                    inconnues |= 1 << cachees[p];
+                }
+            }
+        }
+        for (int i = sommet; i < pioche.length; i++) {
+            inconnues |= 1 << pioche[i];
+        }
+        return inconnues;
+    }
+
+    /**
+     * Redistribue au hasard les cartes qu'un joueur ne voit pas (voir {@link #getMasqueInconnues(int)}),
+     * en conservant leurs emplacements. Les cartes qu'il a vues ne bougent pas, y compris les cartes
+     * cachées de ses offres prises par un adversaire : le résultat est un état complet compatible avec
+     * ce que le joueur a observé.
+     * @param siege Siège du joueur observateur
+     * @param random Générateur du tirage
+     * @return État déterminisé
+     */
+    public EtatPartie redistribuer(int siege, RandomGenerator random) {
+        int[] inconnues = new int[Integer.bitCount(regles.univers)];
+        int nb = 0;
+        for (int p = 0; p < regles.nbJoueurs; p++) {
+            if (p != siege) {
+                for (int m = getMasqueJestInconnu(siege, p) | mains[p]; m != 0; m &= m - 1) {
+                    inconnues[nb++] = Integer.numberOfTrailingZeros(m);
+                }
+                if (cachees[p] != AUCUNE) {
+                    inconnues[nb++] = cachees[p];
+                }
+            }
+        }
+        for (int i = sommet; i < pioche.length; i++) {
+            inconnues[nb++] = pioche[i];
+        }
+        for (int i = nb - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = inconnues[i];
+            inconnues[i] = inconnues[j];
+            inconnues[j] = t;
+        }
+        return placer(siege, inconnues, nb);
+    }
+
+    /**
+     * Place les cartes qu'un joueur ne voit pas dans l'ordre donné : pour chaque adversaire
+     * (ordre des sièges), ses cartes inconnues face cachée du Jest, puis sa main, puis la carte cachée
+     * de son offre ; les cartes restantes forment la pioche. Les cartes cachées que le joueur a
+     * données restent dans le Jest qui les a prises. Permet d'énumérer exactement
+     * les répartitions compatibles avec ce que le joueur a observé.
+     * @param siege Siège du joueur observateur
+     * @param inconnues Les cartes de {@link #getMasqueInconnues(int)}, dans l'ordre de placement
+     * @return État déterminisé
+     * @throws IllegalArgumentException Si les cartes ne sont pas exactement les cartes inconnues
+     */
+    public EtatPartie redistribuer(int siege, int[] inconnues) {
+        int masque = 0;
+        for (int carte : inconnues) {
+            masque |= 1 << carte;
+        }
+        if (masque != getMasqueInconnues(siege) || inconnues.length != Integer.bitCount(masque)) {
+            throw new IllegalArgumentException("Les cartes ne correspondent pas aux cartes inconnues");
+        }
+        return placer(siege, inconnues, inconnues.length);
+    }
+
+    private EtatPartie placer(int siege, int[] inconnues, int nb) {
+        int n = regles.nbJoueurs;
+        EtatPartie suivant = new EtatPartie(this);
+        suivant.jests = jests.clone();
+        suivant.mains = mains.clone();
+        suivant.cachees = cachees.clone();
+        int k = 0;
+        for (int p = 0; p < n; p++) {
+            if (p != siege) {
+                int inconnuesJest = getMasqueJestInconnu(siege, p);
+                suivant.jests[p] = jests[p] & ~inconnuesJest;
+                for (int c = Integer.bitCount(inconnuesJest); c > 0; c--) {
+                    suivant.jests[p] |= 1 << inconnues[k++];
+                }
+                int main = 0;
+                for (int c = Integer.bitCount(mains[p]); c > 0; c--) {
+                    main |= 1 << inconnues[k++];
+                }
+                suivant.mains[p] = main;
+                if (cachees[p] != AUCUNE) {
+                    suivant.cachees[p] = inconnues[k++];
+                }
+            }
+        }
+        suivant.pioche = Arrays.copyOfRange(inconnues, k, nb);
+        suivant.sommet = 0;
+        return suivant;
+    }
+
+    // ========== Évaluation ==========
+
+    /**
+     * Crée les Jests compacts de travail utilisés par {@link #determinerVainqueur(JestCompact[], int[])}.
+     * @return Un Jest compact par joueur, valeurs Chance/Malchance définies
+     */
+    public JestCompact[] creerTampons() {
+        JestCompact[] tampons = new JestCompact[regles.nbJoueurs];
+        for (int p = 0; p < tampons.length; p++) {
+            tampons[p] = new JestCompact();
+            tampons[p].definirValeursAleatoires(regles.valeurChance, regles.valeurMalchance);
+        }
+        return tampons;
+    }
+
+    /**
+     * Évalue les Jests actuels comme en fin de partie : scores de base, trophées, scores finaux.
+     * Égalité départagée par la carte la plus forte, comme {@link Partie#determinerGagnant()}.
+     * Les règles de score supplémentaires du calculateur ne sont pas appliquées.
+     * @param tampons Jests compacts de travail (voir {@link #creerTampons()})
+     * @param scores Reçoit le score final de chaque joueur
+     * @return Siège du vainqueur
+     */
+    public int determinerVainqueur(JestCompact[] tampons, int[] scores) {
+        return determinerVainqueur(tampons, scores, new MoteurTrophees());
+    }
+
+    /**
+     * Évalue les Jests actuels comme en fin de partie, avec un moteur de trophées réutilisé
+     * (évaluations répétées sans allocation).
+     * @param tampons Jests compacts de travail (voir {@link #creerTampons()})
+     * @param scores Reçoit le score final de chaque joueur
+     * @param moteur Moteur de trophées de travail
+     * @return Siège du vainqueur
+     */
+    public int determinerVainqueur(JestCompact[] tampons, int[] scores, MoteurTrophees moteur) {
+        int n = regles.nbJoueurs;
+        for (int p = 0; p < n; p++) {
+            tampons[p].definir(jests[p], 0);
+            scores[p] = regles.calculateur.calculerScore(tampons[p], true);
+        }
+        moteur.analyser(tampons, scores);
+        for (int t = 0; t < regles.conditions.length; t++) {
+            int gagnant = moteur.getGagnant(regles.conditions[t]);
+            if (gagnant >= 0) {
+                JestCompact jest = tampons[gagnant];
+                jest.definir(jest.getMasqueCartes(), jest.getMasqueTrophees() | (1 << regles.indexTrophees[t]));
+            }
+        }
+        int vainqueur = 0;
+        for (int p = 0; p < n; p++) {
+            scores[p] = regles.calculateur.calculerScore(tampons[p], false);
+            if (scores[p] > scores[vainqueur] || (scores[p] == scores[vainqueur]
+                    && tampons[p].rangPlusHauteGlobale() > tampons[vainqueur].rangPlusHauteGlobale())) {
+                vainqueur = p;
+            }
+        }
+        return vainqueur;
+    }
+
+    // ========== Accesseurs ==========
+
+    /**
+     * Retourne la phase courante.
+     * @return Phase
+     */
+    public Phase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Retourne le numéro du tour (incrémenté à la fin de chaque tour, comme dans Partie).
+     * @return Numéro du tour
+     */
+    public int getNumeroTour() {
+        return numeroTour;
+    }
+
+    /**
+     * Retourne le nombre de joueurs.
+     * @return Nombre de joueurs
+     */
+    public int getNbJoueurs() {
+        return regles.nbJoueurs;
+    }
+
+    /**
+     * Retourne le joueur qui doit agir (phases d'offres et de prises).
+     * @return Siège du joueur courant
+     */
+    public int getJoueurCourant() {
+        return joueurCourant;
+    }
+
+    /**
+     * Indique si un joueur a déjà pris sa carte pendant le tour en cours.
+     * @param siege Siège du joueur
+     * @return true si le joueur a joué (phase des prises)
+     */
+    public boolean aJoue(int siege) {
+        return (ontJoue & (1 << siege)) != 0;
+    }
+
+    /**
+     * Retourne le Jest d'un joueur.
+     * @param siege Siège du joueur
+     * @return Masque des cartes du Jest
+     */
+    public int getMasqueJest(int siege) {
+        return jests[siege];
+    }
+
+    /**
+     * Retourne les cartes face visible du Jest d'un joueur.
+     * @param siege Siège du joueur
+     * @return Masque des cartes visibles du Jest
+     */
+    public int getMasqueJestVisible(int siege) {
+        return jestsVisibles[siege];
+    }
+
+    /**
+     * Retourne les cartes cachées des offres d'un joueur prises par ses adversaires.
+     * @param siege Siège du joueur
+     * @return Masque des cartes cachées données
+     */
+    public int getMasqueCacheesDonnees(int siege) {
+        return cacheesDonnees[siege];
+    }
+
+    /**
+     * Retourne la main d'un joueur (phase des offres).
+     * @param siege Siège du joueur
+     * @return Masque des cartes en main
+     */
+    public int getMasqueMain(int siege) {
+        return mains[siege];
+    }
+
+    /**
+     * Retourne les cartes visibles de l'offre d'un joueur.
+     * @param siege Siège du joueur
+     * @return Masque des cartes visibles
+     */
+    public int getMasqueOffreVisible(int siege) {
+        return visibles[siege];
+    }
+
+    /**
+     * Retourne la carte cachée de l'offre d'un joueur.
+     * @param siege Siège du joueur
+     * @return Index de la carte, ou AUCUNE
+     */
+    public int getCarteCachee(int siege) {
+        return cachees[siege];
+    }
+
+    /**
+     * Retourne les cartes résiduelles en attente de distribution.
+     * @return Index des cartes, dans l'ordre de récupération en fin de partie
+     */
+    public int[] getCartesResiduelles() {
+        return residuelles.clone();
+    }
+
+    /**
+     * Retourne le nombre de cartes restant dans la pioche.
+     * @return Taille de la pioche
+     */
+    public int getTaillePioche() {
+        return pioche.length - sommet;
+    }
+
+    /**
+     * Règles communes à tous les états d'une même partie (jamais modifiées).
+     */
+    private static final class Regles {
+        final int nbJoueurs;
+        final Variante variante;
+        final CalculateurScore calculateur;
+        final ConditionTrophee[] conditions;
+        final int[] indexTrophees;
+        final int univers;
+        final int valeurChance;
+        final int valeurMalchance;
+
+        Regles(Partie partie) {
+            this.nbJoueurs = partie.getJoueurs().size();
+            this.variante = partie.getVariante();
+            this.calculateur = partie.getCalculateur();
+            List<Trophee> trophees = partie.getTropheesEnJeu();
+            this.conditions = new ConditionTrophee[trophees.size()];
+            this.indexTrophees = new int[trophees.size()];
+            // Univers : cartes standard, Joker et cartes d'extension, hors trophées
+            int cartes = JestCompact.MASQUE_STANDARD | JestCompact.BIT_JOKER;
+            int chance = 0;
+            int malchance = 0;
+            if (partie.getExtension() != null) {
+                for (Carte carte : partie.getExtension().getCartesSupplementaires()) {
+                    cartes |= 1 << carte.getIndex();
+                    if (carte.getIndex() == Carte.INDEX_CHANCE) {
+                        chance = carte.getValeurEffective(null);
+                    } else if (carte.getIndex() == Carte.INDEX_MALCHANCE) {
+                        malchance = carte.getValeurEffective(null);
+                    }
+                }
+            }
+            for (int t = 0; t < trophees.size(); t++) {
+                conditions[t] = trophees.get(t).getCondition();
+                indexTrophees[t] = trophees.get(t).getIndex();
+                cartes &= ~(1 << indexTrophees[t]);
+            }
+            this.univers = cartes;
+            this.valeurChance = chance;
+            this.valeurMalchance = malchance;
+        }
+    }
+}
@@ -4,26 +4,48 @@ import jest.modele.cartes.Carte;
 import jest.modele.joueurs.Joueur;
 
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Représente une offre de x cartes (x-1 visible, 1 cachée) faite par un joueur.
  * Une offre est créée à chaque tour et peut perdre des cartes quand les autres joueurs piochent.
+ * La face d'une carte est celle de son emplacement dans l'offre (les cartes sont partagées).
+ * Les cartes visibles occupent des emplacements fixes et l'index de la plus forte est tenu à jour
+ * à chaque ajout ou retrait : l'ordre de jeu du tour se détermine sans allocation ni parcours.
  */
 public class Offre implements Serializable{
-    private static final long serialVersionUID = 1L;
-    private List<Carte> cartesVisibles;
+    private static final long serialVersionUID = 2L;
+    private static final int EMPLACEMENTS_VISIBLES = 2; // Offre de 3 cartes au plus (variante tactique)
+    private Carte[] cartesVisibles;
+    private int nbVisibles;
+    private int plusForte; // Index de la carte visible la plus forte, -1 si aucune
     private Carte carteCachee;
     private Joueur proprietaire;
+    private int siegeProprietaire;
+    private transient List<Carte> vueVisibles;
+    private transient List<Carte> vueRestantes;
     
     /**
      * Constructeur d'Offre.
      * @param proprietaire Joueur qui fait l'offre
      */
     public Offre(Joueur proprietaire) {
+        this(proprietaire, -1);
+    }
+
+    /**
+     * Constructeur d'Offre faite pendant un tour.
+     * @param proprietaire Joueur qui fait l'offre
+     * @param siegeProprietaire Siège du joueur dans le tour
+     */
+    public Offre(Joueur proprietaire, int siegeProprietaire) {
         this.proprietaire = proprietaire;
-        this.cartesVisibles = new ArrayList<>();
+        this.siegeProprietaire = siegeProprietaire;
+        this.cartesVisibles = new Carte[EMPLACEMENTS_VISIBLES];
+        this.plusForte = -1;
         this.carteCachee = null;
     }
     
@@ -34,13 +56,18 @@ public class Offre implements Serializable{
      */
     public void ajouterCarte(Carte carte, boolean visible) {
         if (visible) {
-            carte.reveler();
-            this.cartesVisibles.add(carte);
+            if (nbVisibles == cartesVisibles.length) {
+                cartesVisibles = Arrays.copyOf(cartesVisibles, nbVisibles + 1); // Variante à plus grandes mains
+            }
+            cartesVisibles[nbVisibles] = carte;
+            if (plusForte < 0 || carte.comparerForce(cartesVisibles[plusForte]) > 0) {
+                plusForte = nbVisibles;
+            }
+            nbVisibles++;
         } else {
             if (carteCachee != null) {
                 throw new IllegalStateException("Une carte cachée existe déjà");
             }
-            carte.cacher();
             this.carteCachee = carte;
         }
     }
@@ -52,50 +79,78 @@ public class Offre implements Serializable{
      * @throws IllegalArgumentException Si la carte n'est pas dans l'offre
      */
     public Carte retirerCarte(Carte carte) {
-        if (cartesVisibles.remove(carte)) {
-            return carte;
-        } else if (carte == carteCachee) {
+        for (int i = 0; i < nbVisibles; i++) {
+            if (cartesVisibles[i] == carte) {
+                retirerVisible(i);
+                return carte;
+            }
+        }
+        if (carte == carteCachee) {
             Carte temp = carteCachee;
             carteCachee = null;
             return temp;
         }
         throw new IllegalArgumentException("Carte non trouvée dans l'offre");
     }
+
+    /**
+     * Retire la carte visible d'un emplacement en conservant l'ordre des autres.
+     */
+    private void retirerVisible(int index) {
+        System.arraycopy(cartesVisibles, index + 1, cartesVisibles, index, nbVisibles - index - 1);
+        cartesVisibles[--nbVisibles] = null;
+        if (index < plusForte) {
+            plusForte--;
+        } else if (index == plusForte) {
+            plusForte = nbVisibles > 0 ? 0 : -1;
+            for (int i = 1; i < nbVisibles; i++) {
+                if (cartesVisibles[i].comparerForce(cartesVisibles[plusForte]) > 0) {
+                    plusForte = i;
+                }
+            }
+        }
+    }
     
     /**
      * Retourne la première carte visible de l'offre.
      * @return Carte visible ou null
      */
     public Carte getCarteVisible() {
-        return cartesVisibles.isEmpty() ? null : cartesVisibles.get(0);
+        return nbVisibles == 0 ? null : cartesVisibles[0];
     }
 
     /**
-     * Retourne toutes les cartes visibles.
-     * @return Liste des cartes visibles
+     * Retourne toutes les cartes visibles, sans copie.
+     * @return Vue non modifiable des cartes visibles (suit les retraits)
      */
     public List<Carte> getCartesVisibles() {
-        return new ArrayList<>(cartesVisibles);
+        if (vueVisibles == null) {
+            vueVisibles = new AbstractList<>() {
+                @Override
+                public Carte get(int index) {
+                    Objects.checkIndex(index, nbVisibles);
+                    return cartesVisibles[index];
+                }
+
+                @Override
+                public int size() {
+                    return nbVisibles;
+                }
+            };
+        }
+        return vueVisibles;
     }
 
     public int getNombreCartesVisibles() {
-        return cartesVisibles.size();
+        return nbVisibles;
     }
 
     /**
-     * Retourne la carte visible la plus forte (pour déterminer ordre de jeu).
-     * @return Carte la plus forte
+     * Retourne la carte visible la plus forte (pour déterminer ordre de jeu), en temps constant.
+     * @return Carte la plus forte, ou null si aucune carte visible
      */
     public Carte getCartePlusFortVisible() {
-        if (cartesVisibles.isEmpty()) return null;
-        
-        Carte plusForte = cartesVisibles.get(0);
-        for (Carte c : cartesVisibles) {
-            if (c.comparerForce(plusForte) > 0) {
-                plusForte = c;
-            }
-        }
-        return plusForte;
+        return plusForte < 0 ? null : cartesVisibles[plusForte];
     }
     
     /**
@@ -121,15 +176,35 @@ public class Offre implements Serializable{
     public Joueur getProprietaire() {
         return proprietaire;
     }
+
+    /**
+     * Retourne le siège du propriétaire dans le tour.
+     * @return Siège, ou -1 pour une offre créée hors d'un tour
+     */
+    public int getSiegeProprietaire() {
+        return siegeProprietaire;
+    }
     
     /**
-     * Retourne les cartes restantes dans l'offre.
-     * @return Liste des cartes
+     * Retourne les cartes restantes dans l'offre, sans copie.
+     * @return Vue non modifiable : cartes visibles, puis carte cachée si présente
      */
     public List<Carte> getCartesRestantes() {
-        List<Carte> cartes = new ArrayList<>(cartesVisibles);
-        if (carteCachee != null) cartes.add(carteCachee);
-        return cartes;
+        if (vueRestantes == null) {
+            vueRestantes = new AbstractList<>() {
+                @Override
+                public Carte get(int index) {
+                    Objects.checkIndex(index, size());
+                    return index < nbVisibles ? cartesVisibles[index] : carteCachee;
+                }
+
+                @Override
+                public int size() {
+                    return getNombreCartesRestantes();
+                }
+            };
+        }
+        return vueRestantes;
     }
     
     /**
@@ -137,7 +212,7 @@ public class Offre implements Serializable{
      * @return Nombre de cartes
      */
     public int getNombreCartesRestantes() {
-        int count = cartesVisibles.size();
+        int count = nbVisibles;
         if (carteCachee != null) count++;
         return count;
     }
@@ -147,11 +222,11 @@ public class Offre implements Serializable{
         StringBuilder sb = new StringBuilder();
         sb.append("Offre de ").append(proprietaire.getNom()).append(" [");
         
-        if (!cartesVisibles.isEmpty()) {
+        if (nbVisibles > 0) {
             sb.append("Visibles: ");
-            for (int i = 0; i < cartesVisibles.size(); i++) {
-                sb.append(cartesVisibles.get(i).toStringCourt());
-                if (i < cartesVisibles.size() - 1) sb.append(", ");
+            for (int i = 0; i < nbVisibles; i++) {
+                sb.append(cartesVisibles[i].toStringCourt());
+                if (i < nbVisibles - 1) sb.append(", ");
             }
         }
         
@@ -160,4 +235,4 @@ public class Offre implements Serializable{
         
         return sb.toString();
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,22 @@
 package jest.modele.jeu;
 
 import jest.modele.cartes.*;
+import jest.modele.evenements.BusEvenements;
+import jest.modele.evenements.EcouteurJeu;
+import jest.modele.evenements.EvenementJeu.*;
 import jest.modele.joueurs.Joueur;
 import jest.modele.score.CalculateurScore;
+import jest.modele.score.DetailScore;
+import jest.modele.score.MoteurTrophees;
 import jest.utilitaires.GestionnaireSauvegarde;
+import jest.utilitaires.SauvegardeAutomatique;
 import jest.modele.extensions.*;
 
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator.SplittableGenerator;
 
 /**
  * Classe principale du moteur de jeu Jest.
@@ -26,6 +34,14 @@ public class Partie implements Serializable {
     private CalculateurScore calculateur;
     private Extension extension;
     private Variante variante;
+    private long graine;
+    private transient SplittableGenerator random; // racine, divisée par sous-système
+    private transient SplittableGenerator randomTours;
+    private transient BusEvenements evenements; // Écouteurs non sauvegardés
+    private transient Tour tourEnCours;
+    private transient SauvegardeAutomatique sauvegardeAutomatique;
+    private transient String nomSauvegardeAutomatique;
+    private transient SourceDecisions decisionsImposees;
 
     /**
      * Constructeur de Partie.
@@ -35,9 +51,42 @@ public class Partie implements Serializable {
         this.paquet = new Paquet();
         this.tropheesEnJeu = new ArrayList<>();
         this.tourActuel = 0;
-        this.calculateur = new CalculateurScore();
+        this.calculateur = CalculateurScore.standard();
         this.extension = null;
         this.variante = null;
+        this.evenements = new BusEvenements();
+    }
+
+    /**
+     * Abonne un écouteur aux événements de la partie.
+     * Sans écouteur, la partie se déroule sans aucun affichage.
+     * 
+     * @param ecouteur Écouteur à abonner (ex : EcouteurConsole)
+     */
+    public void ajouterEcouteur(EcouteurJeu ecouteur) {
+        getEvenements().abonner(ecouteur);
+    }
+
+    /**
+     * Désabonne un écouteur des événements de la partie.
+     * 
+     * @param ecouteur Écouteur à retirer
+     * @return true si l'écouteur était abonné
+     */
+    public boolean retirerEcouteur(EcouteurJeu ecouteur) {
+        return getEvenements().desabonner(ecouteur);
+    }
+
+    /**
+     * Retourne le bus d'événements de la partie.
+     * 
+     * @return Bus d'événements
+     */
+    public BusEvenements getEvenements() {
+        if (evenements == null) {
+            evenements = new BusEvenements(); // Partie désérialisée
+        }
+        return evenements;
     }
 
     /**
@@ -48,6 +97,23 @@ public class Partie implements Serializable {
      * @param variante Variante choisie (standard par défaut)
      */
     public void initialiser(List<Joueur> joueurs, Extension extension, Variante variante) {
+        initialiser(joueurs, extension, variante, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Initialise une partie reproductible : tous les mélanges (paquet, pioche, distributions)
+     * découlent de la graine. Un générateur racine est créé depuis la graine, puis divisé
+     * (split) en un générateur indépendant par sous-système : aucun générateur n'est partagé
+     * entre threads, et l'ajout de tirages dans un sous-système ne décale pas les autres.
+     * Avec les mêmes joueurs, la même extension et les mêmes décisions, la partie se déroule
+     * à l'identique.
+     * 
+     * @param joueurs   Liste des joueurs (3 ou 4)
+     * @param extension Extension choisie (null si aucune)
+     * @param variante  Variante choisie
+     * @param graine    Graine des tirages aléatoires
+     */
+    public void initialiser(List<Joueur> joueurs, Extension extension, Variante variante, long graine) {
         if (joueurs.size() < 3 || joueurs.size() > 4) {
             throw new IllegalArgumentException("Le jeu nécessite 3 ou 4 joueurs");
         }
@@ -55,8 +121,14 @@ public class Partie implements Serializable {
         this.joueurs = new ArrayList<>(joueurs);
         this.extension = extension;
         this.variante = variante;
+        this.graine = graine;
+        this.random = new SplittableRandom(graine);
+        for (Joueur j : this.joueurs) {
+            j.rejoindrePartie(this);
+        }
 
         // Initialiser et mélanger le paquet
+        paquet = new Paquet(random.split());
         paquet.initialiser(extension);
         paquet.melanger();
 
@@ -71,25 +143,14 @@ public class Partie implements Serializable {
             tropheesEnJeu.add(trophee);
         }
 
-        // Créer la pioche avec les cartes restantes
-        List<Carte> cartesRestantes = paquet.getCartes();
-        pioche = new Pioche(cartesRestantes);
+        // Créer la pioche avec les cartes restantes (vue sur le paquet, copiée une seule fois par la pioche)
+        pioche = new Pioche(paquet.getCartesRestantes(), random.split());
+        randomTours = random.split();
         pioche.melanger();
 
-        System.out.println("\n=== PARTIE INITIALISÉE ===");
-        System.out.println("Joueurs : " + joueurs.size());
-        for (Joueur j : joueurs) {
-            System.out.println("  - " + j.getNom());
-        }
-        if (extension != null) {
-            System.out.println("\nExtension utilisée : " + extension.getNom());
-            System.out.println(extension.getDescription());
-        }
-        System.out.println("\nTrophées en jeu :");
-        for (Trophee t : tropheesEnJeu) {
-            System.out.println("  " + t);
+        if (getEvenements().estActif()) {
+            evenements.publier(new PartieInitialisee(getJoueurs(), extension, getTropheesEnJeu(), pioche.getTaille()));
         }
-        System.out.println("\nPioche : " + pioche.getTaille() + " cartes");
 
         // initialiser le tour
         this.tourActuel = 1;
@@ -102,11 +163,14 @@ public class Partie implements Serializable {
      */
     public boolean executerProchainTour() {
         if (!estTerminee()) {
-            System.out.println("\n═══════════════════════════════════");
-            System.out.println("         TOUR " + tourActuel);
-            System.out.println("═══════════════════════════════════\n");
+            if (getEvenements().estActif()) {
+                evenements.publier(new TourCommence(tourActuel));
+            }
             boolean succes = executerTour();
             tourActuel++;
+            if (sauvegardeAutomatique != null) {
+                sauvegardeAutomatique.soumettre(nomSauvegardeAutomatique, this);
+            }
             return succes;
         }
         return false;
@@ -118,7 +182,10 @@ public class Partie implements Serializable {
      * @return true si le tour s'est bien déroulé
      */
     private boolean executerTour() {
-        Tour tour = new Tour(tourActuel, joueurs, pioche);
+        Tour tour = new Tour(tourActuel, joueurs, pioche, generateurTours().split());
+        tour.setEvenements(getEvenements());
+        tour.setDecisionsImposees(decisionsImposees);
+        tourEnCours = tour;
 
         // Définir les cartes résiduelles si tour > 1
         if (tourActuel > 1 && cartesResiduelles != null) {
@@ -126,16 +193,17 @@ public class Partie implements Serializable {
         }
         int nbCartes = variante.modifierDistribution(tour, pioche.getTaille(), joueurs.size());
         // Phase 1 : Distribution
-        Map<Joueur, List<Carte>> mains = tour.distribuerCartes(nbCartes);
+        tour.distribuerCartes(nbCartes);
 
         // Phase 2 : Création des offres
-        tour.creerOffres(mains);
+        tour.creerOffres();
 
         // Phase 3 : Prises de cartes
         tour.executerPrisesCartes();
 
         // Récupérer les cartes résiduelles pour le prochain tour
         cartesResiduelles = tour.getCartesResiduelles();
+        tourEnCours = null;
 
         return true;
     }
@@ -183,77 +251,95 @@ public class Partie implements Serializable {
      * scores.
      */
     private void terminerPartie() {
-        System.out.println("\n");
-        System.out.println("═══════════════════════════════════");
-        System.out.println("         FIN DE PARTIE");
-        System.out.println("═══════════════════════════════════");
+        boolean actif = getEvenements().estActif();
+        if (actif) {
+            evenements.publier(new PartieTerminee());
+        }
 
         // Chaque joueur récupère la dernière carte de son offre (cartes résiduelles)
         if (cartesResiduelles != null && !cartesResiduelles.isEmpty()) {
-            System.out.println("\nRécupération des dernières cartes...");
+            Map<Joueur, Carte> recuperees = actif ? new LinkedHashMap<>() : null;
             for (int i = 0; i < joueurs.size() && i < cartesResiduelles.size(); i++) {
                 Joueur joueur = joueurs.get(i);
                 Carte carte = cartesResiduelles.get(i);
                 joueur.ajouterCarteAuJest(carte);
-                System.out.println(joueur.getNom() + " récupère " + carte.toStringCourt());
+                if (actif) {
+                    recuperees.put(joueur, carte);
+                }
+            }
+            if (actif) {
+                evenements.publier(new DernieresCartesRecuperees(recuperees));
             }
         }
 
         // Révéler tous les Jests
-        System.out.println("\n--- Révélation des Jests ---");
         for (Joueur joueur : joueurs) {
             joueur.getJest().revelerCartes();
-            System.out.println(joueur.getNom() + " : " + joueur.getJest().afficherDetails());
         }
-        
-        System.out.println("\n--- Calcul des scores ---");
-        // Calculer les scores de base (sans trophées)
-        for (Joueur joueur : joueurs) {
-            int score = calculateur.calculerScore(joueur.getJest(), true);
-            joueur.setScore(score);
-            System.out.println(joueur.getNom() + " : " + score + " points");
-            System.out.println(calculateur.afficherDetailScore(joueur.getJest()));
+        if (actif) {
+            evenements.publier(new JestsReveles(getJoueurs()));
         }
 
+        // Calculer les scores de base (sans trophées)
+        calculerScores(true);
+
         attribuerTrophees();
 
         // Recalculer les scores finaux (avec trophées)
-        calculerScoresFinal();
+        calculerScores(false);
 
         Joueur gagnant = determinerGagnant();
-        afficherResultatsFinaux(gagnant);
+        if (actif) {
+            // Trier les joueurs par score décroissant
+            List<Joueur> classement = new ArrayList<>(joueurs);
+            classement.sort((j1, j2) -> Integer.compare(j2.getScore(), j1.getScore()));
+            evenements.publier(new ScoreFinal(classement, gagnant));
+        }
     }
 
     /**
      * Attribue les trophées aux joueurs selon les conditions.
+     * Toutes les conditions sont résolues sur les Jests avant attribution, à partir des scores
+     * de base recalculés par le moteur (voir {@link MoteurTrophees}).
      */
     private void attribuerTrophees() {
-        System.out.println("\n--- Attribution des trophées ---");
+        boolean actif = getEvenements().estActif();
+        Map<Trophee, Joueur> gagnants = actif ? new LinkedHashMap<>() : null;
 
+        MoteurTrophees moteur = new MoteurTrophees();
+        moteur.analyser(joueurs, calculateur);
         for (Trophee trophee : tropheesEnJeu) {
-            Joueur gagnant = trophee.evaluerCondition(joueurs);
+            int siege = moteur.getGagnant(trophee.getCondition());
+            Joueur gagnant = siege >= 0 ? joueurs.get(siege) : null;
             if (gagnant != null) {
                 gagnant.getJest().ajouterTrophee(trophee);
-                System.out.println(
-                        "Trophée " + trophee.getCondition().getDescription() + "(" + trophee.toStringCourt() + ") " +
-                                " --> " + gagnant.getNom());
-            } else {
-                System.out.println("Trophée " + trophee.getCondition().getDescription() +
-                        " --> Aucun gagnant");
+            }
+            if (actif) {
+                gagnants.put(trophee, gagnant);
             }
         }
+        if (actif) {
+            evenements.publier(new TropheesAttribues(gagnants));
+        }
     }
 
     /**
-     * Calcule les scores finaux de tous les joueurs (avec trophées).
+     * Calcule les scores de tous les joueurs.
+     * 
+     * @param sansTrophees true pour les scores de base, false pour les scores finaux
      */
-    private void calculerScoresFinal() {
-        System.out.println("\n--- Calcul des scores finaux avec trophées ---");
+    private void calculerScores(boolean sansTrophees) {
+        boolean actif = getEvenements().estActif();
+        Map<Joueur, DetailScore> details = actif ? new LinkedHashMap<>() : null;
         for (Joueur joueur : joueurs) {
-            int scoreFinal = calculateur.calculerScore(joueur.getJest(), false);
-            joueur.setScore(scoreFinal);
-            System.out.println(joueur.getNom() + " : " + scoreFinal + " points");
-            System.out.println(calculateur.afficherDetailScore(joueur.getJest()));
+            DetailScore detail = calculateur.calculerDetail(joueur.getJest(), sansTrophees);
+            joueur.setScore(detail.getTotal());
+            if (actif) {
+                details.put(joueur, detail);
+            }
+        }
+        if (actif) {
+            evenements.publier(new ScoresCalcules(details, !sansTrophees));
         }
     }
 
@@ -286,39 +372,84 @@ public class Partie implements Serializable {
     }
 
     /**
-     * Affiche les résultats finaux de la partie.
+     * Sauvegarde la partie en cours.
+     * 
+     * @param nomSauvegarde Nom de la sauvegarde
+     * @throws IOException Si erreur lors de la sauvegarde
+     */
+    public void sauvegarder(String nomSauvegarde) throws IOException {
+        GestionnaireSauvegarde.sauvegarder(this, nomSauvegarde);
+    }
+
+    /**
+     * Active la sauvegarde automatique après chaque tour, écrite en arrière-plan
+     * par l'écrivain partagé ({@link SauvegardeAutomatique#parDefaut()}).
+     * 
+     * @param nomSauvegarde Nom de la sauvegarde
+     * @throws IllegalArgumentException Si le nom n'est pas un nom de sauvegarde valide
+     */
+    public void activerSauvegardeAutomatique(String nomSauvegarde) {
+        activerSauvegardeAutomatique(nomSauvegarde, SauvegardeAutomatique.parDefaut());
+    }
+
+    /**
+     * Active la sauvegarde automatique après chaque tour.
      * 
-     * @param gagnant Joueur gagnant
+     * @param nomSauvegarde Nom de la sauvegarde
+     * @param ecrivain      Écrivain en arrière-plan
+     * @throws IllegalArgumentException Si le nom n'est pas un nom de sauvegarde valide
      */
-    private void afficherResultatsFinaux(Joueur gagnant) {
-        System.out.println("\n");
-        System.out.println("═══════════════════════════════════");
-        System.out.println("       RÉSULTATS FINAUX");
-        System.out.println("═══════════════════════════════════");
+    public void activerSauvegardeAutomatique(String nomSauvegarde, SauvegardeAutomatique ecrivain) {
+        GestionnaireSauvegarde.verifierNom(nomSauvegarde);
+        this.nomSauvegardeAutomatique = nomSauvegarde;
+        this.sauvegardeAutomatique = ecrivain;
+    }
+
+    /**
+     * Désactive la sauvegarde automatique (les sauvegardes déjà soumises restent écrites).
+     */
+    public void desactiverSauvegardeAutomatique() {
+        this.sauvegardeAutomatique = null;
+        this.nomSauvegardeAutomatique = null;
+    }
 
-        // Trier les joueurs par score décroissant
-        List<Joueur> classement = new ArrayList<>(joueurs);
-        classement.sort((j1, j2) -> Integer.compare(j2.getScore(), j1.getScore()));
+    /**
+     * Impose les décisions des joueurs pour les tours suivants (rejeu d'un journal).
+     * Une fois la source épuisée, les joueurs reprennent la main.
+     * 
+     * @param decisions Source de décisions (null pour la retirer)
+     */
+    public void imposerDecisions(SourceDecisions decisions) {
+        this.decisionsImposees = decisions;
+    }
 
-        for (int i = 0; i < classement.size(); i++) {
-            Joueur j = classement.get(i);
-            String rang = (i + 1) + ". ";
-            String trophees = j.getJest().getTrophees().isEmpty() ? "" : " Trophée*" + j.getJest().getTrophees().size();
-            System.out.println(rang + j.getNom() + " : " + j.getScore() + " points" + trophees);
+    /**
+     * Crée un générateur indépendant, dérivé de la graine de la partie
+     * (pour les stratégies : leurs tirages deviennent reproductibles).
+     * 
+     * @return Nouveau générateur
+     */
+    public SplittableGenerator creerGenerateur() {
+        if (random == null) {
+            random = new SplittableRandom(); // partie restaurée ou désérialisée
         }
+        return random.split();
+    }
 
-        System.out.println("\n** VAINQUEUR : " + gagnant.getNom() + " **");
-        System.out.println("═══════════════════════════════════\n");
+    private SplittableGenerator generateurTours() {
+        if (randomTours == null) {
+            randomTours = creerGenerateur();
+        }
+        return randomTours;
     }
 
     /**
-     * Sauvegarde la partie en cours.
+     * Retourne la graine des tirages aléatoires de la partie.
      * 
-     * @param nomSauvegarde Nom de la sauvegarde
-     * @throws IOException Si erreur lors de la sauvegarde
+     * @return Graine (sans signification pour une partie restaurée depuis une sauvegarde)
      */
-    public void sauvegarder(String nomSauvegarde) throws IOException {
-        GestionnaireSauvegarde.sauvegarder(this, nomSauvegarde);
+    public long getGraine() {
+        return graine;
     }
 
     /**
@@ -370,6 +501,25 @@ public class Partie implements Serializable {
         return calculateur;
     }
 
+    /**
+     * Remplace le calculateur de score (par défaut, le calculateur standard partagé).
+     * Nécessaire pour ajouter des règles supplémentaires propres à cette partie.
+     * 
+     * @param calculateur Calculateur à utiliser
+     */
+    public void utiliserCalculateur(CalculateurScore calculateur) {
+        this.calculateur = Objects.requireNonNull(calculateur);
+    }
+
+    /**
+     * Retourne le tour en cours d'exécution (lecture par les IA pendant leurs décisions).
+     * 
+     * @return Tour en cours, ou null entre deux tours
+     */
+    public Tour getTourEnCours() {
+        return tourEnCours;
+    }
+
     /**
      * Retourne le tour actuel.
      * 
@@ -433,6 +583,15 @@ public class Partie implements Serializable {
         return pioche.getCartes();
     }
 
+    /**
+     * Retourne la pioche elle-même, pour une lecture sans copie.
+     * 
+     * @return Pioche de la partie
+     */
+    Pioche getPioche() {
+        return pioche;
+    }
+
     /**
      * Restaure l'état de la partie depuis une sauvegarde.
      * 
@@ -454,18 +613,21 @@ public class Partie implements Serializable {
 
         this.joueurs = joueurs;
         this.tourActuel = tourActuel;
+        for (Joueur j : joueurs) {
+            j.rejoindrePartie(this);
+        }
         this.extension = extension;
         this.variante = variante;
         this.tropheesEnJeu = new ArrayList<>(tropheesEnJeu);
         this.cartesResiduelles = cartesResiduelles != null ? new ArrayList<>(cartesResiduelles) : new ArrayList<>();
 
-        this.pioche = new Pioche(cartesRestantesPioche);
+        this.pioche = new Pioche(cartesRestantesPioche, creerGenerateur());
 
         // Réinitialiser le paquet (pas utilisé après l'initialisation)
         this.paquet = new Paquet();
 
         // Réinitialiser le calculateur
-        this.calculateur = new CalculateurScore();
+        this.calculateur = CalculateurScore.standard();
     }
 
 }
\ No newline at end of file
@@ -4,28 +4,44 @@ import jest.modele.cartes.Carte;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Représente la pioche du jeu Jest.
  * Les cartes sont empilées et piochées du dessus (comportement Stack).
+ * La pile est un tableau de capacité fixe (toutes les cartes du jeu) dont le sommet est
+ * la dernière case occupée : piocher, remettre et mélanger se font sur place, sans allocation
+ * ni verrou.
  */
 public class Pioche implements Serializable {
-    private static final long serialVersionUID = 1L;
-    private Stack<Carte> cartes;
-    private Random random;
-    
+    private static final long serialVersionUID = 2L;
+    private Carte[] cartes;
+    private int taille; // Cartes 0 à taille - 1, sommet en taille - 1
+    private transient RandomGenerator random; // non sérialisable, recréé si besoin
+
     /**
      * Constructeur de Pioche.
      * @param cartesInitiales Cartes à mettre dans la pioche
      */
     public Pioche(List<Carte> cartesInitiales) {
-        this.cartes = new Stack<>();
-        this.random = new Random();
-        if (cartesInitiales != null) {
-            cartes.addAll(cartesInitiales);
+        this(cartesInitiales, new SplittableRandom());
+    }
+
+    /**
+     * Constructeur de Pioche avec un générateur imposé (partie reproductible).
+     * @param cartesInitiales Cartes à mettre dans la pioche (la dernière est au sommet)
+     * @param random Générateur utilisé pour mélanger
+     */
+    public Pioche(List<Carte> cartesInitiales, RandomGenerator random) {
+        int nombre = cartesInitiales != null ? cartesInitiales.size() : 0;
+        this.cartes = new Carte[Math.max(Carte.NB_IDENTITES, nombre)];
+        for (int i = 0; i < nombre; i++) {
+            cartes[i] = cartesInitiales.get(i);
         }
+        this.taille = nombre;
+        this.random = random;
     }
-    
+
     /**
      * Pioche une carte du dessus de la pile.
      * @return Carte piochée
@@ -35,9 +51,11 @@ public class Pioche implements Serializable {
         if (estVide()) {
             throw new IllegalStateException("La pioche est vide");
         }
-        return cartes.pop();
+        Carte carte = cartes[--taille];
+        cartes[taille] = null;
+        return carte;
     }
-    
+
     /**
      * Pioche plusieurs cartes.
      * @param nombre Nombre de cartes à piocher
@@ -45,63 +63,123 @@ public class Pioche implements Serializable {
      * @throws IllegalStateException Si pas assez de cartes
      */
     public List<Carte> piocher(int nombre) {
-        if (nombre > cartes.size()) {
-            throw new IllegalStateException("Pas assez de cartes dans la pioche");
+        List<Carte> piochees = new ArrayList<>(nombre);
+        piocher(nombre, piochees);
+        return piochees;
+    }
+
+    /**
+     * Pioche plusieurs cartes à la suite d'une liste fournie par l'appelant.
+     * Les cartes sont ajoutées dans l'ordre du tirage (sommet d'abord).
+     * @param nombre Nombre de cartes à piocher
+     * @param destination Liste complétée
+     * @throws IllegalStateException Si pas assez de cartes
+     */
+    public void piocher(int nombre, List<Carte> destination) {
+        verifierTirage(nombre);
+        for (int i = 0; i < nombre; i++) {
+            destination.add(cartes[--taille]);
+            cartes[taille] = null;
         }
-        
-        List<Carte> piochees = new ArrayList<>();
+    }
+
+    /**
+     * Pioche plusieurs cartes dans un tableau fourni par l'appelant, sans allocation.
+     * Les cartes sont rangées dans l'ordre du tirage (sommet d'abord).
+     * @param destination Tableau de destination
+     * @param debut Première case remplie
+     * @param nombre Nombre de cartes à piocher
+     * @throws IllegalStateException Si pas assez de cartes
+     */
+    public void piocher(Carte[] destination, int debut, int nombre) {
+        verifierTirage(nombre);
         for (int i = 0; i < nombre; i++) {
-            piochees.add(piocher());
+            destination[debut + i] = cartes[--taille];
+            cartes[taille] = null;
         }
-        return piochees;
     }
-    
+
+    private void verifierTirage(int nombre) {
+        if (nombre > taille) {
+            throw new IllegalStateException("Pas assez de cartes dans la pioche");
+        }
+    }
+
     /**
      * Vérifie si la pioche est vide.
      * @return true si vide
      */
     public boolean estVide() {
-        return cartes.isEmpty();
+        return taille == 0;
     }
-    
+
     /**
      * Retourne le nombre de cartes restantes.
      * @return Taille de la pioche
      */
     public int getTaille() {
-        return cartes.size();
+        return taille;
+    }
+
+    /**
+     * Retourne une carte de la pioche sans la retirer ni copier la pile.
+     * @param position Position depuis la base (0), le sommet étant en {@link #getTaille()} - 1
+     * @return Carte à cette position
+     * @throws IndexOutOfBoundsException Si la position est hors de la pioche
+     */
+    public Carte getCarte(int position) {
+        Objects.checkIndex(position, taille);
+        return cartes[position];
     }
 
     /**
      * Retourne une copie des cartes dans la pioche.
-     * @return Liste des cartes
+     * @return Liste des cartes, de la base au sommet
      */
     public List<Carte> getCartes() {
-        return new ArrayList<>(cartes);
+        List<Carte> copie = new ArrayList<>(taille);
+        for (int i = 0; i < taille; i++) {
+            copie.add(cartes[i]);
+        }
+        return copie;
     }
-    
+
     /**
      * Ajoute des cartes à la pioche.
-     * @param nouvelles Cartes à ajouter
+     * @param nouvelles Cartes à ajouter (la dernière se retrouve au sommet)
+     * @throws IllegalStateException Si la pioche contiendrait plus que toutes les cartes du jeu
      */
     public void ajouterCartes(List<Carte> nouvelles) {
-        if (nouvelles != null) {
-            cartes.addAll(nouvelles);
+        if (nouvelles == null) {
+            return;
+        }
+        if (taille + nouvelles.size() > cartes.length) {
+            throw new IllegalStateException("Pioche pleine : " + (taille + nouvelles.size()) + " cartes");
+        }
+        for (int i = 0; i < nouvelles.size(); i++) {
+            cartes[taille++] = nouvelles.get(i);
         }
     }
-    
+
     /**
-     * Mélange les cartes de la pioche.
+     * Mélange les cartes de la pioche sur place (Fisher-Yates).
+     * Même suite de tirages que {@link Collections#shuffle(List, RandomGenerator)} :
+     * une partie rejouée avec la même graine donne la même pioche.
      */
     public void melanger() {
-        List<Carte> temp = new ArrayList<>(cartes);
-        Collections.shuffle(temp, random);
-        cartes.clear();
-        cartes.addAll(temp);
+        if (random == null) {
+            random = new SplittableRandom(); // pioche désérialisée
+        }
+        for (int i = taille; i > 1; i--) {
+            int j = random.nextInt(i);
+            Carte carte = cartes[i - 1];
+            cartes[i - 1] = cartes[j];
+            cartes[j] = carte;
+        }
     }
-    
+
     @Override
     public String toString() {
-        return "Pioche [" + cartes.size() + " cartes]";
+        return "Pioche [" + taille + " cartes]";
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package jest.modele.jeu;
+
+/**
+ * Source de décisions imposées aux joueurs pendant les tours (rejeu d'un journal d'actions).
+ * Chaque décision est codée sur un entier :
+ * <ul>
+ *   <li>création de l'offre : index de la carte placée face cachée ;</li>
+ *   <li>choix de l'offre : siège du propriétaire de l'offre ciblée ;</li>
+ *   <li>prise : index de la carte prise dans l'offre.</li>
+ * </ul>
+ * Un tour à n joueurs consomme exactement 3n décisions.
+ */
+public interface SourceDecisions {
+
+    /**
+     * Retourne la décision suivante.
+     * @return Décision codée, ou -1 si la source est épuisée (les joueurs décident eux-mêmes)
+     */
+    int prochaineDecision();
+}
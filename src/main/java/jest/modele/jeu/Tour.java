@@ -1,20 +1,39 @@
 package jest.modele.jeu;
 
 import jest.modele.cartes.Carte;
+import jest.modele.evenements.BusEvenements;
+import jest.modele.evenements.EvenementJeu.*;
 import jest.modele.joueurs.Joueur;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Représente un tour de jeu complet (3 phases).
  * Un tour gère la distribution, la création des offres et les prises de cartes.
+ * L'état de chaque joueur est rangé par siège (position dans la liste des joueurs) :
+ * offres et mains dans des tableaux, joueurs ayant pris leur carte dans un masque de bits.
+ * Les cartes distribuées sont rangées bout à bout dans un seul tableau, mélangé sur place ;
+ * la main d'un siège est une vue sur sa tranche de ce tableau.
+ * Les parcours suivent toujours l'ordre des sièges.
  */
 public class Tour {
     private int numero;
-    private Map<Joueur, Offre> offres;
+    private Offre[] offres; // Offre de chaque siège, null tant qu'elle n'est pas créée
+    private int nbOffres;
     private List<Joueur> joueurs;
     private Pioche pioche;
     private List<Carte> cartesResiduelles;
-    private Set<Joueur> joueursAyantJoue;
+    private int joues; // Bit i : le joueur du siège i a pris sa carte
+    private Carte[] cartesDistribuees; // Mains de tous les sièges bout à bout, réutilisé d'une distribution à l'autre
+    private List<List<Carte>> mains; // Vue sur la main de chaque siège, vide avant la distribution
+    private List<Offre> disponibles; // Réutilisée à chaque prise
+    private List<Offre> vueDisponibles;
+    private Joueur joueurActif;
+    private int siegeActif;
+    private int nbCartesParMain;
+    private BusEvenements evenements;
+    private RandomGenerator random;
+    private SourceDecisions decisionsImposees;
     
     /**
      * Constructeur de Tour.
@@ -23,12 +42,57 @@ public class Tour {
      * @param pioche Pioche du jeu
      */
     public Tour(int numero, List<Joueur> joueurs, Pioche pioche) {
+        this(numero, joueurs, pioche, new SplittableRandom());
+    }
+    
+    /**
+     * Constructeur de Tour avec un générateur imposé (partie reproductible).
+     * @param numero Numéro du tour (commence à 1)
+     * @param joueurs Liste des joueurs
+     * @param pioche Pioche du jeu
+     * @param random Générateur utilisé pour mélanger les cartes à distribuer
+     */
+    public Tour(int numero, List<Joueur> joueurs, Pioche pioche, RandomGenerator random) {
         this.numero = numero;
         this.joueurs = new ArrayList<>(joueurs);
         this.pioche = pioche;
-        this.offres = new HashMap<>();
+        this.offres = new Offre[joueurs.size()];
+        this.nbOffres = 0;
         this.cartesResiduelles = new ArrayList<>();
-        this.joueursAyantJoue = new HashSet<>();
+        this.joues = 0;
+        this.mains = new ArrayList<>(joueurs.size());
+        this.disponibles = new ArrayList<>(joueurs.size());
+        this.vueDisponibles = Collections.unmodifiableList(disponibles);
+        this.joueurActif = null;
+        this.siegeActif = -1;
+        this.evenements = null;
+        this.random = random;
+        this.decisionsImposees = null;
+    }
+    
+    /**
+     * Définit le bus sur lequel le tour publie ses événements.
+     * @param evenements Bus d'événements de la partie
+     */
+    public void setEvenements(BusEvenements evenements) {
+        this.evenements = evenements;
+    }
+    
+    /**
+     * Définit une source de décisions qui remplace les choix des joueurs (rejeu d'un journal).
+     * Une fois la source épuisée, les joueurs décident eux-mêmes.
+     * @param decisions Source de décisions (null : aucune)
+     */
+    public void setDecisionsImposees(SourceDecisions decisions) {
+        this.decisionsImposees = decisions;
+    }
+    
+    /**
+     * Indique si des écouteurs consomment les événements du tour.
+     * @return true si les événements doivent être construits
+     */
+    private boolean evenementsActifs() {
+        return evenements != null && evenements.estActif();
     }
     
     /**
@@ -43,57 +107,89 @@ public class Tour {
      * PHASE 1 : Distribue les cartes aux joueurs.
      * Tour 1 : Piocher directement
      * Tours suivants : Récupérer résiduelles + compléter avec pioche + mélanger
-     * @return Map associant chaque joueur à ses 2 cartes
+     * @return Main de chaque joueur, par siège (liste non modifiable)
      */
-    public Map<Joueur, List<Carte>> distribuerCartes(int nbCartes) {
-        Map<Joueur, List<Carte>> mains = new HashMap<>();
-        List<Carte> cartesADistribuer = new ArrayList<>();
+    public List<List<Carte>> distribuerCartes(int nbCartes) {
+        this.nbCartesParMain = nbCartes;
+        int totalCartes = joueurs.size() * nbCartes;
+        if (cartesDistribuees == null || cartesDistribuees.length != totalCartes) {
+            cartesDistribuees = new Carte[totalCartes];
+        }
         
         if (numero == 1) {
             // Premier tour : piocher x cartes par joueur selon variante
-            int totalCartes = joueurs.size() * nbCartes;
-            cartesADistribuer = pioche.piocher(totalCartes);
+            pioche.piocher(cartesDistribuees, 0, totalCartes);
         } else {
             // Tours suivants : récupérer résiduelles + compléter
-            cartesADistribuer.addAll(cartesResiduelles);
-            int nbCartesManquantes = joueurs.size() * nbCartes - cartesResiduelles.size();
+            int nbResiduelles = cartesResiduelles.size();
+            if (nbResiduelles > totalCartes) {
+                throw new IllegalStateException("Trop de cartes résiduelles pour la distribution");
+            }
+            for (int i = 0; i < nbResiduelles; i++) {
+                cartesDistribuees[i] = cartesResiduelles.get(i);
+            }
             try {
-                cartesADistribuer.addAll(pioche.piocher(nbCartesManquantes));
-            } catch (IllegalArgumentException e) {
+                pioche.piocher(cartesDistribuees, nbResiduelles, totalCartes - nbResiduelles);
+            } catch (IllegalStateException e) {
                 throw new IllegalStateException("Pas assez de cartes restantes pour une distribution complète");
             }
             
-            // Mélanger
-            Collections.shuffle(cartesADistribuer);
+            // Mélanger sur place, même suite de tirages que Collections.shuffle
+            for (int i = totalCartes; i > 1; i--) {
+                int j = random.nextInt(i);
+                Carte carte = cartesDistribuees[i - 1];
+                cartesDistribuees[i - 1] = cartesDistribuees[j];
+                cartesDistribuees[j] = carte;
+            }
         }
         
-        // Distribuer les cartes à chaque joueur
-        int index = 0;
-        for (Joueur joueur : joueurs) {
-            List<Carte> main = new ArrayList<>();
-            for (int i = 0; i < nbCartes; i++) {
-                main.add(cartesADistribuer.get(index++));
+        // Chaque siège voit sa tranche du tableau
+        if (mains.isEmpty()) {
+            for (int siege = 0; siege < joueurs.size(); siege++) {
+                mains.add(vueMain(siege));
             }
-            mains.put(joueur, main);
         }
         
-        return mains;
+        return Collections.unmodifiableList(mains);
+    }
+
+    /**
+     * Vue non modifiable sur la main d'un siège, sans copie.
+     * @param siege Siège du joueur
+     * @return Cartes distribuées à ce siège (suit les distributions suivantes)
+     */
+    private List<Carte> vueMain(int siege) {
+        return new AbstractList<>() {
+            @Override
+            public Carte get(int index) {
+                Objects.checkIndex(index, nbCartesParMain);
+                return cartesDistribuees[siege * nbCartesParMain + index];
+            }
+
+            @Override
+            public int size() {
+                return nbCartesParMain;
+            }
+        };
     }
     
     /**
      * PHASE 2 : Crée les offres de tous les joueurs.
-     * Chaque joueur choisit 1 carte face cachée, les autres deviennent visibles.
-     * @param mains Map des mains distribuées
+     * Chaque joueur choisit 1 carte face cachée parmi sa main distribuée, les autres deviennent visibles.
      */
-    public void creerOffres(Map<Joueur, List<Carte>> mains) {
-        for (Joueur joueur : joueurs) {
-            List<Carte> main = mains.get(joueur);
+    public void creerOffres() {
+        for (int siege = 0; siege < joueurs.size(); siege++) {
+            Joueur joueur = joueurs.get(siege);
+            List<Carte> main = mains.get(siege);
             
             // Le joueur choisit quelle carte mettre face cachée
-            Carte carteCachee = joueur.choisirCarteOffre(main);
+            Carte carteCachee = choisirCarteOffre(joueur, main);
+            if (evenementsActifs()) {
+                evenements.publier(new CarteOffreChoisie(joueur, carteCachee));
+            }
             
             // Créer l'offre
-            Offre offre = new Offre(joueur);
+            Offre offre = new Offre(joueur, siege);
 
             // Ajouter toutes les autres cartes comme visibles
             for (Carte carte : main) {
@@ -105,12 +201,12 @@ public class Tour {
             // Ajouter la carte cachée
             offre.ajouterCarte(carteCachee, false);
             
-            offres.put(joueur, offre);
+            offres[siege] = offre;
+            nbOffres++;
         }
         
-        System.out.println("\n--- Offres créées ---");
-        for (Offre offre : offres.values()) {
-            System.out.println(offre);
+        if (evenementsActifs()) {
+            evenements.publier(new OffresCreees(numero, List.of(offres)));
         }
     }
     
@@ -119,14 +215,26 @@ public class Tour {
      * @return Premier joueur
      */
     public Joueur determinerPremierJoueur() {
-        Joueur premier = null;
+        int premier = siegePremierJoueur();
+        return premier >= 0 ? joueurs.get(premier) : null;
+    }
+
+    /**
+     * Siège du joueur dont l'offre montre la carte visible la plus forte.
+     * @return Siège, ou -1 si aucune offre
+     */
+    private int siegePremierJoueur() {
+        int premier = -1;
         Carte carteMax = null;
         
-        for (Map.Entry<Joueur, Offre> entry : offres.entrySet()) {
-            Carte carteVisible = entry.getValue().getCartePlusFortVisible();
+        for (int siege = 0; siege < offres.length; siege++) {
+            if (offres[siege] == null) {
+                continue;
+            }
+            Carte carteVisible = offres[siege].getCartePlusFortVisible();
             if (carteMax == null || carteVisible.comparerForce(carteMax) > 0) {
                 carteMax = carteVisible;
-                premier = entry.getKey();
+                premier = siege;
             }
         }
         
@@ -137,92 +245,171 @@ public class Tour {
      * PHASE 3 : Execute les prises de cartes dans l'ordre.
      */
     public void executerPrisesCartes() {
-        Joueur joueurActif = determinerPremierJoueur();
-        System.out.println("\n--- Phase de prises ---");
-        System.out.println("Premier joueur : " + joueurActif.getNom());
+        siegeActif = siegePremierJoueur();
+        joueurActif = joueurs.get(siegeActif);
+        if (evenementsActifs()) {
+            evenements.publier(new PrisesCommencees(joueurActif));
+        }
         
         // Boucle pour chaque joueur
         for (int i = 0; i < joueurs.size(); i++) {
-            System.out.println("\n>> Tour de " + joueurActif.getNom());
+            if (evenementsActifs()) {
+                evenements.publier(new JoueurActif(joueurActif));
+            }
             
             // Obtenir les offres disponibles (complètes, sauf sa propre offre)
-            List<Offre> offresDisponibles = getOffresDisponibles(joueurActif);
+            List<Offre> offresDisponibles = getOffresDisponibles(siegeActif);
             
             // Le joueur choisit une offre
-            Offre offreChoisie = joueurActif.choisirOffreCible(offresDisponibles);
+            Offre offreChoisie = choisirOffreCible(joueurActif, offresDisponibles);
+            if (evenementsActifs()) {
+                evenements.publier(new OffreCibleChoisie(joueurActif, offreChoisie));
+            }
             
             // Le joueur choisit une carte dans l'offre
-            Carte carteChoisie = joueurActif.choisirCarteDansOffre(offreChoisie);
+            Carte carteChoisie = choisirCarteDansOffre(joueurActif, offreChoisie);
+            boolean visible = carteChoisie != offreChoisie.getCarteCachee();
             
             // Retirer la carte de l'offre
             offreChoisie.retirerCarte(carteChoisie);
             
-            // Ajouter au Jest du joueur
-            joueurActif.ajouterCarteAuJest(carteChoisie);
-            System.out.println(joueurActif.getNom() + " ajoute " + carteChoisie.toStringCourt() + " à son Jest");
+            // Ajouter au Jest du joueur ; le propriétaire d'une carte cachée sait qui l'a prise
+            joueurActif.ajouterCarteAuJest(carteChoisie, visible);
+            if (!visible && offreChoisie.getSiegeProprietaire() != siegeActif) {
+                joueurs.get(offreChoisie.getSiegeProprietaire()).getJest().noterCarteCacheeDonnee(carteChoisie);
+            }
+            if (evenementsActifs()) {
+                evenements.publier(new CartePrise(joueurActif, carteChoisie, offreChoisie.getProprietaire(), visible));
+            }
             
             // Marquer le joueur comme ayant joué
-            joueursAyantJoue.add(joueurActif);
+            joues |= 1 << siegeActif;
             
             // Déterminer le prochain joueur
             if (i < joueurs.size() - 1) {
-                joueurActif = determinerJoueurSuivant(offreChoisie.getProprietaire());
+                siegeActif = determinerJoueurSuivant(offreChoisie.getSiegeProprietaire());
+                joueurActif = siegeActif >= 0 ? joueurs.get(siegeActif) : null;
+            }
+        }
+    }
+    
+    /**
+     * Choix de la carte cachée : décision imposée, ou à défaut celle du joueur.
+     * @param joueur Joueur qui crée son offre
+     * @param main Main du joueur
+     * @return Carte à placer face cachée
+     */
+    private Carte choisirCarteOffre(Joueur joueur, List<Carte> main) {
+        int decision = decisionImposee();
+        if (decision < 0) {
+            return joueur.choisirCarteOffre(main);
+        }
+        for (Carte carte : main) {
+            if (carte.getIndex() == decision) {
+                return carte;
+            }
+        }
+        throw new IllegalStateException("Décision imposée invalide : carte " + decision
+                + " absente de la main de " + joueur.getNom());
+    }
+    
+    /**
+     * Choix de l'offre ciblée : décision imposée (siège du propriétaire), ou à défaut celle du joueur.
+     * @param joueur Joueur actif
+     * @param disponibles Offres disponibles
+     * @return Offre choisie
+     */
+    private Offre choisirOffreCible(Joueur joueur, List<Offre> disponibles) {
+        int decision = decisionImposee();
+        if (decision < 0) {
+            return joueur.choisirOffreCible(disponibles);
+        }
+        for (Offre offre : disponibles) {
+            if (offre.getSiegeProprietaire() == decision) {
+                return offre;
             }
         }
+        throw new IllegalStateException("Décision imposée invalide : offre du siège " + decision
+                + " indisponible pour " + joueur.getNom());
+    }
+    
+    /**
+     * Choix de la carte prise : décision imposée, ou à défaut celle du joueur.
+     * @param joueur Joueur actif
+     * @param offre Offre choisie
+     * @return Carte prise
+     */
+    private Carte choisirCarteDansOffre(Joueur joueur, Offre offre) {
+        int decision = decisionImposee();
+        if (decision < 0) {
+            return joueur.choisirCarteDansOffre(offre);
+        }
+        List<Carte> cartes = offre.getCartesRestantes();
+        for (int i = 0; i < cartes.size(); i++) {
+            if (cartes.get(i).getIndex() == decision) {
+                return cartes.get(i);
+            }
+        }
+        throw new IllegalStateException("Décision imposée invalide : carte " + decision
+                + " absente de l'offre de " + offre.getProprietaire().getNom());
+    }
+    
+    private int decisionImposee() {
+        return decisionsImposees != null ? decisionsImposees.prochaineDecision() : -1;
     }
     
     /**
      * Retourne les offres disponibles pour un joueur.
      * Une offre est disponible si elle est complète et n'appartient pas au joueur
      * (sauf si c'est la seule offre complète restante).
-     * @param joueur Joueur actif
-     * @return Liste des offres disponibles
+     * @param siege Siège du joueur actif
+     * @return Vue non modifiable des offres disponibles, valable jusqu'à la prise suivante
      */
-    private List<Offre> getOffresDisponibles(Joueur joueur) {
-        List<Offre> disponibles = new ArrayList<>();
+    private List<Offre> getOffresDisponibles(int siege) {
+        disponibles.clear();
         
-        for (Offre offre : offres.values()) {
-            if (offre.estComplete() && offre.getProprietaire() != joueur) {
-                disponibles.add(offre);
+        for (int s = 0; s < offres.length; s++) {
+            if (s != siege && offres[s].estComplete()) {
+                disponibles.add(offres[s]);
             }
         }
         
         // Si aucune offre disponible, le joueur doit prendre dans sa propre offre
         if (disponibles.isEmpty()) {
-            Offre offrePropre = offres.get(joueur);
+            Offre offrePropre = offres[siege];
             if (offrePropre.estComplete()) {
                 disponibles.add(offrePropre);
             }
         }
         
-        return disponibles;
+        return vueDisponibles;
     }
     
     /**
      * Détermine le joueur suivant selon les règles.
      * Si le propriétaire de l'offre piochée n'a pas encore joué : c'est lui.
      * Sinon : celui avec la carte visible la plus forte parmi ceux restants.
-     * @param proprietaireOffre Propriétaire de l'offre qui vient d'être piochée
-     * @return Joueur suivant
+     * @param siegeProprietaire Siège du propriétaire de l'offre qui vient d'être piochée
+     * @return Siège du joueur suivant, ou -1 si aucun
      */
-    private Joueur determinerJoueurSuivant(Joueur proprietaireOffre) {
+    private int determinerJoueurSuivant(int siegeProprietaire) {
         // Si le propriétaire n'a pas encore joué, c'est lui
-        if (!joueursAyantJoue.contains(proprietaireOffre)) {
-            return proprietaireOffre;
+        if ((joues & (1 << siegeProprietaire)) == 0) {
+            return siegeProprietaire;
         }
         
         // Sinon, trouver le joueur avec la carte visible la plus forte parmi ceux restants
-        Joueur suivant = null;
+        int suivant = -1;
         Carte carteMax = null;
         
-        for (Joueur j : joueurs) {
-            if (!joueursAyantJoue.contains(j)) {
-                Offre offre = offres.get(j);
-                if (offre != null && offre.getCartePlusFortVisible() != null) {
-                    Carte carteVisible = offre.getCartePlusFortVisible();
+        for (int siege = 0; siege < offres.length; siege++) {
+            if ((joues & (1 << siege)) == 0) {
+                Offre offre = offres[siege];
+                Carte carteVisible = offre != null ? offre.getCartePlusFortVisible() : null;
+                if (carteVisible != null) {
                     if (carteMax == null || carteVisible.comparerForce(carteMax) > 0) {
                         carteMax = carteVisible;
-                        suivant = j;
+                        suivant = siege;
                     }
                 }
             }
@@ -236,9 +423,11 @@ public class Tour {
      * @return Liste des cartes non prises (1 par offre)
      */
     public List<Carte> getCartesResiduelles() {
-        List<Carte> residuelles = new ArrayList<>();
-        for (Offre offre : offres.values()) {
-            residuelles.addAll(offre.getCartesRestantes());
+        List<Carte> residuelles = new ArrayList<>(nbOffres);
+        for (int siege = 0; siege < offres.length; siege++) {
+            if (offres[siege] != null) {
+                residuelles.addAll(offres[siege].getCartesRestantes());
+            }
         }
         return residuelles;
     }
@@ -253,9 +442,106 @@ public class Tour {
     
     /**
      * Retourne les offres du tour.
-     * @return Map des offres
+     * @return Map des offres créées, dans l'ordre des sièges
      */
     public Map<Joueur, Offre> getOffres() {
-        return new HashMap<>(offres);
+        Map<Joueur, Offre> copie = new LinkedHashMap<>();
+        for (int siege = 0; siege < offres.length; siege++) {
+            if (offres[siege] != null) {
+                copie.put(joueurs.get(siege), offres[siege]);
+            }
+        }
+        return copie;
+    }
+
+    /**
+     * Retourne l'offre d'un siège, sans copie.
+     * @param siege Siège du joueur (position dans {@link #getJoueurs()})
+     * @return Offre du joueur, ou null si elle n'est pas encore créée
+     */
+    public Offre getOffre(int siege) {
+        return offres[siege];
+    }
+
+    /**
+     * Retourne le nombre d'offres créées ce tour.
+     * @return Nombre d'offres
+     */
+    public int getNombreOffres() {
+        return nbOffres;
+    }
+    
+    /**
+     * Retourne les joueurs du tour, dans l'ordre de création des offres.
+     * @return Liste des joueurs
+     */
+    public List<Joueur> getJoueurs() {
+        return new ArrayList<>(joueurs);
+    }
+    
+    /**
+     * Indique si un joueur a déjà pris sa carte pendant ce tour.
+     * @param joueur Joueur concerné
+     * @return true si le joueur a déjà joué
+     */
+    public boolean aJoue(Joueur joueur) {
+        int siege = joueurs.indexOf(joueur);
+        return siege >= 0 && aJoue(siege);
+    }
+
+    /**
+     * Indique si le joueur d'un siège a déjà pris sa carte pendant ce tour.
+     * @param siege Siège du joueur
+     * @return true si le joueur a déjà joué
+     */
+    public boolean aJoue(int siege) {
+        return (joues & (1 << siege)) != 0;
+    }
+    
+    /**
+     * Retourne les mains distribuées ce tour (la main d'un joueur reste inchangée
+     * après la création de son offre).
+     * @return Map associant chaque joueur à sa main, dans l'ordre des sièges (vide avant la distribution)
+     */
+    public Map<Joueur, List<Carte>> getMains() {
+        Map<Joueur, List<Carte>> copie = new LinkedHashMap<>();
+        for (int siege = 0; siege < mains.size(); siege++) {
+            copie.put(joueurs.get(siege), mains.get(siege));
+        }
+        return copie;
+    }
+
+    /**
+     * Indique si les mains du tour ont été distribuées.
+     * @return true après la distribution
+     */
+    public boolean estDistribue() {
+        return !mains.isEmpty();
+    }
+
+    /**
+     * Retourne la main distribuée à un siège, sans copie.
+     * @param siege Siège du joueur
+     * @return Main du joueur
+     * @throws IndexOutOfBoundsException Si les mains ne sont pas encore distribuées
+     */
+    public List<Carte> getMain(int siege) {
+        return mains.get(siege);
+    }
+    
+    /**
+     * Retourne le joueur qui prend une carte (phase 3).
+     * @return Joueur actif, ou null avant la phase des prises
+     */
+    public Joueur getJoueurActif() {
+        return joueurActif;
+    }
+    
+    /**
+     * Retourne le nombre de cartes distribuées à chaque joueur ce tour.
+     * @return Nombre de cartes par main (0 avant la distribution)
+     */
+    public int getNbCartesParMain() {
+        return nbCartesParMain;
     }
 }
\ No newline at end of file
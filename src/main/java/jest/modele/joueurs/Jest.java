@@ -5,17 +5,24 @@ import jest.modele.score.VisiteurScore;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * Représente le Jest (collection de cartes) d'un joueur.
  * Le Jest accumule les cartes collectées durant la partie.
+ * Ses statistiques (comptes par couleur et par valeur, Joker, cartes extrêmes)
+ * sont tenues à jour à chaque ajout : chaque requête est en temps constant.
  */
 public class Jest implements Serializable{
     private static final long serialVersionUID = 1L;
     private List<Carte> cartes;
     private List<Trophee> trophees;
+    private JestCompact compact;
+    private Carte[] cartesParIndex;
+    private int masqueVisibles; // Bit (index) : carte face visible
+    private int masqueCacheesDonnees; // Bit (index) : carte cachée d'une offre du joueur, prise par un adversaire
     
     /**
      * Constructeur de Jest.
@@ -24,14 +31,30 @@ public class Jest implements Serializable{
     public Jest() {
         this.cartes = new ArrayList<>();
         this.trophees = new ArrayList<>();
+        this.compact = new JestCompact();
+        this.cartesParIndex = new Carte[Carte.NB_IDENTITES];
     }
 
     /**
-     * Ajoute une carte au Jest.
+     * Ajoute une carte face cachée au Jest.
      * @param carte La carte à ajouter.
      */
     public void ajouterCarte(Carte carte) {
+        ajouterCarte(carte, false);
+    }
+
+    /**
+     * Ajoute une carte au Jest.
+     * @param carte La carte à ajouter.
+     * @param visible true si la carte est face visible (prise visible dans une offre)
+     */
+    public void ajouterCarte(Carte carte, boolean visible) {
         cartes.add(carte);
+        compact.ajouterCarte(carte);
+        cartesParIndex[carte.getIndex()] = carte;
+        if (visible) {
+            masqueVisibles |= 1 << carte.getIndex();
+        }
     }
     
     /**
@@ -40,6 +63,16 @@ public class Jest implements Serializable{
      */
     public void ajouterTrophee(Trophee trophee) {
         trophees.add(trophee);
+        compact.ajouterTrophee(trophee);
+    }
+
+    /**
+     * Retourne la représentation compacte (masques de bits) du Jest.
+     * Elle est tenue à jour à chaque ajout de carte ou de trophée.
+     * @return Jest compact
+     */
+    public JestCompact getCompact() {
+        return compact;
     }
 
     /**
@@ -47,12 +80,7 @@ public class Jest implements Serializable{
      * @return true si le Jest contient un Joker, false sinon.
      */
     public boolean contientJoker() {
-        for (Carte carte : cartes) {
-            if (carte instanceof Joker) {
-                return true;
-            }
-        }
-        return false;
+        return compact.contientJoker();
     }
 
     /**
@@ -62,35 +90,23 @@ public class Jest implements Serializable{
      * @return true si la paire noire existe, false sinon
      */
     public boolean contientPaireNoire(int valeur) {
-        boolean aPique = false;
-        boolean aTrefle = false;
-        
-        for (Carte carte : cartes) {
-            if (carte.getValeurFaciale() == valeur) {
-                if (carte.getCouleur() == Couleur.PIQUE) {
-                    aPique = true;
-                } else if (carte.getCouleur() == Couleur.TREFLE) {
-                    aTrefle = true;
-                }
-            }
-        }
-        return aPique && aTrefle;
+        return compact.contientPaireNoire(valeur);
     }
     
     /**
-     * Retourne la liste des cartes du Jest.
+     * Retourne la liste des cartes du Jest (lecture seule, utiliser ajouterCarte).
      * @return Liste des cartes
      */
     public List<Carte> getCartes() {
-        return cartes;
+        return Collections.unmodifiableList(cartes);
     }
     
     /**
-     * Retourne la liste des trophées du Jest.
+     * Retourne la liste des trophées du Jest (lecture seule, utiliser ajouterTrophee).
      * @return Liste des trophées
      */
     public List<Trophee> getTrophees() {
-        return trophees;
+        return Collections.unmodifiableList(trophees);
     }
 
     /**
@@ -99,13 +115,7 @@ public class Jest implements Serializable{
      * @return Nombre de cartes de cette couleur
      */
     public int compterCartesCouleur(Couleur couleur) {
-        int count = 0;
-        for (Carte carte : cartes) {
-            if (carte.getCouleur() == couleur) {
-                count++;
-            }
-        }
-        return count;
+        return compact.compterCartesCouleur(couleur);
     }
 
     /**
@@ -114,13 +124,7 @@ public class Jest implements Serializable{
      * @return Nombre de cartes de cette valeur
      */
     public int compterCartesValeur(int valeur) {
-        int count = 0;
-        for (Carte carte : cartes) {
-            if (carte.getValeurFaciale() == valeur) {
-                count++;
-            }
-        }
-        return count;
+        return compact.compterCartesValeur(valeur);
     }
 
     /**
@@ -129,31 +133,37 @@ public class Jest implements Serializable{
      * @return Carte la plus haute de cette couleur, ou null si aucune
      */
     public Carte getCartePlusHauteCouleur(Couleur couleur) {
-        Carte carteMax = null;
-        for (Carte carte : cartes) {
-            if (carte.getCouleur() == couleur) {
-                if (carteMax == null || carte.comparerForce(carteMax) > 0) {
-                    carteMax = carte;
-                }
-            }
+        if (couleur == Couleur.SPECIALE) {
+            return chercherCartePlusForte(couleur, -1);
         }
-        return carteMax;
+        int bits = compact.masqueCouleur(couleur);
+        if (bits == 0) {
+            return null;
+        }
+        return cartesParIndex[couleur.ordinal() * 4 + 31 - Integer.numberOfLeadingZeros(bits)];
     }
 
     /**
      * Retourne la carte avec la plus haute valeur effective parmi celles ayant la valeur faciale spécifiée.
      * @param valeur Valeur faciale recherchée
      * @return Carte la plus haute de cette valeur, ou null si aucune
-     */    public Carte getCartePlusHauteValeur(int valeur) {
-        Carte carteMax = null;
-        for (Carte carte : cartes) {
-            if (carte.getValeurFaciale() == valeur) {
-                if (carteMax == null || carte.comparerForce(carteMax) > 0) {
-                    carteMax = carte;
-                }
-            }
+     */
+    public Carte getCartePlusHauteValeur(int valeur) {
+        if (valeur == 0) {
+            return cartesParIndex[Carte.INDEX_JOKER];
         }
-        return carteMax;
+        if (valeur < 1 || valeur > 4) {
+            return null;
+        }
+        if (valeur == 1 && (compact.getMasqueCartes() & JestCompact.MASQUE_MAGIQUES) != 0) {
+            // Les cartes magiques (valeur 1, couleur SPECIALE) l'emportent sur les As
+            return chercherCartePlusForte(Couleur.SPECIALE, 1);
+        }
+        int bits = compact.getMasqueCartes() & (0x1111 << (valeur - 1));
+        if (bits == 0) {
+            return null;
+        }
+        return cartesParIndex[31 - Integer.numberOfLeadingZeros(bits)];
     }
 
     /**
@@ -161,56 +171,119 @@ public class Jest implements Serializable{
      * @return Carte la plus haute, ou null si le Jest est vide
      */
     public Carte getCartePlusHauteGlobale() {
-        Carte carteMax = null;
-        for (Carte carte : cartes) {
-            if (carteMax == null || carte.comparerForce(carteMax) > 0) {
-                carteMax = carte;
+        for (int valeur = 4; valeur >= 0; valeur--) {
+            Carte carte = getCartePlusHauteValeur(valeur);
+            if (carte != null) {
+                return carte;
             }
         }
-        return carteMax;
+        return null;
     }
 
     /**
      * Retourne la carte de la couleur spécifiée avec la plus basse valeur effective.
      * @param couleur Couleur recherchée
      * @return Carte la plus basse de cette couleur, ou null si aucune
-     */    public Carte getCartePlusBasse(Couleur couleur) {
-        Carte carteMin = null;
+     */
+    public Carte getCartePlusBasse(Couleur couleur) {
+        if (couleur == Couleur.SPECIALE) {
+            return cartesParIndex[Carte.INDEX_JOKER] != null
+                    ? cartesParIndex[Carte.INDEX_JOKER]
+                    : chercherCartePlusForte(couleur, -1);
+        }
+        int bits = compact.masqueCouleur(couleur);
+        if (bits == 0) {
+            return null;
+        }
+        return cartesParIndex[couleur.ordinal() * 4 + Integer.numberOfTrailingZeros(bits)];
+    }
+
+    /**
+     * Recherche linéaire de la carte la plus forte, réservée aux cartes spéciales
+     * (plusieurs cartes magiques sont de force égale : la première ajoutée l'emporte).
+     * @param couleur Couleur recherchée
+     * @param valeur Valeur faciale recherchée, ou -1 pour toutes
+     * @return Carte la plus forte ou null
+     */
+    private Carte chercherCartePlusForte(Couleur couleur, int valeur) {
+        Carte carteMax = null;
         for (Carte carte : cartes) {
-            if (carte.getCouleur() == couleur) {
-                if (carteMin == null || carte.comparerForce(carteMin) < 0) {
-                    carteMin = carte;
+            if (carte.getCouleur() == couleur && (valeur < 0 || carte.getValeurFaciale() == valeur)) {
+                if (carteMax == null || carte.comparerForce(carteMax) > 0) {
+                    carteMax = carte;
                 }
             }
         }
-        return carteMin;
+        return carteMax;
+    }
+
+    /**
+     * Somme des valeurs effectives des cartes d'une couleur du Jest.
+     * @param couleur Couleur standard
+     * @return Somme des valeurs effectives
+     */
+    public int sommeValeursCouleur(Couleur couleur) {
+        return compact.sommeValeursCouleur(couleur);
     }
 
     /**
      * Accepte un visiteur pour calculer le score du Jest.
+     * Les points retournés par chaque visite sont sommés ici : le visiteur n'accumule rien.
      * @param visiteur Visiteur de score
+     * @param sansTrophees true pour ne pas visiter les trophées
      * @return Score calculé
      */
     public int accepterVisiteur(VisiteurScore visiteur, boolean sansTrophees) {
-        visiteur.reset();
-        for (Carte carte : cartes) {
-            carte.accepter(visiteur, this);
+        int score = 0;
+        for (int i = 0; i < cartes.size(); i++) {
+            score += cartes.get(i).accepter(visiteur, this);
         }
         if (!sansTrophees) {
-            for (Trophee trophee : trophees) {
-                trophee.accepter(visiteur, this);
+            for (int i = 0; i < trophees.size(); i++) {
+                score += trophees.get(i).accepter(visiteur, this);
             }
-            
         }
-        return visiteur.getScorePartiel();
+        return score;
+    }
+    /**
+     * Vérifie si une carte du Jest est face visible.
+     * @param carte Carte du Jest
+     * @return true si face visible
+     */
+    public boolean estVisible(Carte carte) {
+        return (masqueVisibles & (1 << carte.getIndex())) != 0;
+    }
+
+    /**
+     * Retourne le masque des cartes face visible (bit = index de la carte).
+     * @return Masque des cartes visibles
+     */
+    public int getMasqueVisibles() {
+        return masqueVisibles;
+    }
+
+    /**
+     * Note qu'un adversaire a pris la carte cachée d'une offre de ce joueur : le joueur sait
+     * où se trouve cette carte, face cachée dans le Jest adverse.
+     * @param carte Carte cachée prise
+     */
+    public void noterCarteCacheeDonnee(Carte carte) {
+        masqueCacheesDonnees |= 1 << carte.getIndex();
+    }
+
+    /**
+     * Retourne les cartes cachées des offres du joueur prises par ses adversaires (bit = index de la carte).
+     * @return Masque des cartes cachées données
+     */
+    public int getMasqueCacheesDonnees() {
+        return masqueCacheesDonnees;
     }
+
     /**
      * Révèle toutes les cartes du Jest.
      */
     public void revelerCartes() {
-        for (Carte carte : cartes) {
-            carte.reveler();
-        }
+        masqueVisibles = compact.getMasqueCartes();
     }
 
     /**
@@ -0,0 +1,317 @@
+package jest.modele.joueurs;
+
+import jest.modele.cartes.Carte;
+import jest.modele.cartes.Couleur;
+import jest.modele.cartes.Trophee;
+
+import java.io.Serializable;
+
+/**
+ * Représentation compacte d'un Jest sous forme de masques de bits.
+ * Chaque carte occupe le bit correspondant à son index ({@link Carte#getIndex()}) :
+ * 4 bits par couleur (bit 0 = As ... bit 3 = 4), puis le Joker et les 4 cartes magiques.
+ * Les cartes du Jest et les trophées sont conservés dans deux masques distincts,
+ * car les règles contextuelles (As, Cœurs, paires noires) ne portent que sur les cartes.
+ * Toutes les requêtes se font par opérations bit à bit, sans allocation.
+ */
+public class JestCompact implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Masque des 4 bits d'une couleur. */
+    public static final int MASQUE_COULEUR = 0xF;
+    /** Masque des 16 cartes standard. */
+    public static final int MASQUE_STANDARD = 0xFFFF;
+    /** Bit du Joker. */
+    public static final int BIT_JOKER = 1 << Carte.INDEX_JOKER;
+    /** Masque des 4 cartes magiques. */
+    public static final int MASQUE_MAGIQUES = 0xF << Carte.INDEX_MULTIPLICATEUR;
+    /** Masque des As (bit 0 de chaque couleur). */
+    private static final int MASQUE_AS = 0x1111;
+
+    private int cartes;
+    private int trophees;
+    private int valeurChance;
+    private int valeurMalchance;
+
+    /**
+     * Constructeur de JestCompact.
+     * Crée un Jest compact vide.
+     */
+    public JestCompact() {
+    }
+
+    /**
+     * Construit la représentation compacte d'un Jest existant.
+     * @param jest Jest à encoder
+     * @return Jest compact équivalent
+     */
+    public static JestCompact depuis(Jest jest) {
+        JestCompact compact = new JestCompact();
+        for (Carte carte : jest.getCartes()) {
+            compact.ajouterCarte(carte);
+        }
+        for (Trophee trophee : jest.getTrophees()) {
+            compact.ajouterTrophee(trophee);
+        }
+        return compact;
+    }
+
+    /**
+     * Ajoute une carte au Jest compact.
+     * @param carte Carte à ajouter
+     */
+    public void ajouterCarte(Carte carte) {
+        cartes |= 1 << carte.getIndex();
+        memoriserValeurAleatoire(carte);
+    }
+
+    /**
+     * Ajoute un trophée au Jest compact.
+     * @param trophee Trophée à ajouter
+     */
+    public void ajouterTrophee(Trophee trophee) {
+        trophees |= 1 << trophee.getIndex();
+        memoriserValeurAleatoire(trophee.getCarteAssociee());
+    }
+
+    /**
+     * Les cartes Chance et Malchance ont une valeur tirée à leur création,
+     * indépendante du Jest : elle est conservée à part.
+     * @param carte Carte ajoutée
+     */
+    private void memoriserValeurAleatoire(Carte carte) {
+        if (carte.getIndex() == Carte.INDEX_CHANCE) {
+            valeurChance = carte.getValeurEffective(null);
+        } else if (carte.getIndex() == Carte.INDEX_MALCHANCE) {
+            valeurMalchance = carte.getValeurEffective(null);
+        }
+    }
+
+    /**
+     * Remplace le contenu du Jest compact (réutilisation sans allocation).
+     * @param cartes Masque des cartes
+     * @param trophees Masque des trophées
+     */
+    public void definir(int cartes, int trophees) {
+        this.cartes = cartes;
+        this.trophees = trophees;
+    }
+
+    /**
+     * Définit la valeur des cartes Chance et Malchance.
+     * @param valeurChance Valeur de la carte Chance (positive)
+     * @param valeurMalchance Valeur de la carte Malchance (négative ou nulle)
+     */
+    public void definirValeursAleatoires(int valeurChance, int valeurMalchance) {
+        this.valeurChance = valeurChance;
+        this.valeurMalchance = valeurMalchance;
+    }
+
+    /**
+     * Vide le Jest compact.
+     */
+    public void vider() {
+        cartes = 0;
+        trophees = 0;
+        valeurChance = 0;
+        valeurMalchance = 0;
+    }
+
+    /**
+     * Retourne le masque des cartes du Jest.
+     * @return Masque de bits
+     */
+    public int getMasqueCartes() {
+        return cartes;
+    }
+
+    /**
+     * Retourne le masque des trophées du Jest.
+     * @return Masque de bits
+     */
+    public int getMasqueTrophees() {
+        return trophees;
+    }
+
+    /**
+     * Retourne la valeur de la carte Chance.
+     * @return Valeur (0 si absente)
+     */
+    public int getValeurChance() {
+        return valeurChance;
+    }
+
+    /**
+     * Retourne la valeur de la carte Malchance.
+     * @return Valeur négative ou nulle
+     */
+    public int getValeurMalchance() {
+        return valeurMalchance;
+    }
+
+    /**
+     * Extrait les 4 bits d'une couleur standard d'un masque.
+     * @param masque Masque de cartes
+     * @param couleur Couleur standard (pas SPECIALE)
+     * @return Bits de la couleur (bit 0 = As ... bit 3 = 4)
+     */
+    public static int masqueCouleur(int masque, Couleur couleur) {
+        return (masque >>> (couleur.ordinal() * 4)) & MASQUE_COULEUR;
+    }
+
+    /**
+     * Retourne les bits d'une couleur parmi les cartes du Jest.
+     * @param couleur Couleur standard
+     * @return Bits de la couleur
+     */
+    public int masqueCouleur(Couleur couleur) {
+        return masqueCouleur(cartes, couleur);
+    }
+
+    /**
+     * Compte les cartes d'une couleur dans le Jest.
+     * @param couleur Couleur à compter (SPECIALE : Joker et cartes magiques)
+     * @return Nombre de cartes
+     */
+    public int compterCartesCouleur(Couleur couleur) {
+        if (couleur == Couleur.SPECIALE) {
+            return Integer.bitCount(cartes & ~MASQUE_STANDARD);
+        }
+        return Integer.bitCount(masqueCouleur(cartes, couleur));
+    }
+
+    /**
+     * Compte les cartes d'une valeur faciale dans le Jest.
+     * Les cartes magiques ont une valeur faciale de 1, le Joker de 0.
+     * @param valeur Valeur faciale
+     * @return Nombre de cartes
+     */
+    public int compterCartesValeur(int valeur) {
+        if (valeur == 0) {
+            return contientJoker() ? 1 : 0;
+        }
+        if (valeur < 1 || valeur > 4) {
+            return 0;
+        }
+        int nb = Integer.bitCount(cartes & (MASQUE_AS << (valeur - 1)));
+        if (valeur == 1) {
+            nb += Integer.bitCount(cartes & MASQUE_MAGIQUES);
+        }
+        return nb;
+    }
+
+    /**
+     * Vérifie si le Jest contient le Joker.
+     * @return true si Joker présent
+     */
+    public boolean contientJoker() {
+        return (cartes & BIT_JOKER) != 0;
+    }
+
+    /**
+     * Vérifie si le Jest contient une paire noire pour une valeur donnée.
+     * @param valeur Valeur faciale
+     * @return true si Pique et Trèfle de cette valeur sont présents
+     */
+    public boolean contientPaireNoire(int valeur) {
+        if (valeur < 1 || valeur > 4) {
+            return false;
+        }
+        int bit = 1 << (valeur - 1);
+        return (masqueCouleur(cartes, Couleur.PIQUE) & masqueCouleur(cartes, Couleur.TREFLE) & bit) != 0;
+    }
+
+    /**
+     * Compte les paires noires du Jest.
+     * @return Nombre de valeurs présentes à la fois en Pique et en Trèfle
+     */
+    public int compterPairesNoires() {
+        return Integer.bitCount(masqueCouleur(cartes, Couleur.PIQUE) & masqueCouleur(cartes, Couleur.TREFLE));
+    }
+
+    /**
+     * Somme des valeurs effectives des bits d'une couleur.
+     * L'As vaut 5 s'il est seul de sa couleur parmi les cartes du Jest, 1 sinon.
+     * @param bits Bits de la couleur à additionner
+     * @param nbCartesCouleur Nombre de cartes de cette couleur dans le Jest
+     * @return Somme des valeurs effectives
+     */
+    public static int sommeValeurs(int bits, int nbCartesCouleur) {
+        int somme = 0;
+        if ((bits & 1) != 0) {
+            somme += nbCartesCouleur == 1 ? 5 : 1;
+        }
+        if ((bits & 2) != 0) {
+            somme += 2;
+        }
+        if ((bits & 4) != 0) {
+            somme += 3;
+        }
+        if ((bits & 8) != 0) {
+            somme += 4;
+        }
+        return somme;
+    }
+
+    /**
+     * Somme des valeurs effectives des cartes d'une couleur du Jest.
+     * @param couleur Couleur standard
+     * @return Somme des valeurs effectives
+     */
+    public int sommeValeursCouleur(Couleur couleur) {
+        int bits = masqueCouleur(cartes, couleur);
+        return sommeValeurs(bits, Integer.bitCount(bits));
+    }
+
+    /**
+     * Rang de force d'une carte, cohérent avec {@link Carte#comparerForce(Carte)} :
+     * valeur faciale d'abord, puis rang de la couleur.
+     * @param index Index de la carte
+     * @return Rang (plus grand = plus fort)
+     */
+    public static int rangForce(int index) {
+        if (index < Carte.INDEX_JOKER) {
+            return (index % 4 + 1) * 5 + index / 4;
+        }
+        if (index == Carte.INDEX_JOKER) {
+            return Couleur.SPECIALE.ordinal();
+        }
+        return 5 + Couleur.SPECIALE.ordinal();
+    }
+
+    /**
+     * Rang de force de la carte la plus forte d'une valeur faciale.
+     * @param valeur Valeur faciale (1 à 4)
+     * @return Rang, ou -1 si aucune carte de cette valeur
+     */
+    public int rangPlusHauteValeur(int valeur) {
+        if (valeur == 1 && (cartes & MASQUE_MAGIQUES) != 0) {
+            return rangForce(Carte.INDEX_MULTIPLICATEUR);
+        }
+        int bits = cartes & (MASQUE_AS << (valeur - 1));
+        if (bits == 0) {
+            return -1;
+        }
+        return rangForce(31 - Integer.numberOfLeadingZeros(bits));
+    }
+
+    /**
+     * Rang de force de la carte la plus forte du Jest.
+     * @return Rang, ou -1 si le Jest est vide
+     */
+    public int rangPlusHauteGlobale() {
+        for (int valeur = 4; valeur >= 1; valeur--) {
+            int rang = rangPlusHauteValeur(valeur);
+            if (rang >= 0) {
+                return rang;
+            }
+        }
+        return contientJoker() ? rangForce(Carte.INDEX_JOKER) : -1;
+    }
+
+    @Override
+    public String toString() {
+        return "JestCompact [cartes=" + Integer.toBinaryString(cartes)
+                + ", trophees=" + Integer.toBinaryString(trophees) + "]";
+    }
+}
@@ -2,6 +2,7 @@ package jest.modele.joueurs;
 
 import jest.modele.cartes.Carte;
 import jest.modele.jeu.Offre;
+import jest.modele.jeu.Partie;
 
 import java.io.Serializable;
 import java.util.List;
@@ -50,6 +51,15 @@ public abstract class Joueur implements Serializable {
     public void ajouterCarteAuJest(Carte carte) {
         jest.ajouterCarte(carte);
     }
+
+    /**
+     * Ajoute une carte au Jest du joueur, face visible ou cachée.
+     * @param carte Carte à ajouter
+     * @param visible true si la carte est face visible
+     */
+    public void ajouterCarteAuJest(Carte carte, boolean visible) {
+        jest.ajouterCarte(carte, visible);
+    }
     
     /**
      * Retourne le score calculé du joueur.
@@ -88,6 +98,14 @@ public abstract class Joueur implements Serializable {
      */
     public abstract Carte choisirCarteDansOffre(Offre offre);
     
+    /**
+     * Signale au joueur la partie à laquelle il participe.
+     * Par défaut rien à faire ; les joueurs virtuels la transmettent à leur stratégie.
+     * @param partie Partie rejointe
+     */
+    public void rejoindrePartie(Partie partie) {
+    }
+    
     /**
      * Affiche l'état actuel du joueur.
      */
@@ -2,6 +2,7 @@ package jest.modele.joueurs;
 
 import jest.modele.cartes.Carte;
 import jest.modele.jeu.Offre;
+import jest.modele.jeu.Partie;
 import java.util.List;
 
 /**
@@ -10,6 +11,7 @@ import java.util.List;
  */
 public class JoueurVirtuel extends Joueur {
     private StrategieJeu strategie;
+    private transient Partie partie;
     
     /**
      * Constructeur de JoueurVirtuel.
@@ -27,6 +29,9 @@ public class JoueurVirtuel extends Joueur {
      */
     public void setStrategie(StrategieJeu strategie) {
         this.strategie = strategie;
+        if (partie != null) {
+            strategie.observerPartie(partie, this);
+        }
     }
     
     /**
@@ -37,25 +42,24 @@ public class JoueurVirtuel extends Joueur {
         return strategie;
     }
     
+    @Override
+    public void rejoindrePartie(Partie partie) {
+        this.partie = partie;
+        strategie.observerPartie(partie, this);
+    }
+    
     @Override
     public Carte choisirCarteOffre(List<Carte> main) {
-        Carte choix = strategie.choisirCarteOffre(main, jest);
-        System.out.println(nom + " (IA) choisit une carte pour son offre.");
-        return choix;
+        return strategie.choisirCarteOffre(main, jest);
     }
     
     @Override
     public Offre choisirOffreCible(List<Offre> offres) {
-        Offre choix = strategie.choisirOffreCible(offres, jest);
-        System.out.println(nom + " (IA) choisit l'offre de " + choix.getProprietaire().getNom());
-        return choix;
+        return strategie.choisirOffreCible(offres, jest);
     }
     
     @Override
     public Carte choisirCarteDansOffre(Offre offre) {
-        Carte choix = strategie.choisirCarteDansOffre(offre, jest);
-        String type = choix == offre.getCarteVisible() ? "visible" : "cachée";
-        System.out.println(nom + " (IA) prend la carte " + type);
-        return choix;
+        return strategie.choisirCarteDansOffre(offre, jest);
     }
 }
\ No newline at end of file
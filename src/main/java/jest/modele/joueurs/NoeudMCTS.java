@@ -0,0 +1,114 @@
+package jest.modele.joueurs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Nœud de l'arbre de recherche de {@link StrategieMCTS} (ISMCTS à un seul observateur).
+ * Un nœud correspond à une action jouée par un joueur ; comme l'état sous-jacent varie
+ * d'une déterminisation à l'autre, chaque enfant compte aussi le nombre de fois
+ * où son action était légale (disponibilités) pour le calcul UCB.
+ */
+final class NoeudMCTS {
+    private final NoeudMCTS parent;
+    private final int action;
+    private final int joueur;
+    private final List<NoeudMCTS> enfants;
+    private int visites;
+    private int disponibilites;
+    private double gains;
+
+    /**
+     * Constructeur de NoeudMCTS.
+     * @param parent Nœud parent (null pour la racine)
+     * @param action Action menant à ce nœud
+     * @param joueur Siège du joueur ayant joué l'action
+     */
+    NoeudMCTS(NoeudMCTS parent, int action, int joueur) {
+        this.parent = parent;
+        this.action = action;
+        this.joueur = joueur;
+        this.enfants = new ArrayList<>(4);
+        this.disponibilites = 1;
+    }
+
+    NoeudMCTS getParent() {
+        return parent;
+    }
+
+    int getAction() {
+        return action;
+    }
+
+    int getVisites() {
+        return visites;
+    }
+
+    List<NoeudMCTS> getEnfants() {
+        return enfants;
+    }
+
+    /**
+     * Cherche l'enfant correspondant à une action.
+     * @param action Action recherchée
+     * @return Enfant, ou null s'il n'a pas encore été développé
+     */
+    NoeudMCTS enfant(int action) {
+        for (int i = 0; i < enfants.size(); i++) {
+            NoeudMCTS enfant = enfants.get(i);
+            if (enfant.action == action) {
+                return enfant;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Ajoute un enfant pour une action non encore essayée.
+     * @param action Action jouée
+     * @param joueur Siège du joueur qui la joue
+     * @return Nouvel enfant
+     */
+    NoeudMCTS developper(int action, int joueur) {
+        NoeudMCTS enfant = new NoeudMCTS(this, action, joueur);
+        enfants.add(enfant);
+        return enfant;
+    }
+
+    /**
+     * Sélectionne l'enfant maximisant UCB parmi les actions légales de la déterminisation.
+     * Toutes les actions doivent déjà avoir un enfant.
+     * @param actions Actions légales
+     * @param nb Nombre d'actions
+     * @param exploration Constante d'exploration
+     * @return Enfant sélectionné
+     */
+    NoeudMCTS selectionner(int[] actions, int nb, double exploration) {
+        NoeudMCTS meilleur = null;
+        double valeurMax = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < nb; i++) {
+            NoeudMCTS enfant = enfant(actions[i]);
+            enfant.disponibilites++;
+            double valeur = enfant.gains / enfant.visites
+                    + exploration * Math.sqrt(Math.log(enfant.disponibilites) / enfant.visites);
+            if (valeur > valeurMax) {
+                valeurMax = valeur;
+                meilleur = enfant;
+            }
+        }
+        return meilleur;
+    }
+
+    /**
+     * Rétropropage le résultat d'une simulation jusqu'à la racine.
+     * @param vainqueur Siège du vainqueur de la partie simulée
+     */
+    void retropropager(int vainqueur) {
+        for (NoeudMCTS noeud = this; noeud != null; noeud = noeud.parent) {
+            noeud.visites++;
+            if (noeud.joueur == vainqueur) {
+                noeud.gains += 1.0;
+            }
+        }
+    }
+}
@@ -0,0 +1,409 @@
+package jest.modele.joueurs;
+
+import jest.modele.jeu.EtatPartie;
+import jest.modele.score.MoteurTrophees;
+
+import java.util.Arrays;
+
+/**
+ * Solveur exact du dernier tour d'une partie.
+ * Quand la pioche ne permet plus de distribuer un nouveau tour, les seules cartes inconnues
+ * du joueur qui décide (cartes cachées des offres adverses, mains adverses, cartes face cachée
+ * des Jests adverses) forment un petit espace d'états. Le solveur énumère toutes leurs
+ * répartitions compatibles avec ce que le joueur a observé (équiprobables), puis, pour chacune,
+ * toutes les réponses des joueurs jusqu'à la fin de la partie. Il retourne, pour chaque action
+ * légale, l'espérance exacte du score final calculé par le {@link jest.modele.score.CalculateurScore}
+ * de la partie.
+ * <p>
+ * Une fois la répartition fixée, chaque joueur est supposé connaître les cartes (information
+ * parfaite après le coup évalué). Les positions déjà résolues sont mémorisées dans une table
+ * de transpositions indexée par l'emplacement de chaque carte, commune à toutes les répartitions.
+ */
+public final class SolveurFinDePartie {
+    /** Nombre maximal de répartitions des cartes inconnues énumérées, par défaut. */
+    public static final long MAX_REPARTITIONS_PAR_DEFAUT = 20_000;
+    /** Nombre maximal de positions mémorisées, par défaut (environ une seconde de recherche). */
+    public static final int MAX_POSITIONS_PAR_DEFAUT = 500_000;
+
+    /**
+     * Modèle de jeu des adversaires du joueur qui décide.
+     */
+    public enum ModeleAdversaires {
+        /** Chaque adversaire joue le coup qui maximise son propre score final. */
+        RATIONNELS,
+        /** Chaque coup légal d'un adversaire est équiprobable. */
+        ALEATOIRES
+    }
+
+    /**
+     * Résultat d'une évaluation.
+     *
+     * @param actions      Actions légales du joueur courant (voir {@link EtatPartie#actionsLegales(int[])})
+     * @param esperances   Espérance du score final du joueur pour chaque action, dans le même ordre
+     * @param repartitions Nombre de répartitions des cartes inconnues énumérées
+     * @param positions    Nombre de positions distinctes résolues
+     */
+    public record Evaluation(int[] actions, double[] esperances, long repartitions, int positions) {
+
+        /**
+         * Retourne l'action d'espérance maximale (la première en cas d'égalité).
+         * @return Action
+         */
+        public int meilleureAction() {
+            int meilleure = 0;
+            for (int i = 1; i < actions.length; i++) {
+                if (esperances[i] > esperances[meilleure]) {
+                    meilleure = i;
+                }
+            }
+            return actions[meilleure];
+        }
+
+        /**
+         * Retourne l'espérance du score final pour une action.
+         * @param action Action légale
+         * @return Espérance du score final
+         * @throws IllegalArgumentException Si l'action n'a pas été évaluée
+         */
+        public double esperance(int action) {
+            for (int i = 0; i < actions.length; i++) {
+                if (actions[i] == action) {
+                    return esperances[i];
+                }
+            }
+            throw new IllegalArgumentException("Action non évaluée : " + action);
+        }
+    }
+
+    private final ModeleAdversaires modele;
+    private final long maxRepartitions;
+    private final int maxPositions;
+
+    /**
+     * Constructeur de SolveurFinDePartie.
+     * Adversaires rationnels, budgets par défaut.
+     */
+    public SolveurFinDePartie() {
+        this(ModeleAdversaires.RATIONNELS, MAX_REPARTITIONS_PAR_DEFAUT, MAX_POSITIONS_PAR_DEFAUT);
+    }
+
+    /**
+     * Constructeur de SolveurFinDePartie.
+     * Au-delà de l'un des budgets, la position est hors de portée du solveur.
+     * @param modele Modèle de jeu des adversaires
+     * @param maxRepartitions Nombre maximal de répartitions énumérées
+     * @param maxPositions Nombre maximal de positions mémorisées (borne la durée et la mémoire)
+     */
+    public SolveurFinDePartie(ModeleAdversaires modele, long maxRepartitions, int maxPositions) {
+        if (maxRepartitions < 1 || maxPositions < 1) {
+            throw new IllegalArgumentException("Les budgets du solveur doivent être positifs");
+        }
+        this.modele = modele;
+        this.maxRepartitions = maxRepartitions;
+        this.maxPositions = maxPositions;
+    }
+
+    /**
+     * Indique si le tour en cours est le dernier de la partie : à la fin du tour,
+     * la variante déclarera la fin de partie au lieu de distribuer.
+     * @param etat État en phase d'offres ou de prises
+     * @return true si la partie se termine avec ce tour
+     */
+    public static boolean estDernierTour(EtatPartie etat) {
+        if (etat.getPhase() != EtatPartie.Phase.OFFRES && etat.getPhase() != EtatPartie.Phase.PRISES) {
+            return false;
+        }
+        // La fin de partie ne dépend que du nombre de cartes : n'importe quelle suite de coups convient
+        int[] actions = new int[EtatPartie.MAX_ACTIONS];
+        EtatPartie suite = etat;
+        while (suite.getPhase() != EtatPartie.Phase.DISTRIBUTION) {
+            suite.actionsLegales(actions);
+            suite = suite.appliquer(actions[0]);
+        }
+        return suite.estTerminee();
+    }
+
+    /**
+     * Calcule le nombre de répartitions des cartes inconnues du joueur courant.
+     * @param etat État en phase d'offres ou de prises
+     * @return Nombre de répartitions (Long.MAX_VALUE en cas de dépassement)
+     */
+    public static long compterRepartitions(EtatPartie etat) {
+        int siege = etat.getJoueurCourant();
+        int restantes = Integer.bitCount(etat.getMasqueInconnues(siege));
+        long total = 1;
+        for (int taille : taillesEmplacements(etat, siege)) {
+            long combinaisons = 1;
+            for (int k = 0; k < taille; k++) {
+                combinaisons = combinaisons * (restantes - k) / (k + 1);
+            }
+            restantes -= taille;
+            if (total > Long.MAX_VALUE / combinaisons) {
+                return Long.MAX_VALUE;
+            }
+            total *= combinaisons;
+        }
+        return total;
+    }
+
+    /**
+     * Tailles des emplacements de cartes inconnues, dans l'ordre de
+     * {@link EtatPartie#redistribuer(int, int[])} (la pioche, sans incidence au dernier tour, exclue).
+     */
+    private static int[] taillesEmplacements(EtatPartie etat, int siege) {
+        int n = etat.getNbJoueurs();
+        int[] tailles = new int[3 * (n - 1)];
+        int e = 0;
+        for (int p = 0; p < n; p++) {
+            if (p != siege) {
+                tailles[e++] = Integer.bitCount(etat.getMasqueJestInconnu(siege, p));
+                tailles[e++] = Integer.bitCount(etat.getMasqueMain(p));
+                tailles[e++] = etat.getCarteCachee(p) != EtatPartie.AUCUNE ? 1 : 0;
+            }
+        }
+        return tailles;
+    }
+
+    /**
+     * Évalue chaque action légale du joueur courant.
+     * @param etat État observé par le joueur courant, au dernier tour
+     * @return Évaluation, ou null si la position n'est pas au dernier tour
+     *         ou dépasse les budgets du solveur
+     */
+    public Evaluation evaluer(EtatPartie etat) {
+        if (!estDernierTour(etat)) {
+            return null;
+        }
+        long repartitions = compterRepartitions(etat);
+        if (repartitions > maxRepartitions) {
+            return null;
+        }
+        Recherche recherche = new Recherche(etat);
+        recherche.enumerer(0, recherche.tailles.length > 0 ? recherche.tailles[0] : 0,
+                etat.getMasqueInconnues(recherche.siege), 0, 0);
+        if (recherche.abandonnee) {
+            return null;
+        }
+
+        double[] esperances = new double[recherche.actions.length];
+        for (int i = 0; i < esperances.length; i++) {
+            esperances[i] = recherche.sommes[i] / recherche.repartitions;
+        }
+        return new Evaluation(recherche.actions, esperances, recherche.repartitions, recherche.table.taille);
+    }
+
+    /**
+     * Énumération et recherche pour une évaluation (état de travail non partagé).
+     */
+    private final class Recherche {
+        final EtatPartie observe;
+        final int siege;
+        final int n;
+        final int[] actions;
+        final int[] tailles;
+        final int[] ordre;
+        final double[] sommes;
+        final TableTranspositions table;
+        final JestCompact[] tampons;
+        final MoteurTrophees moteur;
+        final int[] scores;
+        final int[][] actionsParProfondeur;
+        long repartitions;
+        boolean abandonnee;
+        private long cleBasse;
+        private long cleHaute;
+
+        Recherche(EtatPartie observe) {
+            this.observe = observe;
+            this.siege = observe.getJoueurCourant();
+            this.n = observe.getNbJoueurs();
+            int[] legales = new int[EtatPartie.MAX_ACTIONS];
+            this.actions = Arrays.copyOf(legales, observe.actionsLegales(legales));
+            this.tailles = taillesEmplacements(observe, siege);
+            this.ordre = new int[Integer.bitCount(observe.getMasqueInconnues(siege))];
+            this.sommes = new double[actions.length];
+            this.table = new TableTranspositions();
+            this.tampons = observe.creerTampons();
+            this.moteur = new MoteurTrophees();
+            this.scores = new int[n];
+            // Au plus 3n décisions par tour
+            this.actionsParProfondeur = new int[3 * n + 1][EtatPartie.MAX_ACTIONS];
+        }
+
+        /**
+         * Choisit les cartes de l'emplacement courant (combinaisons en ordre croissant),
+         * puis passe à l'emplacement suivant ; les cartes restantes forment la pioche.
+         */
+        void enumerer(int emplacement, int reste, int disponibles, int depuis, int position) {
+            if (reste == 0) {
+                if (emplacement + 1 < tailles.length) {
+                    enumerer(emplacement + 1, tailles[emplacement + 1], disponibles, 0, position);
+                } else {
+                    for (int m = disponibles; m != 0; m &= m - 1) {
+                        ordre[position++] = Integer.numberOfTrailingZeros(m);
+                    }
+                    evaluerRepartition(observe.redistribuer(siege, ordre));
+                }
+                return;
+            }
+            for (int m = disponibles & (-1 << depuis); m != 0 && !abandonnee; m &= m - 1) {
+                int carte = Integer.numberOfTrailingZeros(m);
+                ordre[position] = carte;
+                enumerer(emplacement, reste - 1, disponibles & ~(1 << carte), carte + 1, position + 1);
+            }
+        }
+
+        void evaluerRepartition(EtatPartie etat) {
+            repartitions++;
+            for (int i = 0; i < actions.length; i++) {
+                sommes[i] += resoudre(etat.appliquer(actions[i]), 0)[siege];
+            }
+        }
+
+        /**
+         * Valeur d'une position déterminisée : score final de chaque joueur.
+         */
+        double[] resoudre(EtatPartie etat, int profondeur) {
+            if (etat.getPhase() == EtatPartie.Phase.DISTRIBUTION) {
+                etat = etat.terminer();
+            }
+            calculerCle(etat);
+            long basse = cleBasse;
+            long haute = cleHaute;
+            double[] valeur = table.chercher(basse, haute);
+            if (valeur != null || abandonnee) {
+                return valeur != null ? valeur : new double[n];
+            }
+
+            if (etat.getPhase() == EtatPartie.Phase.TERMINEE) {
+                etat.determinerVainqueur(tampons, scores, moteur);
+                valeur = new double[n];
+                for (int p = 0; p < n; p++) {
+                    valeur[p] = scores[p];
+                }
+            } else {
+                int joueur = etat.getJoueurCourant();
+                int[] coups = actionsParProfondeur[profondeur];
+                int nb = etat.actionsLegales(coups);
+                if (modele == ModeleAdversaires.ALEATOIRES && joueur != siege) {
+                    valeur = new double[n];
+                    for (int i = 0; i < nb; i++) {
+                        double[] suite = resoudre(etat.appliquer(coups[i]), profondeur + 1);
+                        for (int p = 0; p < n; p++) {
+                            valeur[p] += suite[p] / nb;
+                        }
+                    }
+                } else {
+                    for (int i = 0; i < nb; i++) {
+                        double[] suite = resoudre(etat.appliquer(coups[i]), profondeur + 1);
+                        if (valeur == null || suite[joueur] > valeur[joueur]) {
+                            valeur = suite;
+                        }
+                    }
+                }
+            }
+            if (table.taille >= maxPositions) {
+                abandonnee = true;
+            } else {
+                table.ajouter(basse, haute, valeur);
+            }
+            return valeur;
+        }
+
+        /**
+         * Calcule la clé de la position : emplacement de chaque carte sur 5 bits, 0 (pioche),
+         * 1 + siège (Jest), 5 + siège (main), 9 + siège (offre, visible), 13 + siège (offre, cachée) ;
+         * cartes 0 à 11 dans la partie basse, cartes 12 à 20 puis phase, joueur courant et joueurs
+         * ayant joué dans la partie haute, dont le bit 63 est toujours levé.
+         */
+        private void calculerCle(EtatPartie etat) {
+            cleBasse = 0;
+            cleHaute = 1L << 63;
+            for (int p = 0; p < n; p++) {
+                placer(etat.getMasqueJest(p), 1 + p);
+                placer(etat.getMasqueMain(p), 5 + p);
+                placer(etat.getMasqueOffreVisible(p), 9 + p);
+                if (etat.getCarteCachee(p) != EtatPartie.AUCUNE) {
+                    placer(1 << etat.getCarteCachee(p), 13 + p);
+                }
+                if (etat.aJoue(p)) {
+                    cleHaute |= 1L << (49 + p);
+                }
+            }
+            cleHaute |= (long) etat.getPhase().ordinal() << 45;
+            cleHaute |= (long) etat.getJoueurCourant() << 47;
+        }
+
+        private void placer(int masque, long code) {
+            for (int m = masque; m != 0; m &= m - 1) {
+                int carte = Integer.numberOfTrailingZeros(m);
+                if (carte < 12) {
+                    cleBasse |= code << (5 * carte);
+                } else {
+                    cleHaute |= code << (5 * (carte - 12));
+                }
+            }
+        }
+    }
+
+    /**
+     * Table de transpositions à adressage ouvert : clé sur 128 bits (deux longs),
+     * valeur = scores finaux de la position.
+     */
+    private static final class TableTranspositions {
+        private long[] cles;
+        private double[][] valeurs;
+        private int taille;
+
+        TableTranspositions() {
+            this.cles = new long[2 * 1024];
+            this.valeurs = new double[1024][];
+        }
+
+        double[] chercher(long basse, long haute) {
+            int masque = valeurs.length - 1;
+            for (int i = indice(basse, haute, masque); cles[2 * i + 1] != 0; i = (i + 1) & masque) {
+                if (cles[2 * i] == basse && cles[2 * i + 1] == haute) {
+                    return valeurs[i];
+                }
+            }
+            return null;
+        }
+
+        void ajouter(long basse, long haute, double[] valeur) {
+            if (2 * (taille + 1) > valeurs.length) {
+                agrandir();
+            }
+            inserer(basse, haute, valeur);
+            taille++;
+        }
+
+        private void inserer(long basse, long haute, double[] valeur) {
+            int masque = valeurs.length - 1;
+            int i = indice(basse, haute, masque);
+            while (cles[2 * i + 1] != 0) {
+                i = (i + 1) & masque;
+            }
+            cles[2 * i] = basse;
+            cles[2 * i + 1] = haute;
+            valeurs[i] = valeur;
+        }
+
+        private void agrandir() {
+            long[] anciennesCles = cles;
+            double[][] anciennesValeurs = valeurs;
+            cles = new long[2 * anciennesCles.length];
+            valeurs = new double[2 * anciennesValeurs.length][];
+            for (int i = 0; i < anciennesValeurs.length; i++) {
+                if (anciennesCles[2 * i + 1] != 0) {
+                    inserer(anciennesCles[2 * i], anciennesCles[2 * i + 1], anciennesValeurs[i]);
+                }
+            }
+        }
+
+        private static int indice(long basse, long haute, int masque) {
+            long h = basse * 0x9E3779B97F4A7C15L ^ haute * 0xC2B2AE3D27D4EB4FL;
+            return (int) (h ^ (h >>> 32)) & masque;
+        }
+    }
+}
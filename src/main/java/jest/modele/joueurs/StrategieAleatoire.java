@@ -2,37 +2,68 @@ package jest.modele.joueurs;
 
 import jest.modele.cartes.Carte;
 import jest.modele.jeu.Offre;
+import jest.modele.jeu.Partie;
 import java.util.*;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Stratégie aléatoire : tous les choix sont faits au hasard.
- * Utilisation basique
+ * Utilisation basique.
+ * Sans générateur imposé, les tirages proviennent d'un générateur dérivé de la graine
+ * de la partie rejointe (partie reproductible).
  */
 public class StrategieAleatoire implements StrategieJeu {
-    private Random random;
+    private static final long serialVersionUID = 1L;
+    private transient RandomGenerator random; // non sérialisable, recréé si besoin
+    private final boolean generateurImpose;
     
     /**
      * Constructeur de StrategieAleatoire.
      */
     public StrategieAleatoire() {
-        this.random = new Random();
+        this.random = null;
+        this.generateurImpose = false;
+    }
+    
+    /**
+     * Constructeur de StrategieAleatoire avec un générateur imposé.
+     * @param random Générateur des choix
+     */
+    public StrategieAleatoire(RandomGenerator random) {
+        this.random = random;
+        this.generateurImpose = true;
+    }
+    
+    @Override
+    public void observerPartie(Partie partie, Joueur joueur) {
+        if (!generateurImpose) {
+            random = partie.creerGenerateur();
+        }
+    }
+    
+    private RandomGenerator generateur() {
+        if (random == null) {
+            random = new SplittableRandom(); // hors partie, ou stratégie désérialisée
+        }
+        return random;
     }
     
     @Override
     public Carte choisirCarteOffre(List<Carte> main, Jest jest) {
-        return main.get(random.nextInt(main.size()));
+        return main.get(generateur().nextInt(main.size()));
     }
     
     @Override
     public Offre choisirOffreCible(List<Offre> offres, Jest jest) {
-        return offres.get(random.nextInt(offres.size()));
+        return offres.get(generateur().nextInt(offres.size()));
     }
     
     @Override
     public Carte choisirCarteDansOffre(Offre offre, Jest jest) {
         List<Carte> cartesDisponibles = new ArrayList<>(offre.getCartesVisibles());
-        cartesDisponibles.add(offre.getCarteCachee());
-        return cartesDisponibles.get(random.nextInt(cartesDisponibles.size()));
+        if (offre.getCarteCachee() != null) {
+            cartesDisponibles.add(offre.getCarteCachee());
+        }
+        return cartesDisponibles.get(generateur().nextInt(cartesDisponibles.size()));
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package jest.modele.joueurs;
 
 import jest.modele.cartes.Carte;
 import jest.modele.jeu.Offre;
+import jest.modele.jeu.Partie;
 import java.util.List;
 import java.io.Serializable;
 
@@ -34,4 +35,14 @@ public interface StrategieJeu extends Serializable {
      * @return Carte choisie
      */
     Carte choisirCarteDansOffre(Offre offre, Jest jest);
+    
+    /**
+     * Donne accès à la partie en cours, pour les stratégies qui raisonnent
+     * sur l'état complet du jeu (Jests adverses, pioche, trophées).
+     * Par défaut la stratégie n'en a pas besoin.
+     * @param partie Partie rejointe
+     * @param joueur Joueur virtuel utilisant la stratégie
+     */
+    default void observerPartie(Partie partie, Joueur joueur) {
+    }
 }
\ No newline at end of file
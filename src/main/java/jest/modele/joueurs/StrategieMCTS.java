@@ -0,0 +1,251 @@
+package jest.modele.joueurs;
+
+import jest.modele.cartes.Carte;
+import jest.modele.jeu.EtatPartie;
+import jest.modele.jeu.Offre;
+import jest.modele.jeu.Partie;
+import jest.modele.score.MoteurTrophees;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Stratégie par recherche arborescente Monte-Carlo sur ensembles d'information (ISMCTS).
+ * À chaque décision, les cartes inconnues (cartes cachées adverses, mains non jouées, pioche)
+ * sont tirées au hasard de façon compatible avec ce que le joueur a observé ; l'arbre couvre
+ * le tour en cours, puis la partie est terminée par des simulations aléatoires.
+ * La recherche est bornée par un nombre d'itérations et/ou une durée, et parallélisée
+ * à la racine : un arbre indépendant par thread, les visites étant additionnées à la fin.
+ * Sans partie en cours (joueur hors d'une Partie), la stratégie gloutonne est utilisée.
+ */
+public class StrategieMCTS implements StrategieJeu {
+    private static final long serialVersionUID = 1L;
+    /** Constante d'exploration UCB. */
+    private static final double EXPLORATION = 0.7;
+
+    private final int iterations;
+    private final long dureeMaxMs;
+    private final int parallelisme;
+    private final StrategieJeu repli;
+
+    private transient Partie partie;
+    private transient Joueur joueur;
+    private transient Carte carteVisee;
+    private transient SplittableGenerator random;
+
+    /**
+     * Constructeur de StrategieMCTS.
+     * 1000 itérations par décision, sans limite de durée, sur tous les coeurs.
+     */
+    public StrategieMCTS() {
+        this(1000, 0, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructeur de StrategieMCTS.
+     * @param iterations Nombre total d'itérations par décision (0 : limité par la durée seule)
+     * @param dureeMaxMs Durée maximale par décision en millisecondes (0 : sans limite)
+     * @param parallelisme Nombre d'arbres explorés en parallèle
+     */
+    public StrategieMCTS(int iterations, long dureeMaxMs, int parallelisme) {
+        if (iterations <= 0 && dureeMaxMs <= 0) {
+            throw new IllegalArgumentException("Un budget d'itérations ou de durée est nécessaire");
+        }
+        this.iterations = iterations;
+        this.dureeMaxMs = dureeMaxMs;
+        this.parallelisme = Math.max(1, parallelisme);
+        this.repli = new StrategieGloutonne();
+    }
+
+    @Override
+    public void observerPartie(Partie partie, Joueur joueur) {
+        this.partie = partie;
+        this.joueur = joueur;
+        this.random = partie.creerGenerateur();
+    }
+
+    @Override
+    public Carte choisirCarteOffre(List<Carte> main, Jest jest) {
+        EtatPartie etat = observer();
+        if (etat == null) {
+            return repli.choisirCarteOffre(main, jest);
+        }
+        int action = rechercher(etat);
+        for (Carte carte : main) {
+            if (carte.getIndex() == action) {
+                return carte;
+            }
+        }
+        return repli.choisirCarteOffre(main, jest);
+    }
+
+    @Override
+    public Offre choisirOffreCible(List<Offre> offres, Jest jest) {
+        carteVisee = null;
+        EtatPartie etat = observer();
+        if (etat == null) {
+            return repli.choisirOffreCible(offres, jest);
+        }
+        int action = rechercher(etat);
+        for (Offre offre : offres) {
+            if (action >= EtatPartie.ACTION_CACHEE) {
+                if (partie.getJoueurs().indexOf(offre.getProprietaire()) == action - EtatPartie.ACTION_CACHEE) {
+                    carteVisee = offre.getCarteCachee();
+                    return offre;
+                }
+            } else {
+                for (Carte carte : offre.getCartesVisibles()) {
+                    if (carte.getIndex() == action) {
+                        carteVisee = carte;
+                        return offre;
+                    }
+                }
+            }
+        }
+        return repli.choisirOffreCible(offres, jest);
+    }
+
+    @Override
+    public Carte choisirCarteDansOffre(Offre offre, Jest jest) {
+        Carte carte = carteVisee;
+        carteVisee = null;
+        if (carte != null && offre.getCartesRestantes().contains(carte)) {
+            return carte;
+        }
+        return repli.choisirCarteDansOffre(offre, jest);
+    }
+
+    /**
+     * Capture l'état de la partie au moment où le joueur doit décider.
+     * L'état contient les cartes cachées réelles : la recherche ne l'utilise qu'à travers
+     * {@link EtatPartie#redistribuer}, qui remélange tout ce que le joueur ne voit pas.
+     * @return État courant, ou null hors d'une partie en cours
+     */
+    private EtatPartie observer() {
+        if (partie == null || joueur == null || partie.getTourEnCours() == null) {
+            return null;
+        }
+        EtatPartie etat = EtatPartie.depuis(partie);
+        if (etat.getJoueurCourant() != partie.getJoueurs().indexOf(joueur)) {
+            return null;
+        }
+        return etat;
+    }
+
+    /**
+     * Lance la recherche et retourne l'action la plus visitée à la racine.
+     * @param etat État courant, le joueur de la stratégie devant agir
+     * @return Action choisie
+     */
+    private int rechercher(EtatPartie etat) {
+        int[] actions = new int[EtatPartie.MAX_ACTIONS];
+        int nb = etat.actionsLegales(actions);
+        if (nb == 1) {
+            return actions[0];
+        }
+        if (random == null) {
+            random = new SplittableRandom();
+        }
+        long echeance = dureeMaxMs > 0 ? System.nanoTime() + dureeMaxMs * 1_000_000L : Long.MAX_VALUE;
+        int parArbre = iterations > 0 ? (iterations + parallelisme - 1) / parallelisme : Integer.MAX_VALUE;
+
+        int[] visites;
+        if (parallelisme == 1) {
+            visites = explorer(etat, random.split(), parArbre, echeance);
+        } else {
+            List<Callable<int[]>> arbres = new ArrayList<>(parallelisme);
+            for (int i = 0; i < parallelisme; i++) {
+                SplittableGenerator graine = random.split();
+                arbres.add(() -> explorer(etat, graine, parArbre, echeance));
+            }
+            visites = new int[2 * EtatPartie.ACTION_CACHEE];
+            try {
+                for (Future<int[]> arbre : ForkJoinPool.commonPool().invokeAll(arbres)) {
+                    int[] v = arbre.get();
+                    for (int a = 0; a < visites.length; a++) {
+                        visites[a] += v[a];
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return actions[0];
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Échec de la recherche MCTS", e.getCause());
+            }
+        }
+
+        int meilleure = actions[0];
+        for (int i = 1; i < nb; i++) {
+            if (visites[actions[i]] > visites[meilleure]) {
+                meilleure = actions[i];
+            }
+        }
+        return meilleure;
+    }
+
+    /**
+     * Explore un arbre : sélection, développement, simulation, rétropropagation.
+     * @param observe État observé par le joueur de la stratégie (joueur courant)
+     * @param random Générateur propre à cet arbre
+     * @param maxIterations Nombre maximal d'itérations
+     * @param echeance Instant limite (System.nanoTime)
+     * @return Visites de chaque action de la racine, indexées par action
+     */
+    private static int[] explorer(EtatPartie observe, SplittableGenerator random,
+                                  int maxIterations, long echeance) {
+        int siege = observe.getJoueurCourant();
+        NoeudMCTS racine = new NoeudMCTS(null, -1, -1);
+        JestCompact[] tampons = observe.creerTampons();
+        MoteurTrophees moteur = new MoteurTrophees();
+        int[] scores = new int[observe.getNbJoueurs()];
+        int[] actions = new int[EtatPartie.MAX_ACTIONS];
+        int[] nonEssayees = new int[EtatPartie.MAX_ACTIONS];
+
+        for (int it = 0; it < maxIterations && (it == 0 || System.nanoTime() < echeance); it++) {
+            EtatPartie etat = observe.redistribuer(siege, random);
+            NoeudMCTS noeud = racine;
+
+            // Sélection et développement, jusqu'à la fin du tour en cours
+            while (etat.getPhase() == EtatPartie.Phase.OFFRES || etat.getPhase() == EtatPartie.Phase.PRISES) {
+                int nb = etat.actionsLegales(actions);
+                int nbNonEssayees = 0;
+                for (int i = 0; i < nb; i++) {
+                    if (noeud.enfant(actions[i]) == null) {
+                        nonEssayees[nbNonEssayees++] = actions[i];
+                    }
+                }
+                if (nbNonEssayees > 0) {
+                    int action = nonEssayees[random.nextInt(nbNonEssayees)];
+                    noeud = noeud.developper(action, etat.getJoueurCourant());
+                    etat = etat.appliquer(action);
+                    break;
+                }
+                noeud = noeud.selectionner(actions, nb, EXPLORATION);
+                etat = etat.appliquer(noeud.getAction());
+            }
+
+            // Simulation aléatoire jusqu'à la fin de la partie
+            while (etat.getPhase() != EtatPartie.Phase.TERMINEE) {
+                if (etat.getPhase() == EtatPartie.Phase.DISTRIBUTION) {
+                    etat = etat.avancer(random);
+                } else {
+                    int nb = etat.actionsLegales(actions);
+                    etat = etat.appliquer(actions[random.nextInt(nb)]);
+                }
+            }
+            noeud.retropropager(etat.determinerVainqueur(tampons, scores, moteur));
+        }
+
+        int[] visites = new int[2 * EtatPartie.ACTION_CACHEE];
+        for (NoeudMCTS enfant : racine.getEnfants()) {
+            visites[enfant.getAction()] = enfant.getVisites();
+        }
+        return visites;
+    }
+}
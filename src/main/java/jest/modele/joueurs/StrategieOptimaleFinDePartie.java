@@ -0,0 +1,116 @@
+package jest.modele.joueurs;
+
+import jest.modele.cartes.Carte;
+import jest.modele.jeu.EtatPartie;
+import jest.modele.jeu.Offre;
+import jest.modele.jeu.Partie;
+
+import java.util.List;
+
+/**
+ * Stratégie exacte en fin de partie : au dernier tour, chaque décision maximise l'espérance
+ * du score final calculée par le {@link SolveurFinDePartie}. Avant le dernier tour, ou si la
+ * position dépasse les budgets du solveur, une stratégie de repli décide.
+ * Permet aussi de mesurer l'écart des stratégies heuristiques à l'optimum en fin de partie.
+ */
+public class StrategieOptimaleFinDePartie implements StrategieJeu {
+    private static final long serialVersionUID = 1L;
+
+    private final StrategieJeu repli;
+    private final long maxRepartitions;
+    private final int maxPositions;
+
+    private transient Partie partie;
+    private transient Joueur joueur;
+    private transient Carte carteVisee;
+
+    /**
+     * Constructeur de StrategieOptimaleFinDePartie.
+     * Repli sur la stratégie gloutonne.
+     */
+    public StrategieOptimaleFinDePartie() {
+        this(new StrategieGloutonne(), SolveurFinDePartie.MAX_REPARTITIONS_PAR_DEFAUT,
+                SolveurFinDePartie.MAX_POSITIONS_PAR_DEFAUT);
+    }
+
+    /**
+     * Constructeur de StrategieOptimaleFinDePartie.
+     * @param repli Stratégie utilisée avant le dernier tour
+     * @param maxRepartitions Nombre maximal de répartitions énumérées par décision
+     * @param maxPositions Nombre maximal de positions mémorisées par décision
+     */
+    public StrategieOptimaleFinDePartie(StrategieJeu repli, long maxRepartitions, int maxPositions) {
+        this.repli = repli;
+        this.maxRepartitions = maxRepartitions;
+        this.maxPositions = maxPositions;
+    }
+
+    @Override
+    public void observerPartie(Partie partie, Joueur joueur) {
+        this.partie = partie;
+        this.joueur = joueur;
+        repli.observerPartie(partie, joueur);
+    }
+
+    @Override
+    public Carte choisirCarteOffre(List<Carte> main, Jest jest) {
+        int action = resoudre();
+        for (Carte carte : main) {
+            if (carte.getIndex() == action) {
+                return carte;
+            }
+        }
+        return repli.choisirCarteOffre(main, jest);
+    }
+
+    @Override
+    public Offre choisirOffreCible(List<Offre> offres, Jest jest) {
+        carteVisee = null;
+        int action = resoudre();
+        for (Offre offre : offres) {
+            if (action >= EtatPartie.ACTION_CACHEE) {
+                if (partie.getJoueurs().indexOf(offre.getProprietaire()) == action - EtatPartie.ACTION_CACHEE) {
+                    carteVisee = offre.getCarteCachee();
+                    return offre;
+                }
+            } else if (action >= 0) {
+                for (Carte carte : offre.getCartesVisibles()) {
+                    if (carte.getIndex() == action) {
+                        carteVisee = carte;
+                        return offre;
+                    }
+                }
+            }
+        }
+        return repli.choisirOffreCible(offres, jest);
+    }
+
+    @Override
+    public Carte choisirCarteDansOffre(Offre offre, Jest jest) {
+        Carte carte = carteVisee;
+        carteVisee = null;
+        if (carte != null && offre.getCartesRestantes().contains(carte)) {
+            return carte;
+        }
+        return repli.choisirCarteDansOffre(offre, jest);
+    }
+
+    /**
+     * Résout la position courante si elle est à la portée du solveur.
+     * L'état capturé contient les cartes cachées réelles : le solveur n'en retient que
+     * ce que le joueur voit et énumère toutes les répartitions du reste.
+     * @return Meilleure action, ou -1 si la stratégie de repli doit décider
+     */
+    private int resoudre() {
+        if (partie == null || joueur == null || partie.getTourEnCours() == null) {
+            return -1;
+        }
+        EtatPartie etat = EtatPartie.depuis(partie);
+        if (etat.getJoueurCourant() != partie.getJoueurs().indexOf(joueur)) {
+            return -1;
+        }
+        SolveurFinDePartie.Evaluation evaluation = new SolveurFinDePartie(
+                SolveurFinDePartie.ModeleAdversaires.RATIONNELS, maxRepartitions, maxPositions).evaluer(etat);
+        return evaluation != null ? evaluation.meilleureAction() : -1;
+    }
+}
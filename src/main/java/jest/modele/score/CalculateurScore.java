@@ -1,34 +1,66 @@
 package jest.modele.score;
 
+import jest.modele.cartes.Carte;
+import jest.modele.cartes.Couleur;
 import jest.modele.joueurs.Jest;
+import jest.modele.joueurs.JestCompact;
 
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Calculateur central des scores du jeu Jest.
- * Utilise le pattern Visitor pour appliquer les règles de scoring.
- * Orchestre plusieurs visiteurs et agrège leurs résultats.
+ * Les règles standard (Piques, Trèfles, Carreaux, Cœurs/Joker, paires noires, extension magique)
+ * sont évaluées en une seule fois sur la représentation compacte du Jest.
+ * Le pattern Visitor reste disponible pour des règles supplémentaires,
+ * ajoutées au calculateur via {@link #ajouterRegle(VisiteurScore)}.
+ * <p>
+ * Le calcul ne modifie pas le calculateur : les règles standard n'ont pas d'état et les visiteurs
+ * retournent leurs points au lieu de les accumuler. Une même instance peut donc servir à un
+ * nombre quelconque de parties simultanées, sans verrou ni allocation par partie ;
+ * {@link #standard()} fournit l'instance partagée, sans règle supplémentaire.
  */
 public class CalculateurScore implements Serializable {
     private static final long serialVersionUID = 1L;
-    private List<VisiteurScore> visiteurs;
-    
+    private static final CalculateurScore STANDARD = new CalculateurScore(List.of());
+
+    private List<VisiteurScore> reglesSupplementaires;
+
     /**
      * Constructeur de CalculateurScore.
-     * Initialise tous les visiteurs de scoring.
+     * Aucune règle supplémentaire par défaut.
      */
     public CalculateurScore() {
-        this.visiteurs = new ArrayList<>();
-        visiteurs.add(new VisiteurPiques());
-        visiteurs.add(new VisiteurTrefles());
-        visiteurs.add(new VisiteurCarreaux());
-        visiteurs.add(new VisiteurCoeurs());
-        visiteurs.add(new VisiteurPairesNoires());
-        visiteurs.add(new VisiteurExtensionMagique());
+        this(new CopyOnWriteArrayList<>());
+    }
+
+    private CalculateurScore(List<VisiteurScore> reglesSupplementaires) {
+        this.reglesSupplementaires = reglesSupplementaires;
+    }
+
+    /**
+     * Retourne le calculateur partagé des règles standard.
+     * Utilisable depuis plusieurs threads ; il n'accepte pas de règle supplémentaire.
+     * @return Calculateur standard partagé
+     */
+    public static CalculateurScore standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Ajoute une règle de score personnalisée, appliquée en plus des règles standard.
+     * L'ajout est visible des calculs suivants, y compris ceux d'autres threads.
+     * @param regle Visiteur implémentant la règle (sans état)
+     * @throws UnsupportedOperationException Sur le calculateur partagé {@link #standard()}
+     */
+    public void ajouterRegle(VisiteurScore regle) {
+        if (this == STANDARD) {
+            throw new UnsupportedOperationException("Le calculateur standard est partagé : créer un CalculateurScore");
+        }
+        reglesSupplementaires.add(regle);
     }
-    
+
     /**
      * Calcule le score total d'un Jest.
      * @param jest Jest à évaluer
@@ -37,7 +69,7 @@ public class CalculateurScore implements Serializable {
     public int calculerScore(Jest jest) {
         return calculerScore(jest, false);
     }
-    
+
     /**
      * Calcule le score d'un Jest, avec option d'exclure les trophées.
      * @param jest Jest à évaluer
@@ -45,53 +77,181 @@ public class CalculateurScore implements Serializable {
      * @return Score total
      */
     public int calculerScore(Jest jest, boolean sansTrophees) {
-        // Réinitialiser tous les visiteurs
-        for (VisiteurScore visiteur : visiteurs) {
-            visiteur.reset();
+        return calculerScore(jest.getCompact(), sansTrophees) + calculerAutres(jest, sansTrophees);
+    }
+
+    /**
+     * Calcule le score d'un Jest compact selon les règles standard.
+     * Un Jest de cartes standard (16 cartes et Joker) évalué sans trophée est lu dans une table
+     * précalculée ; les autres sont calculés par opérations bit à bit, sans parcours de liste
+     * ni allocation.
+     * @param jest Jest compact à évaluer
+     * @param sansTrophees true pour calculer sans effet des trophées
+     * @return Score total
+     */
+    public int calculerScore(JestCompact jest, boolean sansTrophees) {
+        int cartes = jest.getMasqueCartes();
+        if ((cartes & ~TableStandard.MASQUE) == 0 && (sansTrophees || jest.getMasqueTrophees() == 0)) {
+            return TableStandard.SCORES[cartes];
+        }
+        return calculerStandard(jest, cartesVisitees(jest, sansTrophees));
+    }
+
+    /**
+     * Applique les règles standard aux cartes évaluées.
+     */
+    private static int calculerStandard(JestCompact jest, int visitees) {
+        return scoreCouleur(jest, visitees, Couleur.PIQUE)
+                + scoreCouleur(jest, visitees, Couleur.TREFLE)
+                - scoreCouleur(jest, visitees, Couleur.CARREAU)
+                + scoreCoeurs(jest, visitees)
+                + scorePairesNoires(jest)
+                + scoreMagie(jest, visitees);
+    }
+
+    /**
+     * Calcule le détail du score d'un Jest en une seule évaluation.
+     * @param jest Jest à évaluer
+     * @param sansTrophees true pour calculer sans effet des trophées
+     * @return Détail immuable du score
+     */
+    public DetailScore calculerDetail(Jest jest, boolean sansTrophees) {
+        JestCompact compact = jest.getCompact();
+        int visitees = cartesVisitees(compact, sansTrophees);
+        return new DetailScore(
+                scoreCouleur(compact, visitees, Couleur.PIQUE),
+                scoreCouleur(compact, visitees, Couleur.TREFLE),
+                -scoreCouleur(compact, visitees, Couleur.CARREAU),
+                scoreCoeurs(compact, visitees),
+                scorePairesNoires(compact),
+                scoreMagie(compact, visitees),
+                calculerAutres(jest, sansTrophees));
+    }
+
+    /**
+     * Applique les règles supplémentaires au Jest.
+     * @param jest Jest à évaluer
+     * @param sansTrophees true pour ignorer les trophées
+     * @return Somme des scores partiels des règles supplémentaires
+     */
+    private int calculerAutres(Jest jest, boolean sansTrophees) {
+        if (reglesSupplementaires.isEmpty()) {
+            return 0;
+        }
+        int autres = 0;
+        for (VisiteurScore regle : reglesSupplementaires) {
+            autres += jest.accepterVisiteur(regle, sansTrophees);
+        }
+        return autres;
+    }
+
+    /**
+     * Masque des cartes évaluées : cartes du Jest, et trophées si demandés.
+     */
+    private static int cartesVisitees(JestCompact jest, boolean sansTrophees) {
+        return sansTrophees ? jest.getMasqueCartes() : jest.getMasqueCartes() | jest.getMasqueTrophees();
+    }
+
+    /**
+     * Somme des valeurs effectives d'une couleur (signe appliqué par l'appelant).
+     * La valeur de l'As dépend du nombre de cartes de sa couleur dans le Jest.
+     */
+    private static int scoreCouleur(JestCompact jest, int visitees, Couleur couleur) {
+        return JestCompact.sommeValeurs(JestCompact.masqueCouleur(visitees, couleur),
+                jest.compterCartesCouleur(couleur));
+    }
+
+    /**
+     * Cœurs et Joker :
+     * - Sans Joker : Cœurs valent 0
+     * - Avec Joker + 1-3 Cœurs : Cœurs valent négatif
+     * - Avec Joker + 4 Cœurs : Cœurs valent positif
+     * - Joker sans Cœur : bonus +4
+     */
+    private static int scoreCoeurs(JestCompact jest, int visitees) {
+        int nbCoeurs = jest.compterCartesCouleur(Couleur.COEUR);
+        int score = 0;
+        if (jest.contientJoker() && nbCoeurs > 0) {
+            int coeurs = scoreCouleur(jest, visitees, Couleur.COEUR);
+            score += nbCoeurs == 4 ? coeurs : -coeurs;
         }
-        
-        // Faire visiter le Jest par tous les visiteurs
-        for (VisiteurScore visiteur : visiteurs) {
-            jest.accepterVisiteur(visiteur, sansTrophees);
+        if ((visitees & JestCompact.BIT_JOKER) != 0 && nbCoeurs == 0) {
+            score += 4;
         }
-        
-        // Agréger les scores partiels
-        int scoreBase = 0;
-        for (VisiteurScore visiteur : visiteurs) {
-            scoreBase += visiteur.getScorePartiel();
+        return score;
+    }
+
+    /**
+     * Paire noire (Pique + Trèfle de même valeur parmi les cartes) : +2 points.
+     */
+    private static int scorePairesNoires(JestCompact jest) {
+        return 2 * jest.compterPairesNoires();
+    }
+
+    /**
+     * Cartes de l'extension magique.
+     */
+    private static int scoreMagie(JestCompact jest, int visitees) {
+        if ((visitees & JestCompact.MASQUE_MAGIQUES) == 0) {
+            return 0;
         }
-        return scoreBase;
+        int score = 0;
+        if ((visitees & (1 << Carte.INDEX_MULTIPLICATEUR)) != 0) {
+            score += jest.sommeValeursCouleur(Couleur.PIQUE);
+        }
+        if ((visitees & (1 << Carte.INDEX_BOUCLIER)) != 0) {
+            score += jest.sommeValeursCouleur(Couleur.CARREAU);
+        }
+        if ((visitees & (1 << Carte.INDEX_CHANCE)) != 0) {
+            score += jest.getValeurChance();
+        }
+        if ((visitees & (1 << Carte.INDEX_MALCHANCE)) != 0) {
+            score += jest.getValeurMalchance();
+        }
+        return score;
     }
-    
+
+    /**
+     * Scores de tous les Jests de cartes standard, sans trophée : 2^17 entrées (256 Ko),
+     * indexées par le masque des cartes. Calculée au premier usage par les règles standard
+     * elles-mêmes, la table leur reste identique par construction.
+     */
+    private static final class TableStandard {
+        static final int MASQUE = JestCompact.MASQUE_STANDARD | JestCompact.BIT_JOKER;
+        static final short[] SCORES = generer();
+
+        private static short[] generer() {
+            short[] scores = new short[MASQUE + 1];
+            JestCompact jest = new JestCompact();
+            for (int cartes = 0; cartes <= MASQUE; cartes++) {
+                jest.definir(cartes, 0);
+                scores[cartes] = (short) calculerStandard(jest, cartes);
+            }
+            return scores;
+        }
+    }
+
+    /**
+     * Un calculateur relu sans règle supplémentaire est remplacé par l'instance partagée ;
+     * sinon ses règles sont recopiées dans une liste sûre entre threads.
+     * @return Calculateur à utiliser
+     */
+    private Object readResolve() {
+        if (reglesSupplementaires == null || reglesSupplementaires.isEmpty()) {
+            return STANDARD;
+        }
+        if (!(reglesSupplementaires instanceof CopyOnWriteArrayList)) {
+            reglesSupplementaires = new CopyOnWriteArrayList<>(reglesSupplementaires);
+        }
+        return this;
+    }
+
     /**
      * Affiche le détail du calcul de score (debug/affichage).
      * @param jest Jest à analyser
      * @return Description détaillée
      */
     public String afficherDetailScore(Jest jest) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("Détail du calcul de score :\n");
-        
-        // Réinitialiser et visiter
-        for (VisiteurScore visiteur : visiteurs) {
-            visiteur.reset();
-            jest.accepterVisiteur(visiteur, false);
-        }
-        
-        // Afficher chaque composante
-        sb.append("  Piques:        ").append(visiteurs.get(0).getScorePartiel()).append("\n");
-        sb.append("  Trèfles:       ").append(visiteurs.get(1).getScorePartiel()).append("\n");
-        sb.append("  Carreaux:      ").append(visiteurs.get(2).getScorePartiel()).append("\n");
-        sb.append("  Coeurs/Joker:   ").append(visiteurs.get(3).getScorePartiel()).append("\n");
-        sb.append("  Paires noires: ").append(visiteurs.get(4).getScorePartiel()).append("\n");
-        sb.append("  Extension Magique: ").append(visiteurs.get(5).getScorePartiel()).append("\n");
-        
-        int scoreBase = 0;
-        for (VisiteurScore v : visiteurs) {
-            scoreBase += v.getScorePartiel();
-        }
-        sb.append("  Score :    ").append(scoreBase).append("\n");
-        
-        return sb.toString();
+        return calculerDetail(jest, false).toString();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,88 @@
+package jest.modele.score;
+
+/**
+ * Détail immuable du score d'un Jest, composante par composante.
+ * Produit en une seule évaluation par {@link CalculateurScore#calculerDetail}.
+ */
+public final class DetailScore {
+    private final int piques;
+    private final int trefles;
+    private final int carreaux;
+    private final int coeurs;
+    private final int pairesNoires;
+    private final int magie;
+    private final int autres;
+
+    /**
+     * Constructeur de DetailScore.
+     * @param piques Points des Piques
+     * @param trefles Points des Trèfles
+     * @param carreaux Points des Carreaux (négatifs)
+     * @param coeurs Points des Cœurs et du Joker
+     * @param pairesNoires Bonus des paires noires
+     * @param magie Points des cartes de l'extension magique
+     * @param autres Points des règles supplémentaires (visiteurs ajoutés au calculateur)
+     */
+    public DetailScore(int piques, int trefles, int carreaux, int coeurs, int pairesNoires, int magie, int autres) {
+        this.piques = piques;
+        this.trefles = trefles;
+        this.carreaux = carreaux;
+        this.coeurs = coeurs;
+        this.pairesNoires = pairesNoires;
+        this.magie = magie;
+        this.autres = autres;
+    }
+
+    public int getPiques() {
+        return piques;
+    }
+
+    public int getTrefles() {
+        return trefles;
+    }
+
+    public int getCarreaux() {
+        return carreaux;
+    }
+
+    public int getCoeurs() {
+        return coeurs;
+    }
+
+    public int getPairesNoires() {
+        return pairesNoires;
+    }
+
+    public int getMagie() {
+        return magie;
+    }
+
+    public int getAutres() {
+        return autres;
+    }
+
+    /**
+     * Retourne le score total.
+     * @return Somme de toutes les composantes
+     */
+    public int getTotal() {
+        return piques + trefles + carreaux + coeurs + pairesNoires + magie + autres;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Détail du calcul de score :\n");
+        sb.append("  Piques:        ").append(piques).append("\n");
+        sb.append("  Trèfles:       ").append(trefles).append("\n");
+        sb.append("  Carreaux:      ").append(carreaux).append("\n");
+        sb.append("  Coeurs/Joker:   ").append(coeurs).append("\n");
+        sb.append("  Paires noires: ").append(pairesNoires).append("\n");
+        sb.append("  Extension Magique: ").append(magie).append("\n");
+        if (autres != 0) {
+            sb.append("  Autres règles: ").append(autres).append("\n");
+        }
+        sb.append("  Score :    ").append(getTotal()).append("\n");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,210 @@
+package jest.modele.score;
+
+import jest.modele.cartes.ConditionTrophee;
+import jest.modele.cartes.Couleur;
+import jest.modele.joueurs.JestCompact;
+import jest.modele.joueurs.Joueur;
+
+import java.util.List;
+
+/**
+ * Moteur d'attribution des trophées.
+ * Un seul parcours des Jests relève, pour chaque joueur, la plus haute et la plus basse carte
+ * de chaque couleur, le nombre de cartes de chaque valeur, la possession du Joker et le score
+ * de base, et retient au fil de l'eau le meilleur joueur de chaque condition. Chaque trophée
+ * en jeu est ensuite résolu par simple lecture de cette table.
+ * <p>
+ * Mêmes règles et bris d'égalité que {@link ConditionTrophee}. Les conditions de meilleur Jest
+ * portent sur les scores de base (sans trophées) fournis au moteur, et non sur
+ * {@link Joueur#getScore()} : le résultat ne dépend pas de l'ordre des calculs de la partie.
+ * Réutilisable sans allocation (les tampons de la liste des joueurs ne sont agrandis qu'au premier
+ * appel pour une partie plus grande) ; une instance ne doit pas être partagée entre threads.
+ */
+public final class MoteurTrophees {
+    private static final ConditionTrophee[] CONDITIONS = ConditionTrophee.values();
+    private static final Couleur[] COULEURS = {Couleur.PIQUE, Couleur.TREFLE, Couleur.CARREAU, Couleur.COEUR};
+
+    private final int[] gagnants;
+    private final int[] plusHaute;
+    private final int[] plusBasse;
+    private final int[] valeurHaute;
+    private final int[] valeurBasse;
+    private final int[] majorite;
+    private final int[] nombreMajorite;
+    private final int[] rangMajorite;
+    private JestCompact[] tamponJests; // Agrandis à la demande par analyser(List, CalculateurScore)
+    private int[] tamponScores;
+
+    /**
+     * Constructeur de MoteurTrophees.
+     */
+    public MoteurTrophees() {
+        this.gagnants = new int[CONDITIONS.length];
+        this.plusHaute = new int[COULEURS.length];
+        this.plusBasse = new int[COULEURS.length];
+        this.valeurHaute = new int[COULEURS.length];
+        this.valeurBasse = new int[COULEURS.length];
+        this.majorite = new int[4];
+        this.nombreMajorite = new int[4];
+        this.rangMajorite = new int[4];
+        this.tamponJests = new JestCompact[0];
+        this.tamponScores = new int[0];
+    }
+
+    /**
+     * Analyse les Jests des joueurs d'une partie.
+     * @param joueurs Joueurs, dans l'ordre des sièges
+     * @param calculateur Calculateur des scores de base (sans trophées)
+     */
+    public void analyser(List<Joueur> joueurs, CalculateurScore calculateur) {
+        int n = joueurs.size();
+        if (tamponJests.length < n) {
+            tamponJests = new JestCompact[n];
+            tamponScores = new int[n];
+        }
+        for (int i = 0; i < n; i++) {
+            tamponJests[i] = joueurs.get(i).getJest().getCompact();
+            tamponScores[i] = calculateur.calculerScore(joueurs.get(i).getJest(), true);
+        }
+        analyser(tamponJests, tamponScores, n);
+    }
+
+    /**
+     * Analyse des Jests compacts, en un seul parcours.
+     * @param jests Jest compact de chaque joueur
+     * @param scoresBase Score de base (sans trophées) de chaque joueur
+     */
+    public void analyser(JestCompact[] jests, int[] scoresBase) {
+        analyser(jests, scoresBase, jests.length);
+    }
+
+    private void analyser(JestCompact[] jests, int[] scoresBase, int nbJoueurs) {
+        for (int c = 0; c < COULEURS.length; c++) {
+            plusHaute[c] = -1;
+            plusBasse[c] = -1;
+            valeurHaute[c] = -1;
+            valeurBasse[c] = Integer.MAX_VALUE;
+        }
+        for (int v = 0; v < 4; v++) {
+            majorite[v] = -1;
+            nombreMajorite[v] = 0;
+            rangMajorite[v] = -1;
+        }
+        int joker = -1;
+        int meilleur = -1;
+        int meilleurSansJoker = -1;
+
+        for (int i = 0; i < nbJoueurs; i++) {
+            JestCompact jest = jests[i];
+            int cartes = jest.getMasqueCartes();
+
+            for (int c = 0; c < COULEURS.length; c++) {
+                int bits = JestCompact.masqueCouleur(cartes, COULEURS[c]);
+                if (bits != 0) {
+                    int haute = 31 - Integer.numberOfLeadingZeros(bits);
+                    int basse = Integer.numberOfTrailingZeros(bits);
+                    if (haute > valeurHaute[c]) {
+                        valeurHaute[c] = haute;
+                        plusHaute[c] = i;
+                    }
+                    if (basse < valeurBasse[c]) {
+                        valeurBasse[c] = basse;
+                        plusBasse[c] = i;
+                    }
+                }
+            }
+
+            for (int v = 0; v < 4; v++) {
+                int nombre = jest.compterCartesValeur(v + 1);
+                if (nombre > nombreMajorite[v]) {
+                    nombreMajorite[v] = nombre;
+                    majorite[v] = i;
+                    rangMajorite[v] = -1;
+                } else if (nombre == nombreMajorite[v] && nombre > 0) {
+                    // Bris d'égalité : carte la plus forte (rang du gagnant calculé à la première égalité)
+                    if (rangMajorite[v] < 0) {
+                        rangMajorite[v] = jests[majorite[v]].rangPlusHauteValeur(v + 1);
+                    }
+                    int rang = jest.rangPlusHauteValeur(v + 1);
+                    if (rang > rangMajorite[v]) {
+                        majorite[v] = i;
+                        rangMajorite[v] = rang;
+                    }
+                }
+            }
+
+            boolean aJoker = jest.contientJoker();
+            if (aJoker && joker < 0) {
+                joker = i;
+            }
+            meilleur = meilleurScore(jests, scoresBase, meilleur, i);
+            if (!aJoker) {
+                meilleurSansJoker = meilleurScore(jests, scoresBase, meilleurSansJoker, i);
+            }
+        }
+
+        for (ConditionTrophee condition : CONDITIONS) {
+            gagnants[condition.ordinal()] = resoudre(condition, joker, meilleur, meilleurSansJoker);
+        }
+    }
+
+    /**
+     * Meilleur score de base ; à égalité, carte la plus haute.
+     */
+    private static int meilleurScore(JestCompact[] jests, int[] scores, int gagnant, int candidat) {
+        if (gagnant < 0 || scores[candidat] > scores[gagnant]) {
+            return candidat;
+        }
+        if (scores[candidat] == scores[gagnant]
+                && jests[candidat].rangPlusHauteGlobale() > jests[gagnant].rangPlusHauteGlobale()) {
+            return candidat;
+        }
+        return gagnant;
+    }
+
+    private int resoudre(ConditionTrophee condition, int joker, int meilleur, int meilleurSansJoker) {
+        switch (condition) {
+            case MAJORITY_AS:
+                return majorite[0];
+            case MAJORITY_DEUX:
+                return majorite[1];
+            case MAJORITY_TROIS:
+                return majorite[2];
+            case MAJORITY_QUATRE:
+                return majorite[3];
+            case HIGHEST_PIQUE:
+                return plusHaute[0];
+            case HIGHEST_TREFLE:
+                return plusHaute[1];
+            case HIGHEST_CARREAU:
+                return plusHaute[2];
+            case HIGHEST_COEUR:
+                return plusHaute[3];
+            case LOWEST_PIQUE:
+                return plusBasse[0];
+            case LOWEST_TREFLE:
+                return plusBasse[1];
+            case LOWEST_CARREAU:
+                return plusBasse[2];
+            case LOWEST_COEUR:
+                return plusBasse[3];
+            case HAS_JOKER:
+                return joker;
+            case BEST_JEST:
+                return meilleur;
+            case BEST_JEST_NO_JOKER:
+                return meilleurSansJoker;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Retourne le gagnant d'une condition pour les derniers Jests analysés.
+     * @param condition Condition du trophée
+     * @return Index du joueur gagnant, ou -1 si aucun
+     */
+    public int getGagnant(ConditionTrophee condition) {
+        return gagnants[condition.ordinal()];
+    }
+}
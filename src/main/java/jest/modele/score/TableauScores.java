@@ -0,0 +1,244 @@
+package jest.modele.score;
+
+import jest.modele.cartes.Carte;
+import jest.modele.cartes.Trophee;
+import jest.modele.evenements.EcouteurJeu;
+import jest.modele.evenements.EvenementJeu.*;
+import jest.modele.jeu.Partie;
+import jest.modele.joueurs.JestCompact;
+import jest.modele.joueurs.Joueur;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tableau des scores provisoires, tenu à jour pendant la partie.
+ * Abonné aux événements d'acquisition de cartes ({@link CartePrise}, puis
+ * {@link DernieresCartesRecuperees} en fin de partie), il garde le Jest compact de chaque joueur :
+ * une carte ajoute un bit au Jest qui la reçoit, dont le score de base est relu en temps constant
+ * par les règles bit à bit du {@link CalculateurScore} (As seul, Joker et nombre de Cœurs compris),
+ * sans parcourir de liste de cartes. Les détenteurs provisoires des trophées sont ensuite résolus
+ * par le {@link MoteurTrophees}, en un parcours de quatre Jests au plus.
+ * <p>
+ * Chaque mise à jour publie un {@link Instantane} immuable, lisible depuis n'importe quel thread
+ * (interface de spectateur, IA) sans synchronisation avec le thread de jeu.
+ * Les règles de score supplémentaires du calculateur ne sont pas appliquées.
+ */
+public class TableauScores implements EcouteurJeu {
+
+    /**
+     * Classement provisoire à un instant donné (immuable).
+     */
+    public static final class Instantane {
+        private final List<Joueur> joueurs;
+        private final int[] scoresBase;
+        private final int[] scores;
+        private final Map<Trophee, Joueur> detenteurs;
+        private final int meneur;
+        private final int cartesComptees;
+
+        private Instantane(List<Joueur> joueurs, int[] scoresBase, int[] scores,
+                           Map<Trophee, Joueur> detenteurs, int meneur, int cartesComptees) {
+            this.joueurs = joueurs;
+            this.scoresBase = scoresBase;
+            this.scores = scores;
+            this.detenteurs = detenteurs;
+            this.meneur = meneur;
+            this.cartesComptees = cartesComptees;
+        }
+
+        /**
+         * Retourne le score provisoire d'un joueur, trophées provisoires compris.
+         * @param joueur Joueur de la partie
+         * @return Score provisoire
+         * @throws IllegalArgumentException Si le joueur n'est pas dans la partie
+         */
+        public int getScore(Joueur joueur) {
+            return scores[siege(joueur)];
+        }
+
+        /**
+         * Retourne le score provisoire d'un joueur, sans les trophées.
+         * @param joueur Joueur de la partie
+         * @return Score de base provisoire
+         * @throws IllegalArgumentException Si le joueur n'est pas dans la partie
+         */
+        public int getScoreBase(Joueur joueur) {
+            return scoresBase[siege(joueur)];
+        }
+
+        /**
+         * Retourne le détenteur provisoire d'un trophée.
+         * @param trophee Trophée en jeu
+         * @return Joueur remplissant la condition, ou null si aucun
+         */
+        public Joueur getDetenteur(Trophee trophee) {
+            return detenteurs.get(trophee);
+        }
+
+        /**
+         * Retourne les détenteurs provisoires de tous les trophées en jeu.
+         * @return Map non modifiable trophée → joueur (null si aucun)
+         */
+        public Map<Trophee, Joueur> getDetenteurs() {
+            return detenteurs;
+        }
+
+        /**
+         * Retourne le joueur en tête (égalité départagée par la carte la plus forte).
+         * @return Joueur en tête, ou null avant le début de la partie
+         */
+        public Joueur getMeneur() {
+            return meneur >= 0 ? joueurs.get(meneur) : null;
+        }
+
+        /**
+         * Retourne le nombre de cartes acquises depuis le début du suivi.
+         * @return Nombre de cartes comptées
+         */
+        public int getCartesComptees() {
+            return cartesComptees;
+        }
+
+        private int siege(Joueur joueur) {
+            int siege = joueurs.indexOf(joueur);
+            if (siege < 0) {
+                throw new IllegalArgumentException("Joueur absent de la partie : " + joueur.getNom());
+            }
+            return siege;
+        }
+    }
+
+    private static final Instantane VIDE = new Instantane(List.of(), new int[0], new int[0], Map.of(), -1, 0);
+
+    private final CalculateurScore calculateur;
+    private final MoteurTrophees moteur;
+    private List<Joueur> joueurs;
+    private List<Trophee> trophees;
+    private JestCompact[] jests;
+    private JestCompact[] avecTrophees;
+    private int[] scoresBase;
+    private int cartesComptees;
+    private volatile Instantane instantane;
+
+    /**
+     * Constructeur de TableauScores.
+     * Le suivi commence à l'initialisation de la partie ; pour une partie déjà commencée
+     * (ou rechargée), utiliser {@link #suivre(Partie)}.
+     * @param calculateur Calculateur de la partie
+     */
+    public TableauScores(CalculateurScore calculateur) {
+        this.calculateur = calculateur;
+        this.moteur = new MoteurTrophees();
+        this.joueurs = List.of();
+        this.instantane = VIDE;
+    }
+
+    /**
+     * Crée un tableau à partir des Jests actuels d'une partie et l'abonne à ses événements.
+     * @param partie Partie initialisée, éventuellement en cours
+     * @return Tableau abonné à la partie
+     */
+    public static TableauScores suivre(Partie partie) {
+        TableauScores tableau = new TableauScores(partie.getCalculateur());
+        tableau.demarrer(partie.getJoueurs(), partie.getTropheesEnJeu());
+        partie.ajouterEcouteur(tableau);
+        return tableau;
+    }
+
+    /**
+     * Retourne le dernier classement publié. Lecture sans verrou, depuis n'importe quel thread.
+     * @return Instantané immuable
+     */
+    public Instantane getInstantane() {
+        return instantane;
+    }
+
+    @Override
+    public void surPartieInitialisee(PartieInitialisee evenement) {
+        demarrer(evenement.joueurs(), evenement.trophees());
+    }
+
+    @Override
+    public void surCartePrise(CartePrise evenement) {
+        ajouter(evenement.joueur(), evenement.carte());
+        publier();
+    }
+
+    @Override
+    public void surDernieresCartesRecuperees(DernieresCartesRecuperees evenement) {
+        for (Map.Entry<Joueur, Carte> entree : evenement.cartes().entrySet()) {
+            ajouter(entree.getKey(), entree.getValue());
+        }
+        publier();
+    }
+
+    /**
+     * Repart des Jests actuels des joueurs.
+     */
+    private void demarrer(List<Joueur> joueurs, List<Trophee> trophees) {
+        this.joueurs = List.copyOf(joueurs);
+        this.trophees = List.copyOf(trophees);
+        this.jests = new JestCompact[joueurs.size()];
+        this.avecTrophees = new JestCompact[joueurs.size()];
+        this.scoresBase = new int[joueurs.size()];
+        for (int p = 0; p < jests.length; p++) {
+            JestCompact compact = joueurs.get(p).getJest().getCompact();
+            jests[p] = new JestCompact();
+            jests[p].definir(compact.getMasqueCartes(), 0);
+            jests[p].definirValeursAleatoires(compact.getValeurChance(), compact.getValeurMalchance());
+            avecTrophees[p] = new JestCompact();
+            scoresBase[p] = calculateur.calculerScore(jests[p], true);
+        }
+        this.cartesComptees = 0;
+        publier();
+    }
+
+    /**
+     * Ajoute une carte au Jest d'un joueur : seul son score de base change.
+     */
+    private void ajouter(Joueur joueur, Carte carte) {
+        int siege = joueurs.indexOf(joueur);
+        if (siege < 0) {
+            return;
+        }
+        jests[siege].ajouterCarte(carte);
+        scoresBase[siege] = calculateur.calculerScore(jests[siege], true);
+        cartesComptees++;
+    }
+
+    /**
+     * Résout les trophées provisoires et publie un nouvel instantané.
+     */
+    private void publier() {
+        int n = jests.length;
+        moteur.analyser(jests, scoresBase);
+        Map<Trophee, Joueur> detenteurs = new LinkedHashMap<>();
+        for (int p = 0; p < n; p++) {
+            avecTrophees[p].vider();
+            avecTrophees[p].definir(jests[p].getMasqueCartes(), 0);
+            avecTrophees[p].definirValeursAleatoires(jests[p].getValeurChance(), jests[p].getValeurMalchance());
+        }
+        for (Trophee trophee : trophees) {
+            int gagnant = moteur.getGagnant(trophee.getCondition());
+            if (gagnant >= 0) {
+                avecTrophees[gagnant].ajouterTrophee(trophee);
+            }
+            detenteurs.put(trophee, gagnant >= 0 ? joueurs.get(gagnant) : null);
+        }
+
+        int[] scores = new int[n];
+        int meneur = n > 0 ? 0 : -1;
+        for (int p = 0; p < n; p++) {
+            scores[p] = calculateur.calculerScore(avecTrophees[p], false);
+            if (scores[p] > scores[meneur] || (scores[p] == scores[meneur]
+                    && avecTrophees[p].rangPlusHauteGlobale() > avecTrophees[meneur].rangPlusHauteGlobale())) {
+                meneur = p;
+            }
+        }
+        instantane = new Instantane(joueurs, scoresBase.clone(), scores,
+                Collections.unmodifiableMap(detenteurs), meneur, cartesComptees);
+    }
+}
@@ -4,38 +4,23 @@ import jest.modele.cartes.*;
 import jest.modele.joueurs.Jest;
 
 public class VisiteurExtensionMagique implements VisiteurScore {
-    private int scorePartiel;
-
-    public VisiteurExtensionMagique() {
-        this.scorePartiel = 0;
-    }
-
     @Override
-    public void visiterCarteNormale(CarteNormale carte, Jest contexte) {
-        // les cartes normales ne sont pas traitées
+    public int visiterCarteNormale(CarteNormale carte, Jest contexte) {
+        return 0; // les cartes normales ne sont pas traitées
     }
 
     @Override
-    public void visiterJoker(Joker joker, Jest contexte) {
-        // Le Joker n'est pas traité
+    public int visiterJoker(Joker joker, Jest contexte) {
+        return 0; // Le Joker n'est pas traité
     }
 
     @Override
-    public void visiterCarteExtension(Carte carte, Jest contexte) {
+    public int visiterCarteExtension(Carte carte, Jest contexte) {
         if (carte.getCouleur() == Couleur.SPECIALE && !carte.estJoker()) {
             // Toutes les cartes magiques utilisent getValeurEffective pour le moment
-            scorePartiel += carte.getValeurEffective(contexte);
+            return carte.getValeurEffective(contexte);
         }
-    }
-
-    @Override
-    public int getScorePartiel() {
-        return scorePartiel;
-    }
-
-    @Override
-    public void reset() {
-        scorePartiel = 0;
+        return 0;
     }
 
 }
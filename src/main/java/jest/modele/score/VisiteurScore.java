@@ -6,6 +6,9 @@ import jest.modele.joueurs.Jest;
 /**
  * Interface du pattern Visitor pour le calcul des scores.
  * Chaque visiteur implémente une règle de scoring spécifique.
+ * Un visiteur est sans état : chaque visite retourne la contribution de la carte au score,
+ * sommée par l'appelant ({@link Jest#accepterVisiteur(VisiteurScore, boolean)}).
+ * Une même instance peut donc servir à plusieurs Jests, y compris depuis plusieurs threads.
  */
 public interface VisiteurScore {
     
@@ -13,31 +16,38 @@ public interface VisiteurScore {
      * Visite une carte normale.
      * @param carte Carte à visiter
      * @param contexte Jest contenant la carte (pour règles contextuelles)
+     * @return Points apportés par la carte
      */
-    void visiterCarteNormale(CarteNormale carte, Jest contexte);
+    int visiterCarteNormale(CarteNormale carte, Jest contexte);
+    
+    /**
+     * Visite un As.
+     * Par défaut, l'As est traité comme une carte normale : sa valeur effective
+     * (1 ou 5) est obtenue par {@link As#getValeurEffective(Jest)}.
+     * @param as As à visiter
+     * @param contexte Jest contenant l'As
+     * @return Points apportés par l'As
+     */
+    default int visiterAs(As as, Jest contexte) {
+        return visiterCarteNormale(as, contexte);
+    }
     
     /**
      * Visite le Joker.
      * @param joker Joker à visiter
      * @param contexte Jest contenant le Joker
+     * @return Points apportés par le Joker
      */
-    void visiterJoker(Joker joker, Jest contexte);
-
-    /**
-     * Visite 
-     * @param carte
-     * @param contexte
-     */
-    default void visiterCarteExtension(Carte carte, Jest contexte){}; // ne fait rien par défaut
-
-    /**
-     * Retourne le score partiel calculé par ce visiteur.
-     * @return Score partiel
-     */
-    int getScorePartiel();
+    int visiterJoker(Joker joker, Jest contexte);
 
     /**
-     * Réinitialise le score partiel (pour nouvelle évaluation).
+     * Visite une carte d'extension.
+     * Par défaut, les cartes d'extension ne rapportent rien.
+     * @param carte Carte d'extension à visiter
+     * @param contexte Jest contenant la carte
+     * @return Points apportés par la carte
      */
-    void reset();
+    default int visiterCarteExtension(Carte carte, Jest contexte) {
+        return 0;
+    }
 }
\ No newline at end of file
@@ -8,31 +8,16 @@ import jest.modele.joueurs.Jest;
  * Règle : Les Trèfles ajoutent toujours leur valeur effective (positive).
  */
 public class VisiteurTrefles implements VisiteurScore {
-    private int scorePartiel;
-    
-    public VisiteurTrefles() {
-        this.scorePartiel = 0;
-    }
-    
     @Override
-    public void visiterCarteNormale(CarteNormale carte, Jest contexte) {
+    public int visiterCarteNormale(CarteNormale carte, Jest contexte) {
         if (carte.getCouleur() == Couleur.TREFLE) {
-            scorePartiel += carte.getValeurEffective(contexte);
+            return carte.getValeurEffective(contexte);
         }
+        return 0;
     }
     
     @Override
-    public void visiterJoker(Joker joker, Jest contexte) {
-        // Le Joker n'affecte pas les Trèfles
-    }
-    
-    @Override
-    public int getScorePartiel() {
-        return scorePartiel;
-    }
-    
-    @Override
-    public void reset() {
-        scorePartiel = 0;
+    public int visiterJoker(Joker joker, Jest contexte) {
+        return 0; // Le Joker n'affecte pas les Trèfles
     }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package jest.simulation;
+
+import jest.modele.cartes.Carte;
+import jest.modele.cartes.Couleur;
+import jest.modele.joueurs.Jest;
+import jest.modele.score.*;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Banc de mesure des allocations lors du calcul de score.
+ * Le Jest mesuré contient les quatre As (seul ou non dans sa couleur) et le Joker.
+ * Les octets alloués par le thread sont relevés via com.sun.management.ThreadMXBean
+ * après une phase de chauffe (compilation JIT), et rapportés par opération.
+ */
+public class BancAllocationScore {
+    private static final int CHAUFFE = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    private final Jest jest;
+    private final VisiteurScore[] visiteurs;
+    private final CalculateurScore calculateur;
+
+    /**
+     * Constructeur de BancAllocationScore.
+     * Prépare le Jest de test et les visiteurs de score.
+     */
+    public BancAllocationScore() {
+        this.jest = new Jest();
+        jest.ajouterCarte(Carte.standard(Couleur.PIQUE, 1));    // As seul de sa couleur : vaut 5
+        jest.ajouterCarte(Carte.standard(Couleur.TREFLE, 1));   // As accompagné : vaut 1
+        jest.ajouterCarte(Carte.standard(Couleur.TREFLE, 3));
+        jest.ajouterCarte(Carte.standard(Couleur.CARREAU, 1));
+        jest.ajouterCarte(Carte.standard(Couleur.COEUR, 1));
+        jest.ajouterCarte(Carte.depuisIndex(Carte.INDEX_JOKER));
+        this.visiteurs = new VisiteurScore[] {
+            new VisiteurPiques(), new VisiteurTrefles(), new VisiteurCarreaux(),
+            new VisiteurCoeurs(), new VisiteurPairesNoires(), new VisiteurExtensionMagique()
+        };
+        this.calculateur = CalculateurScore.standard();
+    }
+
+    /**
+     * Calcule le score du Jest par les six visiteurs.
+     * @return Score total
+     */
+    public int scoreVisiteurs() {
+        int score = 0;
+        for (VisiteurScore visiteur : visiteurs) {
+            score += jest.accepterVisiteur(visiteur, false);
+        }
+        return score;
+    }
+
+    /**
+     * Calcule le score du Jest par le calculateur.
+     * @return Score total
+     */
+    public int scoreCalculateur() {
+        return calculateur.calculerScore(jest);
+    }
+
+    /**
+     * Mesure les octets alloués par opération.
+     * @param visiteursSeuls true pour mesurer les visiteurs, false pour le calculateur
+     * @return Octets alloués par opération
+     */
+    public double mesurer(boolean visiteursSeuls) {
+        com.sun.management.ThreadMXBean mx =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().threadId();
+        int puits = 0;
+        for (int i = 0; i < CHAUFFE; i++) {
+            puits += visiteursSeuls ? scoreVisiteurs() : scoreCalculateur();
+        }
+        long avant = mx.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < ITERATIONS; i++) {
+            puits += visiteursSeuls ? scoreVisiteurs() : scoreCalculateur();
+        }
+        long apres = mx.getThreadAllocatedBytes(thread);
+        if (puits == 42) {
+            System.out.println(puits); // empêche l'élimination du calcul
+        }
+        return (double) (apres - avant) / ITERATIONS;
+    }
+
+    /**
+     * Point d'entrée en ligne de commande.
+     * @param args Arguments (ignorés)
+     */
+    public static void main(String[] args) {
+        BancAllocationScore banc = new BancAllocationScore();
+        System.out.println("Score du Jest de test : " + banc.scoreVisiteurs()
+                + " (visiteurs), " + banc.scoreCalculateur() + " (calculateur)");
+        System.out.printf("Visiteurs   : %.2f B/op%n", banc.mesurer(true));
+        System.out.printf("Calculateur : %.2f B/op%n", banc.mesurer(false));
+    }
+}
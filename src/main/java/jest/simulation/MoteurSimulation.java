@@ -0,0 +1,188 @@
+package jest.simulation;
+
+import jest.modele.extensions.*;
+import jest.modele.jeu.Partie;
+import jest.modele.joueurs.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Moteur de simulation sans affichage.
+ * Enchaîne des parties complètes entre joueurs virtuels, sans écouteur d'événements (aucun affichage),
+ * pour mesurer l'équilibre des variantes et des stratégies (Monte-Carlo).
+ * Avec une graine, chaque partie est reproductible : sa graine ne dépend que de la graine
+ * de la simulation et de son numéro, quel que soit le thread qui la joue.
+ */
+public class MoteurSimulation {
+    /** Incrément de l'état interne de SplittableRandom entre deux tirages. */
+    private static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final List<Supplier<StrategieJeu>> strategies;
+    private final Variante variante;
+    private final boolean extensionMagique;
+
+    /**
+     * Constructeur de MoteurSimulation.
+     * @param strategies Fabrique de stratégie pour chaque siège (3 ou 4)
+     * @param variante Variante de règles utilisée
+     * @param extensionMagique true pour jouer avec l'extension Cartes Magiques
+     */
+    public MoteurSimulation(List<Supplier<StrategieJeu>> strategies, Variante variante, boolean extensionMagique) {
+        if (strategies.size() < 3 || strategies.size() > 4) {
+            throw new IllegalArgumentException("Le jeu nécessite 3 ou 4 joueurs");
+        }
+        this.strategies = new ArrayList<>(strategies);
+        this.variante = variante;
+        this.extensionMagique = extensionMagique;
+    }
+
+    /**
+     * Joue une partie complète sans affichage.
+     * @return Partie terminée (scores calculés)
+     */
+    public Partie jouerPartie() {
+        return jouerPartie(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Joue une partie complète et reproductible sans affichage.
+     * L'extension, les mélanges et les stratégies aléatoires tirent tous de la graine.
+     * @param graine Graine de la partie
+     * @return Partie terminée (scores calculés)
+     */
+    public Partie jouerPartie(long graine) {
+        Partie partie = creerPartie(graine);
+        while (!partie.estTerminee()) {
+            partie.executerProchainTour();
+        }
+        partie.afficherResultatsFinaux();
+        return partie;
+    }
+
+    /**
+     * Crée et initialise une partie reproductible, sans jouer de tour
+     * (joueurs, extension, paquet, trophées et pioche en place).
+     * @param graine Graine de la partie
+     * @return Partie prête à jouer son premier tour
+     */
+    public Partie creerPartie(long graine) {
+        SplittableRandom racine = new SplittableRandom(graine);
+        List<Joueur> joueurs = new ArrayList<>();
+        for (int i = 0; i < strategies.size(); i++) {
+            joueurs.add(new JoueurVirtuel("IA" + (i + 1), strategies.get(i).get()));
+        }
+        Extension extension = extensionMagique ? new ExtensionMagique(joueurs.size(), racine.split()) : null;
+
+        Partie partie = new Partie();
+        partie.initialiser(joueurs, extension, variante, racine.nextLong());
+        return partie;
+    }
+
+    /**
+     * Enchaîne plusieurs parties et agrège les résultats.
+     * @param nbParties Nombre de parties à jouer
+     * @return Résultat de la simulation
+     */
+    public ResultatSimulation simuler(int nbParties) {
+        return simuler(nbParties, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Enchaîne plusieurs parties reproductibles et agrège les résultats.
+     * @param nbParties Nombre de parties à jouer
+     * @param graine Graine de la simulation
+     * @return Résultat de la simulation
+     */
+    public ResultatSimulation simuler(int nbParties, long graine) {
+        int nbJoueurs = strategies.size();
+        long[] victoires = new long[nbJoueurs];
+        long[] scores = new long[nbJoueurs];
+
+        long debut = System.nanoTime();
+        for (int n = 0; n < nbParties; n++) {
+            Partie partie = jouerPartie(graineDePartie(graine, n));
+            List<Joueur> joueurs = partie.getJoueurs();
+            Joueur gagnant = partie.determinerGagnant();
+            for (int i = 0; i < nbJoueurs; i++) {
+                Joueur j = joueurs.get(i);
+                scores[i] += j.getScore();
+                if (j == gagnant) {
+                    victoires[i]++;
+                }
+            }
+        }
+        long duree = System.nanoTime() - debut;
+
+        return new ResultatSimulation(getNomsStrategies(), nbParties, duree, victoires, scores);
+    }
+
+    /**
+     * Graine de la partie numéro n d'une simulation : n-ième tirage du SplittableRandom
+     * de graine donnée, calculé directement (sans tirer les précédents).
+     * @param graine Graine de la simulation
+     * @param numero Numéro de la partie
+     * @return Graine de la partie
+     */
+    public static long graineDePartie(long graine, long numero) {
+        return new SplittableRandom(graine + numero * GAMMA).nextLong();
+    }
+
+    /**
+     * Retourne le nom de la stratégie de chaque siège.
+     * @return Noms des stratégies
+     */
+    public List<String> getNomsStrategies() {
+        List<String> noms = new ArrayList<>();
+        for (Supplier<StrategieJeu> s : strategies) {
+            noms.add(s.get().getClass().getSimpleName());
+        }
+        return noms;
+    }
+
+    /**
+     * Retourne la variante correspondant à un nom court.
+     * @param nom "standard", "tactique" ou "rapide"
+     * @return Variante
+     */
+    public static Variante varianteDepuisNom(String nom) {
+        switch (nom.toLowerCase()) {
+            case "tactique":
+                return new VarianteTactique();
+            case "rapide":
+                return new VarianteRapide();
+            case "standard":
+                return new VarianteStandard();
+            default:
+                throw new IllegalArgumentException("Variante inconnue : " + nom);
+        }
+    }
+
+    /**
+     * Point d'entrée en ligne de commande.
+     * Arguments : [nbParties] [nbJoueurs] [variante] [magique] [graine]
+     * @param args Arguments
+     */
+    public static void main(String[] args) {
+        int nbParties = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int nbJoueurs = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        Variante variante = varianteDepuisNom(args.length > 2 ? args[2] : "standard");
+        boolean magique = args.length > 3 && args[3].equalsIgnoreCase("magique");
+        long graine = args.length > 4 ? Long.parseLong(args[4]) : ThreadLocalRandom.current().nextLong();
+
+        List<Supplier<StrategieJeu>> strategies = new ArrayList<>();
+        strategies.add(StrategieAleatoire::new);
+        strategies.add(StrategieGloutonne::new);
+        strategies.add(StrategieDefensive::new);
+        if (nbJoueurs == 4) {
+            strategies.add(StrategieAleatoire::new);
+        }
+
+        MoteurSimulation moteur = new MoteurSimulation(strategies, variante, magique);
+        System.out.println("Simulation : " + variante.getNom() + (magique ? " + Cartes Magiques" : ""));
+        System.out.print(moteur.simuler(nbParties, graine));
+    }
+}
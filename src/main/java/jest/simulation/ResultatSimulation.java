@@ -0,0 +1,95 @@
+package jest.simulation;
+
+import java.util.List;
+
+/**
+ * Résultat agrégé d'une série de parties simulées.
+ * Les statistiques sont indexées par siège (ordre des joueurs dans la partie).
+ */
+public class ResultatSimulation {
+    private final List<String> strategies;
+    private final int nbParties;
+    private final long dureeNanos;
+    private final long[] victoires;
+    private final long[] scoresCumules;
+
+    /**
+     * Constructeur de ResultatSimulation.
+     * @param strategies Nom de la stratégie de chaque siège
+     * @param nbParties Nombre de parties jouées
+     * @param dureeNanos Durée totale de la simulation en nanosecondes
+     * @param victoires Nombre de victoires par siège
+     * @param scoresCumules Somme des scores finaux par siège
+     */
+    public ResultatSimulation(List<String> strategies, int nbParties, long dureeNanos,
+                              long[] victoires, long[] scoresCumules) {
+        this.strategies = List.copyOf(strategies);
+        this.nbParties = nbParties;
+        this.dureeNanos = dureeNanos;
+        this.victoires = victoires.clone();
+        this.scoresCumules = scoresCumules.clone();
+    }
+
+    /**
+     * Retourne le nombre de parties jouées.
+     * @return Nombre de parties
+     */
+    public int getNbParties() {
+        return nbParties;
+    }
+
+    /**
+     * Retourne la durée totale de la simulation.
+     * @return Durée en nanosecondes
+     */
+    public long getDureeNanos() {
+        return dureeNanos;
+    }
+
+    /**
+     * Retourne le débit de la simulation.
+     * @return Nombre de parties par seconde
+     */
+    public double getPartiesParSeconde() {
+        return dureeNanos == 0 ? 0 : nbParties * 1_000_000_000.0 / dureeNanos;
+    }
+
+    /**
+     * Retourne le nombre de victoires d'un siège.
+     * @param siege Index du joueur
+     * @return Nombre de victoires
+     */
+    public long getVictoires(int siege) {
+        return victoires[siege];
+    }
+
+    /**
+     * Retourne le taux de victoire d'un siège.
+     * @param siege Index du joueur
+     * @return Taux entre 0 et 1
+     */
+    public double getTauxVictoire(int siege) {
+        return nbParties == 0 ? 0 : (double) victoires[siege] / nbParties;
+    }
+
+    /**
+     * Retourne le score moyen d'un siège.
+     * @param siege Index du joueur
+     * @return Score moyen
+     */
+    public double getScoreMoyen(int siege) {
+        return nbParties == 0 ? 0 : (double) scoresCumules[siege] / nbParties;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%d parties en %.2f s (%.0f parties/s)%n",
+                nbParties, dureeNanos / 1e9, getPartiesParSeconde()));
+        for (int i = 0; i < strategies.size(); i++) {
+            sb.append(String.format("  Siège %d %-20s victoires: %6.2f %%  score moyen: %6.2f%n",
+                    i + 1, strategies.get(i), 100 * getTauxVictoire(i), getScoreMoyen(i)));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,109 @@
+package jest.simulation;
+
+import java.util.List;
+
+/**
+ * Résultat d'un tournoi entre stratégies.
+ * Pour chaque confrontation (A, B), conserve le nombre de parties jouées
+ * et le nombre de parties gagnées par un joueur utilisant la stratégie A.
+ */
+public class ResultatTournoi {
+    /** Quantile de la loi normale pour un intervalle de confiance à 95 %. */
+    private static final double Z_95 = 1.96;
+
+    private final List<String> strategies;
+    private final long[][] victoires;
+    private final long[][] parties;
+    private final long dureeNanos;
+
+    /**
+     * Constructeur de ResultatTournoi.
+     * @param strategies Noms des stratégies (ordre des lignes/colonnes)
+     * @param victoires victoires[a][b] : parties gagnées par A contre B
+     * @param parties parties[a][b] : parties jouées entre A et B
+     * @param dureeNanos Durée totale du tournoi
+     */
+    public ResultatTournoi(List<String> strategies, long[][] victoires, long[][] parties, long dureeNanos) {
+        this.strategies = List.copyOf(strategies);
+        this.victoires = victoires;
+        this.parties = parties;
+        this.dureeNanos = dureeNanos;
+    }
+
+    /**
+     * Retourne le taux de victoire de A contre B.
+     * @param a Index de la stratégie A
+     * @param b Index de la stratégie B
+     * @return Taux entre 0 et 1 (NaN si aucune partie)
+     */
+    public double getTauxVictoire(int a, int b) {
+        return parties[a][b] == 0 ? Double.NaN : (double) victoires[a][b] / parties[a][b];
+    }
+
+    /**
+     * Retourne l'intervalle de confiance à 95 % (score de Wilson) du taux de victoire de A contre B.
+     * @param a Index de la stratégie A
+     * @param b Index de la stratégie B
+     * @return Tableau {borne basse, borne haute}
+     */
+    public double[] getIntervalleConfiance(int a, int b) {
+        long n = parties[a][b];
+        if (n == 0) {
+            return new double[] { 0, 1 };
+        }
+        double p = (double) victoires[a][b] / n;
+        double z2 = Z_95 * Z_95;
+        double centre = (p + z2 / (2 * n)) / (1 + z2 / n);
+        double marge = Z_95 * Math.sqrt(p * (1 - p) / n + z2 / (4.0 * n * n)) / (1 + z2 / n);
+        return new double[] { centre - marge, centre + marge };
+    }
+
+    /**
+     * Retourne le nombre total de parties jouées.
+     * @return Nombre de parties
+     */
+    public long getNbPartiesTotal() {
+        long total = 0;
+        for (int a = 0; a < strategies.size(); a++) {
+            for (int b = a + 1; b < strategies.size(); b++) {
+                total += parties[a][b];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Retourne le débit du tournoi.
+     * @return Nombre de parties par seconde
+     */
+    public double getPartiesParSeconde() {
+        return dureeNanos == 0 ? 0 : getNbPartiesTotal() * 1_000_000_000.0 / dureeNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%d parties en %.2f s (%.0f parties/s)%n",
+                getNbPartiesTotal(), dureeNanos / 1e9, getPartiesParSeconde()));
+        sb.append("Taux de victoire (ligne contre colonne), IC 95 % :\n");
+        sb.append(String.format("%-20s", ""));
+        for (String s : strategies) {
+            sb.append(String.format(" %22s", s));
+        }
+        sb.append('\n');
+        for (int a = 0; a < strategies.size(); a++) {
+            sb.append(String.format("%-20s", strategies.get(a)));
+            for (int b = 0; b < strategies.size(); b++) {
+                if (a == b || parties[a][b] == 0) {
+                    sb.append(String.format(" %22s", "-"));
+                } else {
+                    double[] ic = getIntervalleConfiance(a, b);
+                    sb.append(String.format(" %6.2f%% [%5.1f-%5.1f]",
+                            100 * getTauxVictoire(a, b), 100 * ic[0], 100 * ic[1]));
+                }
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+}
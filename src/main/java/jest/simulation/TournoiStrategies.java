@@ -0,0 +1,229 @@
+package jest.simulation;
+
+import jest.modele.extensions.Variante;
+import jest.modele.jeu.Partie;
+import jest.modele.joueurs.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Tournoi parallèle entre stratégies de jeu.
+ * Chaque confrontation (A, B) est jouée sur N parties réparties dans un ForkJoinPool.
+ * Les sièges alternent entre A et B, et la composition est inversée une partie sur deux
+ * pour ne pas avantager une stratégie par sa position.
+ * Chaque tâche possède ses propres Partie, Paquet et Pioche ; les résultats sont
+ * agrégés sans verrou via des LongAdder. La graine de chaque partie est dérivée de celle
+ * du tournoi : aucun générateur n'est partagé entre threads, et un tournoi rejoué avec
+ * la même graine donne les mêmes résultats quel que soit le parallélisme.
+ */
+public class TournoiStrategies {
+    /** Nombre de parties en dessous duquel une tâche n'est plus découpée. */
+    private static final int SEUIL_DECOUPAGE = 256;
+
+    private final Map<String, Supplier<StrategieJeu>> strategies;
+    private final int nbJoueurs;
+    private final Variante variante;
+    private final boolean extensionMagique;
+
+    /**
+     * Constructeur de TournoiStrategies.
+     * @param strategies Stratégies en compétition, indexées par nom
+     * @param nbJoueurs Nombre de joueurs par partie (3 ou 4)
+     * @param variante Variante de règles utilisée
+     * @param extensionMagique true pour jouer avec l'extension Cartes Magiques
+     */
+    public TournoiStrategies(Map<String, Supplier<StrategieJeu>> strategies, int nbJoueurs,
+                             Variante variante, boolean extensionMagique) {
+        if (nbJoueurs < 3 || nbJoueurs > 4) {
+            throw new IllegalArgumentException("Le jeu nécessite 3 ou 4 joueurs");
+        }
+        if (strategies.size() < 2) {
+            throw new IllegalArgumentException("Un tournoi nécessite au moins 2 stratégies");
+        }
+        this.strategies = new LinkedHashMap<>(strategies);
+        this.nbJoueurs = nbJoueurs;
+        this.variante = variante;
+        this.extensionMagique = extensionMagique;
+    }
+
+    /**
+     * Joue le tournoi sur tous les coeurs disponibles.
+     * @param partiesParConfrontation Nombre de parties pour chaque paire de stratégies
+     * @return Résultat du tournoi
+     */
+    public ResultatTournoi jouer(int partiesParConfrontation) {
+        return jouer(partiesParConfrontation, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Joue le tournoi avec un niveau de parallélisme donné.
+     * @param partiesParConfrontation Nombre de parties pour chaque paire de stratégies
+     * @param parallelisme Nombre de threads de calcul
+     * @return Résultat du tournoi
+     */
+    public ResultatTournoi jouer(int partiesParConfrontation, int parallelisme) {
+        return jouer(partiesParConfrontation, parallelisme, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Joue un tournoi reproductible avec un niveau de parallélisme donné.
+     * @param partiesParConfrontation Nombre de parties pour chaque paire de stratégies
+     * @param parallelisme Nombre de threads de calcul
+     * @param graine Graine du tournoi
+     * @return Résultat du tournoi
+     */
+    public ResultatTournoi jouer(int partiesParConfrontation, int parallelisme, long graine) {
+        List<String> noms = new ArrayList<>(strategies.keySet());
+        List<Supplier<StrategieJeu>> fabriques = new ArrayList<>(strategies.values());
+        int nb = noms.size();
+
+        LongAdder[][] victoires = new LongAdder[nb][nb];
+        LongAdder[][] parties = new LongAdder[nb][nb];
+        List<RecursiveAction> taches = new ArrayList<>();
+        for (int a = 0; a < nb; a++) {
+            for (int b = 0; b < nb; b++) {
+                victoires[a][b] = new LongAdder();
+                parties[a][b] = new LongAdder();
+            }
+        }
+        for (int a = 0; a < nb; a++) {
+            for (int b = a + 1; b < nb; b++) {
+                Confrontation c = new Confrontation(fabriques.get(a), fabriques.get(b),
+                        MoteurSimulation.graineDePartie(graine, taches.size()),
+                        victoires[a][b], victoires[b][a], parties[a][b]);
+                taches.add(new TacheParties(c, 0, partiesParConfrontation));
+            }
+        }
+
+        long debut = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelisme);
+        try {
+            for (RecursiveAction t : taches) {
+                pool.execute(t);
+            }
+            for (RecursiveAction t : taches) {
+                t.join();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        long duree = System.nanoTime() - debut;
+
+        long[][] v = new long[nb][nb];
+        long[][] p = new long[nb][nb];
+        for (int a = 0; a < nb; a++) {
+            for (int b = a + 1; b < nb; b++) {
+                v[a][b] = victoires[a][b].sum();
+                v[b][a] = victoires[b][a].sum();
+                p[a][b] = parties[a][b].sum();
+                p[b][a] = p[a][b];
+            }
+        }
+        return new ResultatTournoi(noms, v, p, duree);
+    }
+
+    /**
+     * Confrontation entre deux stratégies et ses compteurs partagés.
+     */
+    private class Confrontation {
+        private final MoteurSimulation moteurAB;
+        private final MoteurSimulation moteurBA;
+        private final long graine;
+        private final LongAdder victoiresA;
+        private final LongAdder victoiresB;
+        private final LongAdder parties;
+
+        Confrontation(Supplier<StrategieJeu> a, Supplier<StrategieJeu> b, long graine,
+                      LongAdder victoiresA, LongAdder victoiresB, LongAdder parties) {
+            List<Supplier<StrategieJeu>> sieges = new ArrayList<>();
+            List<Supplier<StrategieJeu>> siegesInverses = new ArrayList<>();
+            for (int i = 0; i < nbJoueurs; i++) {
+                sieges.add(i % 2 == 0 ? a : b);
+                siegesInverses.add(i % 2 == 0 ? b : a);
+            }
+            this.moteurAB = new MoteurSimulation(sieges, variante, extensionMagique);
+            this.moteurBA = new MoteurSimulation(siegesInverses, variante, extensionMagique);
+            this.graine = graine;
+            this.victoiresA = victoiresA;
+            this.victoiresB = victoiresB;
+            this.parties = parties;
+        }
+
+        /**
+         * Joue la partie numéro n de la confrontation et comptabilise le vainqueur.
+         * @param n Numéro de la partie (sa parité fixe la composition des sièges)
+         */
+        void jouer(int n) {
+            boolean inverse = (n & 1) == 1;
+            Partie partie = (inverse ? moteurBA : moteurAB).jouerPartie(MoteurSimulation.graineDePartie(graine, n));
+            int siege = partie.getJoueurs().indexOf(partie.determinerGagnant());
+            boolean siegePair = siege % 2 == 0;
+            if (siegePair != inverse) {
+                victoiresA.increment();
+            } else {
+                victoiresB.increment();
+            }
+            parties.increment();
+        }
+    }
+
+    /**
+     * Tâche ForkJoin jouant une plage de parties d'une confrontation.
+     */
+    private static class TacheParties extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final transient Confrontation confrontation;
+        private final int debut;
+        private final int fin;
+
+        TacheParties(Confrontation confrontation, int debut, int fin) {
+            this.confrontation = confrontation;
+            this.debut = debut;
+            this.fin = fin;
+        }
+
+        @Override
+        protected void compute() {
+            if (fin - debut <= SEUIL_DECOUPAGE) {
+                for (int n = debut; n < fin; n++) {
+                    confrontation.jouer(n);
+                }
+            } else {
+                int milieu = (debut + fin) >>> 1;
+                invokeAll(new TacheParties(confrontation, debut, milieu),
+                        new TacheParties(confrontation, milieu, fin));
+            }
+        }
+    }
+
+    /**
+     * Point d'entrée en ligne de commande.
+     * Arguments : [partiesParConfrontation] [nbJoueurs] [variante] [magique] [graine]
+     * @param args Arguments
+     */
+    public static void main(String[] args) {
+        int nbParties = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int nbJoueurs = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        Variante variante = MoteurSimulation.varianteDepuisNom(args.length > 2 ? args[2] : "standard");
+        boolean magique = args.length > 3 && args[3].equalsIgnoreCase("magique");
+        long graine = args.length > 4 ? Long.parseLong(args[4]) : ThreadLocalRandom.current().nextLong();
+
+        Map<String, Supplier<StrategieJeu>> strategies = new LinkedHashMap<>();
+        strategies.put("Aleatoire", StrategieAleatoire::new);
+        strategies.put("Gloutonne", StrategieGloutonne::new);
+        strategies.put("Defensive", StrategieDefensive::new);
+
+        TournoiStrategies tournoi = new TournoiStrategies(strategies, nbJoueurs, variante, magique);
+        System.out.println("Tournoi : " + variante.getNom() + (magique ? " + Cartes Magiques" : "")
+                + ", " + nbJoueurs + " joueurs, " + nbParties + " parties par confrontation");
+        System.out.print(tournoi.jouer(nbParties, Runtime.getRuntime().availableProcessors(), graine));
+    }
+}
@@ -0,0 +1,367 @@
+package jest.utilitaires;
+
+import jest.modele.cartes.*;
+import jest.modele.extensions.*;
+import jest.modele.jeu.Partie;
+import jest.modele.joueurs.*;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Format binaire des sauvegardes (version 2 ; la version 1 est encore lue).
+ * <pre>
+ * En-tête (13 octets) : "JEST" | version (u8) | longueur des données (i32) | CRC32 des données (i32)
+ * Données :
+ *   nbJoueurs (u8), puis pour chaque joueur :
+ *     type (u8) | nom (u16 + UTF-8) | score (i32) | cartes du Jest (u8 + 1 octet/carte) | trophées (idem)
+ *     | cartes cachées de ses offres prises par un adversaire (i32, bit = index ; absent en version 1)
+ *   tourActuel (i32) | variante (u8) | extension (u8) [+ valeur Chance (i8), valeur Malchance (i8)]
+ *   trophées en jeu, pioche (de la base au sommet), cartes résiduelles : u8 + 1 octet/carte
+ * </pre>
+ * Une carte tient sur un octet : son index ({@link Carte#getIndex()}) sur les bits 0-4,
+ * le bit 7 indiquant une carte face visible du Jest. Un trophée est codé par sa carte associée.
+ * Les cartes relues sont les instances uniques ({@link Carte#depuisIndex(int)}) ou celles de l'extension.
+ */
+final class FormatSauvegarde {
+    static final byte[] SIGNATURE = {'J', 'E', 'S', 'T'};
+    static final int VERSION = 2;
+    static final int TAILLE_EN_TETE = 13;
+
+    private static final int BIT_VISIBLE = 0x80;
+    private static final int MASQUE_INDEX = 0x1F;
+
+    private static final int TYPE_PHYSIQUE = 0;
+    private static final int TYPE_ALEATOIRE = 1;
+    private static final int TYPE_GLOUTONNE = 2;
+    private static final int TYPE_DEFENSIVE = 3;
+    private static final int TYPE_MCTS = 4;
+    private static final int TYPE_FIN_DE_PARTIE = 5;
+
+    private static final int VARIANTE_STANDARD = 0;
+    private static final int VARIANTE_TACTIQUE = 1;
+    private static final int VARIANTE_RAPIDE = 2;
+
+    private static final int SANS_EXTENSION = 0;
+    private static final int EXTENSION_MAGIQUE = 1;
+
+    private FormatSauvegarde() {
+    }
+
+    /**
+     * Encode une partie (en-tête compris).
+     * @param partie Partie à encoder
+     * @return Tampon prêt à être écrit (position 0)
+     * @throws IOException Si la variante ou l'extension n'a pas de code
+     */
+    static ByteBuffer encoder(Partie partie) throws IOException {
+        ByteBuffer donnees = ByteBuffer.allocate(1024);
+        List<Joueur> joueurs = partie.getJoueurs();
+        donnees.put((byte) joueurs.size());
+        for (Joueur joueur : joueurs) {
+            byte[] nom = joueur.getNom().getBytes(StandardCharsets.UTF_8);
+            donnees = assurerPlace(donnees, nom.length + 256);
+            donnees.put((byte) typeJoueur(joueur));
+            donnees.putShort((short) nom.length);
+            donnees.put(nom);
+            donnees.putInt(joueur.getScore());
+            ecrireCartes(donnees, joueur.getJest().getCartes(), joueur.getJest().getMasqueVisibles());
+            ecrireCartes(donnees, joueur.getJest().getTrophees(), 0);
+            donnees.putInt(joueur.getJest().getMasqueCacheesDonnees());
+        }
+
+        donnees = assurerPlace(donnees, 256);
+        donnees.putInt(partie.getTourActuel());
+        donnees.put((byte) codeVariante(partie.getVariante()));
+        ecrireExtension(donnees, partie.getExtension());
+        ecrireCartes(donnees, partie.getTropheesEnJeu(), 0);
+        ecrireCartes(donnees, partie.getCartesRestantesPioche(), 0);
+        ecrireCartes(donnees, partie.getCartesResiduelles(), 0);
+        donnees.flip();
+
+        CRC32 crc = new CRC32();
+        crc.update(donnees.duplicate());
+        ByteBuffer fichier = ByteBuffer.allocate(TAILLE_EN_TETE + donnees.remaining());
+        fichier.put(SIGNATURE);
+        fichier.put((byte) VERSION);
+        fichier.putInt(donnees.remaining());
+        fichier.putInt((int) crc.getValue());
+        fichier.put(donnees);
+        fichier.flip();
+        return fichier;
+    }
+
+    private static ByteBuffer assurerPlace(ByteBuffer tampon, int requis) {
+        if (tampon.remaining() >= requis) {
+            return tampon;
+        }
+        ByteBuffer agrandi = ByteBuffer.allocate(Math.max(tampon.capacity() * 2, tampon.position() + requis));
+        tampon.flip();
+        agrandi.put(tampon);
+        return agrandi;
+    }
+
+    private static void ecrireCartes(ByteBuffer tampon, List<? extends Carte> cartes, int masqueVisibles) {
+        tampon.put((byte) cartes.size());
+        for (Carte carte : cartes) {
+            boolean visible = (masqueVisibles & (1 << carte.getIndex())) != 0;
+            tampon.put((byte) (carte.getIndex() | (visible ? BIT_VISIBLE : 0)));
+        }
+    }
+
+    /**
+     * Écrit le code de l'extension, suivi des valeurs tirées pour Chance et Malchance.
+     * @param tampon Tampon de destination (au moins 3 octets libres)
+     * @param extension Extension de la partie (null si aucune)
+     * @throws IOException Si l'extension n'a pas de code
+     */
+    static void ecrireExtension(ByteBuffer tampon, Extension extension) throws IOException {
+        if (extension == null) {
+            tampon.put((byte) SANS_EXTENSION);
+        } else if (extension instanceof ExtensionMagique) {
+            tampon.put((byte) EXTENSION_MAGIQUE);
+            int chance = 0;
+            int malchance = 0;
+            for (Carte carte : extension.getCartesSupplementaires()) {
+                if (carte.getIndex() == Carte.INDEX_CHANCE) {
+                    chance = carte.getValeurEffective(null);
+                } else if (carte.getIndex() == Carte.INDEX_MALCHANCE) {
+                    malchance = carte.getValeurEffective(null);
+                }
+            }
+            tampon.put((byte) chance);
+            tampon.put((byte) malchance);
+        } else {
+            throw new IOException("Extension non prise en charge par le format de sauvegarde : " + extension.getNom());
+        }
+    }
+
+    /**
+     * Relit une extension écrite par {@link #ecrireExtension}.
+     * @param tampon Tampon source
+     * @param nbJoueurs Nombre de joueurs de la partie
+     * @return Extension recréée (null si aucune)
+     * @throws IOException Si le code est inconnu
+     */
+    static Extension lireExtension(ByteBuffer tampon, int nbJoueurs) throws IOException {
+        int codeExtension = tampon.get() & 0xFF;
+        if (codeExtension == SANS_EXTENSION) {
+            return null;
+        } else if (codeExtension == EXTENSION_MAGIQUE) {
+            int chance = tampon.get();
+            int malchance = tampon.get();
+            return new ExtensionMagique(nbJoueurs, chance, malchance);
+        }
+        throw new IOException("Extension inconnue : " + codeExtension);
+    }
+
+    static int typeJoueur(Joueur joueur) {
+        if (joueur instanceof JoueurVirtuel) {
+            StrategieJeu strategie = ((JoueurVirtuel) joueur).getStrategie();
+            if (strategie instanceof StrategieGloutonne) {
+                return TYPE_GLOUTONNE;
+            } else if (strategie instanceof StrategieDefensive) {
+                return TYPE_DEFENSIVE;
+            } else if (strategie instanceof StrategieMCTS) {
+                return TYPE_MCTS;
+            } else if (strategie instanceof StrategieOptimaleFinDePartie) {
+                return TYPE_FIN_DE_PARTIE;
+            }
+            return TYPE_ALEATOIRE;
+        }
+        return TYPE_PHYSIQUE;
+    }
+
+    static int codeVariante(Variante variante) throws IOException {
+        if (variante instanceof VarianteStandard) {
+            return VARIANTE_STANDARD;
+        } else if (variante instanceof VarianteTactique) {
+            return VARIANTE_TACTIQUE;
+        } else if (variante instanceof VarianteRapide) {
+            return VARIANTE_RAPIDE;
+        }
+        throw new IOException("Variante non prise en charge par le format de sauvegarde : " + variante.getNom());
+    }
+
+    /**
+     * Vérifie la signature d'un fichier.
+     * @param tampon Contenu du fichier (position 0)
+     * @return true si le fichier est au format binaire
+     */
+    static boolean estFormatBinaire(ByteBuffer tampon) {
+        if (tampon.remaining() < SIGNATURE.length) {
+            return false;
+        }
+        for (int i = 0; i < SIGNATURE.length; i++) {
+            if (tampon.get(i) != SIGNATURE[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Décode une partie (en-tête compris).
+     * @param tampon Contenu du fichier (position 0)
+     * @return Partie restaurée
+     * @throws IOException Si l'en-tête, la somme de contrôle ou les données sont invalides
+     */
+    static Partie decoder(ByteBuffer tampon) throws IOException {
+        if (!estFormatBinaire(tampon) || tampon.remaining() < TAILLE_EN_TETE) {
+            throw new IOException("Signature de sauvegarde absente");
+        }
+        tampon.position(SIGNATURE.length);
+        int version = tampon.get() & 0xFF;
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Version de sauvegarde non prise en charge : " + version);
+        }
+        int longueur = tampon.getInt();
+        int crcAttendu = tampon.getInt();
+        if (longueur != tampon.remaining()) {
+            throw new IOException("Sauvegarde tronquée : " + tampon.remaining() + " octets sur " + longueur);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(tampon.duplicate());
+        if ((int) crc.getValue() != crcAttendu) {
+            throw new IOException("Sauvegarde corrompue (somme de contrôle invalide)");
+        }
+
+        try {
+            return lireDonnees(tampon, version);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Données de sauvegarde invalides", e);
+        }
+    }
+
+    private static Partie lireDonnees(ByteBuffer tampon, int version) throws IOException {
+        int nbJoueurs = tampon.get() & 0xFF;
+        int[] types = new int[nbJoueurs];
+        String[] noms = new String[nbJoueurs];
+        int[] scores = new int[nbJoueurs];
+        int[][] jests = new int[nbJoueurs][];
+        int[][] trophees = new int[nbJoueurs][];
+        int[] cacheesDonnees = new int[nbJoueurs];
+        for (int i = 0; i < nbJoueurs; i++) {
+            types[i] = tampon.get() & 0xFF;
+            byte[] nom = new byte[tampon.getShort() & 0xFFFF];
+            tampon.get(nom);
+            noms[i] = new String(nom, StandardCharsets.UTF_8);
+            scores[i] = tampon.getInt();
+            jests[i] = lireCodes(tampon);
+            trophees[i] = lireCodes(tampon);
+            if (version >= 2) {
+                cacheesDonnees[i] = tampon.getInt();
+            }
+        }
+
+        int tourActuel = tampon.getInt();
+        Variante variante = variante(tampon.get() & 0xFF);
+        Extension extension = lireExtension(tampon, nbJoueurs);
+
+        // Cartes de base partagées ; les cartes magiques sont celles de l'extension
+        Carte[] cartes = new Carte[Carte.NB_IDENTITES];
+        if (extension != null) {
+            for (Carte carte : extension.getCartesSupplementaires()) {
+                cartes[carte.getIndex()] = carte;
+            }
+        }
+
+        List<Trophee> tropheesEnJeu = new ArrayList<>();
+        for (int code : lireCodes(tampon)) {
+            tropheesEnJeu.add(new Trophee(carte(cartes, code)));
+        }
+        List<Carte> pioche = cartes(cartes, lireCodes(tampon));
+        List<Carte> residuelles = cartes(cartes, lireCodes(tampon));
+
+        List<Joueur> joueurs = new ArrayList<>();
+        for (int i = 0; i < nbJoueurs; i++) {
+            Joueur joueur = creerJoueur(types[i], noms[i]);
+            for (int code : jests[i]) {
+                joueur.ajouterCarteAuJest(carte(cartes, code), (code & BIT_VISIBLE) != 0);
+            }
+            for (int code : trophees[i]) {
+                joueur.getJest().ajouterTrophee(new Trophee(carte(cartes, code)));
+            }
+            for (int m = cacheesDonnees[i]; m != 0; m &= m - 1) {
+                joueur.getJest().noterCarteCacheeDonnee(carte(cartes, Integer.numberOfTrailingZeros(m)));
+            }
+            joueur.setScore(scores[i]);
+            joueurs.add(joueur);
+        }
+
+        Partie partie = new Partie();
+        partie.restaurerDepuisSauvegarde(joueurs, pioche, tropheesEnJeu, tourActuel, extension, variante, residuelles);
+        return partie;
+    }
+
+    private static int[] lireCodes(ByteBuffer tampon) {
+        int[] codes = new int[tampon.get() & 0xFF];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = tampon.get() & 0xFF;
+        }
+        return codes;
+    }
+
+    private static List<Carte> cartes(Carte[] table, int[] codes) throws IOException {
+        List<Carte> cartes = new ArrayList<>(codes.length);
+        for (int code : codes) {
+            cartes.add(carte(table, code));
+        }
+        return cartes;
+    }
+
+    /**
+     * Retourne la carte d'un code (le bit de visibilité est lu par l'appelant).
+     */
+    private static Carte carte(Carte[] table, int code) throws IOException {
+        int index = code & MASQUE_INDEX;
+        if (index >= Carte.NB_IDENTITES) {
+            throw new IOException("Code de carte invalide : " + code);
+        }
+        if (index <= Carte.INDEX_JOKER) {
+            return Carte.depuisIndex(index);
+        }
+        Carte carte = table[index];
+        if (carte == null) {
+            throw new IOException("Carte d'extension sans extension : " + index);
+        }
+        return carte;
+    }
+
+    static Joueur creerJoueur(int type, String nom) throws IOException {
+        switch (type) {
+            case TYPE_PHYSIQUE:
+                return new JoueurPhysique(nom);
+            case TYPE_ALEATOIRE:
+                return new JoueurVirtuel(nom, new StrategieAleatoire());
+            case TYPE_GLOUTONNE:
+                return new JoueurVirtuel(nom, new StrategieGloutonne());
+            case TYPE_DEFENSIVE:
+                return new JoueurVirtuel(nom, new StrategieDefensive());
+            case TYPE_MCTS:
+                return new JoueurVirtuel(nom, new StrategieMCTS());
+            case TYPE_FIN_DE_PARTIE:
+                return new JoueurVirtuel(nom, new StrategieOptimaleFinDePartie());
+            default:
+                throw new IOException("Type de joueur inconnu : " + type);
+        }
+    }
+
+    static Variante variante(int code) throws IOException {
+        switch (code) {
+            case VARIANTE_STANDARD:
+                return new VarianteStandard();
+            case VARIANTE_TACTIQUE:
+                return new VarianteTactique();
+            case VARIANTE_RAPIDE:
+                return new VarianteRapide();
+            default:
+                throw new IOException("Variante inconnue : " + code);
+        }
+    }
+}
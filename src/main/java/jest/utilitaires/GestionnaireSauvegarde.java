@@ -6,16 +6,28 @@ import jest.modele.cartes.*;
 import jest.modele.extensions.*;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
 
 /**
  * Gestionnaire de sauvegarde/chargement de parties.
- * Utilise la sérialisation Java native (simple, sans dépendance externe).
+ * Les parties sont écrites dans un format binaire compact et versionné ({@link FormatSauvegarde}) :
+ * une carte par octet, joueurs et stratégies par code, somme de contrôle CRC32 dans l'en-tête.
+ * Les anciennes sauvegardes (sérialisation Java) restent lisibles et peuvent être converties
+ * avec {@link #migrer(String)}.
  */
 public class GestionnaireSauvegarde {
 
     private static final String REPERTOIRE_SAUVEGARDES = "sauvegardes/";
     private static final String EXTENSION = ".jest";
+    /** Début de tout flux de sérialisation Java (ancien format). */
+    private static final short SIGNATURE_SERIALISATION = (short) 0xACED;
 
     /**
      * Sauvegarde une partie dans un fichier.
@@ -25,44 +37,126 @@ public class GestionnaireSauvegarde {
      * @throws IOException Si erreur d'écriture
      */
     public static void sauvegarder(Partie partie, String nomFichier) throws IOException {
-        File repertoire = new File(REPERTOIRE_SAUVEGARDES);
-        if (!repertoire.exists()) {
-            repertoire.mkdirs();
-        }
-
-        SauvegardePartie sauvegarde = new SauvegardePartie(partie);
+        ecrire(nomFichier, FormatSauvegarde.encoder(partie));
+    }
 
-        // Sérialiser
-        String cheminComplet = REPERTOIRE_SAUVEGARDES + nomFichier + EXTENSION;
-        try (ObjectOutputStream oos = new ObjectOutputStream(
-                new FileOutputStream(cheminComplet))) {
-            oos.writeObject(sauvegarde);
-        } catch (NotSerializableException e) {
-            System.err.println("ERREUR : Objet non sérialisable : " + e.getMessage());
-            e.printStackTrace();
-            throw e;
+    /**
+     * Écrit une sauvegarde déjà encodée, de façon atomique : les données sont écrites dans
+     * un fichier temporaire, forcées sur disque, puis le fichier est renommé et le répertoire
+     * forcé à son tour. Un arrêt brutal
+     * laisse l'ancienne sauvegarde ou la nouvelle, jamais un fichier tronqué.
+     * 
+     * @param nomFichier Nom du fichier (sans extension)
+     * @param tampon     Sauvegarde encodée
+     * @throws IOException Si erreur d'écriture
+     */
+    static void ecrire(String nomFichier, ByteBuffer tampon) throws IOException {
+        Path repertoire = Paths.get(REPERTOIRE_SAUVEGARDES);
+        Files.createDirectories(repertoire);
+
+        Path temporaire = Files.createTempFile(repertoire, nomFichier, EXTENSION + ".tmp");
+        try {
+            try (FileChannel canal = FileChannel.open(temporaire, StandardOpenOption.WRITE)) {
+                while (tampon.hasRemaining()) {
+                    canal.write(tampon);
+                }
+                canal.force(true);
+            }
+            Files.move(temporaire, chemin(nomFichier), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            forcerRepertoire(repertoire);
+        } finally {
+            Files.deleteIfExists(temporaire);
         }
+    }
 
-        System.out.println("Partie sauvegardée : " + cheminComplet);
+    /**
+     * Force sur disque un répertoire après un renommage : sans cela, un arrêt brutal peut
+     * faire réapparaître l'ancien fichier. Sous Windows, un répertoire ne peut pas être ouvert
+     * ainsi et l'étape est ignorée.
+     * 
+     * @param repertoire Répertoire contenant le fichier renommé
+     * @throws IOException Si le répertoire ne peut être forcé sur disque
+     */
+    static void forcerRepertoire(Path repertoire) throws IOException {
+        try (FileChannel canal = FileChannel.open(repertoire, StandardOpenOption.READ)) {
+            canal.force(true);
+        } catch (IOException e) {
+            if (!System.getProperty("os.name").startsWith("Windows")) {
+                throw e;
+            }
+        }
     }
 
     /**
-     * Charge une partie depuis un fichier.
+     * Charge une partie depuis un fichier, au format binaire ou à l'ancien format.
      * 
      * @param nomFichier Nom du fichier (sans extension)
      * @return Partie chargée
-     * @throws IOException            Si erreur de lecture
-     * @throws ClassNotFoundException Si classe non trouvée
+     * @throws IOException            Si erreur de lecture ou fichier invalide
+     * @throws ClassNotFoundException Si classe non trouvée (ancien format)
      */
     public static Partie charger(String nomFichier) throws IOException, ClassNotFoundException {
-        String cheminComplet = REPERTOIRE_SAUVEGARDES + nomFichier + EXTENSION;
+        ByteBuffer tampon = lireFichier(chemin(nomFichier));
+        if (FormatSauvegarde.estFormatBinaire(tampon)) {
+            return FormatSauvegarde.decoder(tampon);
+        }
+        if (tampon.remaining() >= 2 && tampon.getShort(0) == SIGNATURE_SERIALISATION) {
+            return chargerAncienFormat(tampon);
+        }
+        throw new IOException("Format de sauvegarde inconnu : " + nomFichier);
+    }
 
+    /**
+     * Convertit une sauvegarde de l'ancien format (sérialisation Java) au format binaire.
+     * 
+     * @param nomFichier Nom du fichier (sans extension)
+     * @return true si le fichier a été converti, false s'il était déjà au format binaire
+     * @throws IOException            Si erreur de lecture ou d'écriture
+     * @throws ClassNotFoundException Si classe non trouvée
+     */
+    public static boolean migrer(String nomFichier) throws IOException, ClassNotFoundException {
+        ByteBuffer tampon = lireFichier(chemin(nomFichier));
+        if (FormatSauvegarde.estFormatBinaire(tampon)) {
+            return false;
+        }
+        sauvegarder(chargerAncienFormat(tampon), nomFichier);
+        return true;
+    }
+
+    /**
+     * Vérifie qu'un nom de sauvegarde désigne un fichier du répertoire des sauvegardes.
+     * 
+     * @param nomFichier Nom du fichier (sans extension)
+     * @throws IllegalArgumentException Si le nom est vide ou contient un séparateur de chemin
+     */
+    public static void verifierNom(String nomFichier) {
+        if (nomFichier == null || nomFichier.isBlank() || nomFichier.equals(".") || nomFichier.equals("..")
+                || nomFichier.indexOf('/') >= 0 || nomFichier.indexOf('\\') >= 0 || nomFichier.indexOf('\0') >= 0) {
+            throw new IllegalArgumentException("Nom de sauvegarde invalide : " + nomFichier);
+        }
+    }
+
+    private static Path chemin(String nomFichier) {
+        return Paths.get(REPERTOIRE_SAUVEGARDES + nomFichier + EXTENSION);
+    }
+
+    private static ByteBuffer lireFichier(Path chemin) throws IOException {
+        try (FileChannel canal = FileChannel.open(chemin, StandardOpenOption.READ)) {
+            ByteBuffer tampon = ByteBuffer.allocate((int) canal.size());
+            while (tampon.hasRemaining() && canal.read(tampon) >= 0) {
+                // lecture jusqu'à la fin du fichier
+            }
+            tampon.flip();
+            return tampon;
+        }
+    }
+
+    private static Partie chargerAncienFormat(ByteBuffer tampon) throws IOException, ClassNotFoundException {
         try (ObjectInputStream ois = new ObjectInputStream(
-                new FileInputStream(cheminComplet))) {
+                new ByteArrayInputStream(tampon.array(), 0, tampon.limit()))) {
             SauvegardePartie sauvegarde = (SauvegardePartie) ois.readObject();
-            Partie partie = sauvegarde.restaurerPartie();
-            System.out.println("Partie chargée : " + cheminComplet);
-            return partie;
+            return sauvegarde.restaurerPartie();
         }
     }
 
@@ -102,8 +196,8 @@ public class GestionnaireSauvegarde {
 }
 
 /**
- * Classe interne représentant une sauvegarde sérialisable
- * Contient toutes les données nécessaires pour restaurer une partie
+ * Classe interne représentant une sauvegarde sérialisable (ancien format).
+ * Conservée pour relire les sauvegardes écrites avant le format binaire.
  */
 class SauvegardePartie implements Serializable {
     private static final long serialVersionUID = 1L;
@@ -168,7 +262,7 @@ class SauvegardePartie implements Serializable {
 }
 
 /**
- * Représente les données sérialisables d'un joueur.
+ * Représente les données sérialisables d'un joueur (ancien format).
  */
 class DonneesJoueur implements Serializable {
     private static final long serialVersionUID = 1L;
@@ -196,6 +290,8 @@ class DonneesJoueur implements Serializable {
                 this.type = "VIRTUEL_GLOUTONNE";
             } else if (jv.getStrategie() instanceof StrategieDefensive) {
                 this.type = "VIRTUEL_DEFENSIVE";
+            } else if (jv.getStrategie() instanceof StrategieMCTS) {
+                this.type = "VIRTUEL_MCTS";
             } else{
                 this.type = "VIRTUEL_ALEATOIRE";}
         }
@@ -214,6 +310,9 @@ class DonneesJoueur implements Serializable {
             case "VIRTUEL_DEFENSIVE":
                 joueur = new JoueurVirtuel(nom, new StrategieDefensive());
                 break;
+            case "VIRTUEL_MCTS":
+                joueur = new JoueurVirtuel(nom, new StrategieMCTS());
+                break;
             case "VIRTUEL_ALEATOIRE":
                 joueur = new JoueurVirtuel(nom, new StrategieAleatoire());
                 break;
@@ -0,0 +1,220 @@
+package jest.utilitaires;
+
+import jest.modele.evenements.EcouteurJeu;
+import jest.modele.evenements.EvenementJeu.*;
+import jest.modele.extensions.Extension;
+import jest.modele.extensions.Variante;
+import jest.modele.jeu.Partie;
+import jest.modele.joueurs.Joueur;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Journal d'actions d'une partie, en ajout seul.
+ * Au lieu de sauvegarder l'état complet, le journal enregistre la graine de la partie puis
+ * chaque décision des joueurs, sur un octet ; {@link Rejoueur} reconstruit la partie en
+ * rejouant ces décisions à travers {@link jest.modele.jeu.Tour}.
+ * <pre>
+ * En-tête : "JSTJ" | version (u8) | graine (i64) | nbJoueurs (u8)
+ *           | pour chaque joueur : type (u8) | nom (u16 + UTF-8)
+ *           | variante (u8) | extension (u8) [+ valeur Chance (i8), valeur Malchance (i8)]
+ * Décisions : 1 octet chacune, codées comme dans {@link jest.modele.jeu.SourceDecisions}
+ * </pre>
+ * Le journal est forcé sur disque (fsync) au début de chaque tour et en fin de partie,
+ * ou après chaque décision si demandé : après un arrêt brutal, la partie reprend
+ * à la dernière décision forcée.
+ */
+public class JournalActions implements EcouteurJeu, Closeable {
+    static final byte[] SIGNATURE = {'J', 'S', 'T', 'J'};
+    static final int VERSION = 1;
+
+    private final FileChannel canal;
+    private final List<Joueur> joueurs;
+    private final boolean forcerChaqueAction;
+    private final ByteBuffer decision;
+    private int decisionsAIgnorer;
+
+    private JournalActions(FileChannel canal, Partie partie, boolean forcerChaqueAction, int decisionsAIgnorer) {
+        this.canal = canal;
+        this.joueurs = partie.getJoueurs();
+        this.forcerChaqueAction = forcerChaqueAction;
+        this.decision = ByteBuffer.allocate(1);
+        this.decisionsAIgnorer = decisionsAIgnorer;
+    }
+
+    /**
+     * Crée le journal d'une partie qui vient d'être initialisée et l'abonne à ses événements.
+     * @param fichier Fichier du journal (remplacé s'il existe)
+     * @param partie Partie initialisée, avant son premier tour
+     * @param forcerChaqueAction true pour forcer le journal sur disque après chaque décision
+     * @return Journal abonné à la partie
+     * @throws IOException Si erreur d'écriture, ou si la variante ou l'extension n'a pas de code
+     */
+    public static JournalActions creer(Path fichier, Partie partie, boolean forcerChaqueAction) throws IOException {
+        ByteBuffer entete = encoderEntete(partie);
+        FileChannel canal = FileChannel.open(fichier, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        try {
+            while (entete.hasRemaining()) {
+                canal.write(entete);
+            }
+            canal.force(true);
+        } catch (IOException e) {
+            canal.close();
+            throw e;
+        }
+        JournalActions journal = new JournalActions(canal, partie, forcerChaqueAction, 0);
+        partie.ajouterEcouteur(journal);
+        return journal;
+    }
+
+    /**
+     * Rouvre un journal existant pour y ajouter les décisions suivantes d'une partie rejouée.
+     * @param fichier Fichier du journal
+     * @param partie Partie reconstruite depuis ce journal
+     * @param decisionsAIgnorer Décisions déjà au journal qui seront encore rejouées par la partie
+     * @param forcerChaqueAction true pour forcer le journal sur disque après chaque décision
+     * @return Journal abonné à la partie
+     * @throws IOException Si erreur d'ouverture
+     */
+    static JournalActions reprendre(Path fichier, Partie partie, int decisionsAIgnorer,
+                                    boolean forcerChaqueAction) throws IOException {
+        FileChannel canal = FileChannel.open(fichier, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        JournalActions journal = new JournalActions(canal, partie, forcerChaqueAction, decisionsAIgnorer);
+        partie.ajouterEcouteur(journal);
+        return journal;
+    }
+
+    private static ByteBuffer encoderEntete(Partie partie) throws IOException {
+        List<Joueur> joueurs = partie.getJoueurs();
+        List<byte[]> noms = new ArrayList<>();
+        int taille = SIGNATURE.length + 1 + 8 + 1 + 1 + 3;
+        for (Joueur joueur : joueurs) {
+            byte[] nom = joueur.getNom().getBytes(StandardCharsets.UTF_8);
+            noms.add(nom);
+            taille += 3 + nom.length;
+        }
+
+        ByteBuffer entete = ByteBuffer.allocate(taille);
+        entete.put(SIGNATURE);
+        entete.put((byte) VERSION);
+        entete.putLong(partie.getGraine());
+        entete.put((byte) joueurs.size());
+        for (int i = 0; i < joueurs.size(); i++) {
+            entete.put((byte) FormatSauvegarde.typeJoueur(joueurs.get(i)));
+            entete.putShort((short) noms.get(i).length);
+            entete.put(noms.get(i));
+        }
+        entete.put((byte) FormatSauvegarde.codeVariante(partie.getVariante()));
+        FormatSauvegarde.ecrireExtension(entete, partie.getExtension());
+        entete.flip();
+        return entete;
+    }
+
+    /**
+     * En-tête d'un journal relu.
+     * @param graine Graine de la partie
+     * @param joueurs Joueurs recréés (Jests vides)
+     * @param variante Variante de la partie
+     * @param extension Extension de la partie (null si aucune)
+     */
+    record Entete(long graine, List<Joueur> joueurs, Variante variante, Extension extension) {
+    }
+
+    /**
+     * Relit l'en-tête d'un journal ; le tampon est ensuite positionné sur la première décision.
+     * @param tampon Contenu du journal (position 0)
+     * @return En-tête relu
+     * @throws IOException Si le fichier n'est pas un journal valide
+     */
+    static Entete lireEntete(ByteBuffer tampon) throws IOException {
+        for (int i = 0; i < SIGNATURE.length; i++) {
+            if (tampon.remaining() == 0 || tampon.get() != SIGNATURE[i]) {
+                throw new IOException("Signature de journal absente");
+            }
+        }
+        int version = tampon.get() & 0xFF;
+        if (version != VERSION) {
+            throw new IOException("Version de journal non prise en charge : " + version);
+        }
+        long graine = tampon.getLong();
+        int nbJoueurs = tampon.get() & 0xFF;
+        List<Joueur> joueurs = new ArrayList<>(nbJoueurs);
+        for (int i = 0; i < nbJoueurs; i++) {
+            int type = tampon.get() & 0xFF;
+            byte[] nom = new byte[tampon.getShort() & 0xFFFF];
+            tampon.get(nom);
+            joueurs.add(FormatSauvegarde.creerJoueur(type, new String(nom, StandardCharsets.UTF_8)));
+        }
+        Variante variante = FormatSauvegarde.variante(tampon.get() & 0xFF);
+        Extension extension = FormatSauvegarde.lireExtension(tampon, nbJoueurs);
+        return new Entete(graine, joueurs, variante, extension);
+    }
+
+    @Override
+    public void surTourCommence(TourCommence evenement) {
+        forcer();
+    }
+
+    @Override
+    public void surCarteOffreChoisie(CarteOffreChoisie evenement) {
+        ecrire(evenement.carteCachee().getIndex());
+    }
+
+    @Override
+    public void surOffreCibleChoisie(OffreCibleChoisie evenement) {
+        ecrire(joueurs.indexOf(evenement.offre().getProprietaire()));
+    }
+
+    @Override
+    public void surCartePrise(CartePrise evenement) {
+        ecrire(evenement.carte().getIndex());
+    }
+
+    @Override
+    public void surPartieTerminee(PartieTerminee evenement) {
+        forcer();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (canal.isOpen()) {
+            canal.force(false);
+            canal.close();
+        }
+    }
+
+    private void ecrire(int code) {
+        if (decisionsAIgnorer > 0) {
+            decisionsAIgnorer--;
+            return;
+        }
+        decision.clear();
+        decision.put((byte) code).flip();
+        try {
+            canal.write(decision);
+            if (forcerChaqueAction) {
+                canal.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Écriture du journal impossible", e);
+        }
+    }
+
+    private void forcer() {
+        try {
+            canal.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Écriture du journal impossible", e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package jest.utilitaires;
+
+import jest.modele.jeu.Partie;
+import jest.modele.jeu.SourceDecisions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reconstruit une partie depuis son {@link JournalActions journal d'actions}.
+ * La partie est réinitialisée avec la graine du journal, puis ses tours sont rejoués à travers
+ * {@link jest.modele.jeu.Tour} avec les décisions enregistrées. Les tours complets sont joués
+ * immédiatement ; les décisions d'un tour inachevé restent imposées et seront rejouées au
+ * prochain {@link Partie#executerProchainTour()}, après quoi les joueurs reprennent la main.
+ */
+public final class Rejoueur {
+
+    private Rejoueur() {
+    }
+
+    /**
+     * Reconstruit une partie à partir de toutes les décisions du journal.
+     * @param journal Fichier du journal
+     * @return Partie reconstruite
+     * @throws IOException Si le journal est illisible ou incohérent
+     */
+    public static Partie reconstruire(Path journal) throws IOException {
+        return reconstruire(journal, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Reconstruit une partie à partir des premières décisions du journal
+     * (reproduction d'une situation précise).
+     * @param journal Fichier du journal
+     * @param nbDecisions Nombre maximal de décisions rejouées
+     * @return Partie reconstruite
+     * @throws IOException Si le journal est illisible ou incohérent
+     */
+    public static Partie reconstruire(Path journal, int nbDecisions) throws IOException {
+        return rejouer(lire(journal), nbDecisions).partie;
+    }
+
+    /**
+     * Reconstruit une partie et continue à journaliser ses décisions dans le même fichier
+     * (reprise après un arrêt brutal).
+     * @param journal Fichier du journal
+     * @param forcerChaqueAction true pour forcer le journal sur disque après chaque décision
+     * @return Partie reconstruite, abonnée au journal
+     * @throws IOException Si le journal est illisible ou incohérent
+     */
+    public static Partie reprendre(Path journal, boolean forcerChaqueAction) throws IOException {
+        DecisionsJournal decisions = rejouer(lire(journal), Integer.MAX_VALUE);
+        JournalActions.reprendre(journal, decisions.partie, decisions.restantes(), forcerChaqueAction);
+        return decisions.partie;
+    }
+
+    private static ByteBuffer lire(Path journal) throws IOException {
+        try (FileChannel canal = FileChannel.open(journal, StandardOpenOption.READ)) {
+            ByteBuffer tampon = ByteBuffer.allocate((int) canal.size());
+            while (tampon.hasRemaining() && canal.read(tampon) >= 0) {
+                // lecture jusqu'à la fin du fichier
+            }
+            tampon.flip();
+            return tampon;
+        }
+    }
+
+    private static DecisionsJournal rejouer(ByteBuffer tampon, int nbDecisions) throws IOException {
+        JournalActions.Entete entete;
+        try {
+            entete = JournalActions.lireEntete(tampon);
+        } catch (RuntimeException e) {
+            throw new IOException("En-tête de journal invalide", e);
+        }
+
+        Partie partie = new Partie();
+        partie.initialiser(entete.joueurs(), entete.extension(), entete.variante(), entete.graine());
+        DecisionsJournal decisions = new DecisionsJournal(partie, tampon,
+                (int) Math.min(tampon.remaining(), (long) nbDecisions));
+        partie.imposerDecisions(decisions);
+
+        int parTour = 3 * entete.joueurs().size();
+        try {
+            while (!partie.estTerminee() && decisions.restantes() >= parTour) {
+                partie.executerProchainTour();
+            }
+        } catch (IllegalStateException e) {
+            throw new IOException("Journal incohérent avec la partie rejouée", e);
+        }
+        return decisions;
+    }
+
+    /**
+     * Décisions lues dans le journal, consommées dans l'ordre par les tours.
+     */
+    private static final class DecisionsJournal implements SourceDecisions {
+        private final Partie partie;
+        private final ByteBuffer decisions;
+        private final int fin;
+
+        DecisionsJournal(Partie partie, ByteBuffer tampon, int nombre) {
+            this.partie = partie;
+            this.decisions = tampon;
+            this.fin = tampon.position() + nombre;
+        }
+
+        @Override
+        public int prochaineDecision() {
+            return decisions.position() < fin ? decisions.get() & 0xFF : -1;
+        }
+
+        int restantes() {
+            return fin - decisions.position();
+        }
+    }
+}
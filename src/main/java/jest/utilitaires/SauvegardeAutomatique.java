@@ -0,0 +1,227 @@
+package jest.utilitaires;
+
+import jest.modele.jeu.Partie;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Écrivain de sauvegardes automatiques en arrière-plan.
+ * <p>
+ * La partie est encodée dans le thread de jeu ({@link FormatSauvegarde}, quelques microsecondes) :
+ * le tampon obtenu est un instantané immuable, indépendant des objets de la partie qui continuent
+ * d'évoluer. L'écriture sur disque (atomique, voir {@link GestionnaireSauvegarde}) est faite par
+ * un thread dédié, si bien que la vitesse du disque n'influe pas sur le déroulement du jeu.
+ * <p>
+ * La file est bornée en nombre de sauvegardes distinctes. Un instantané soumis alors qu'un
+ * précédent du même nom attend encore remplace ce dernier (coalescence) ; si la file est pleine,
+ * l'instantané est refusé sans bloquer l'appelant. Les compteurs de {@link #getStatistiques()}
+ * permettent de surveiller cette contre-pression.
+ */
+public class SauvegardeAutomatique implements Closeable {
+    /** Nombre de sauvegardes distinctes en attente par défaut. */
+    public static final int CAPACITE_PAR_DEFAUT = 64;
+
+    private static SauvegardeAutomatique parDefaut;
+
+    /**
+     * État des compteurs de l'écrivain à un instant donné.
+     *
+     * @param soumises          Instantanés soumis
+     * @param coalescees        Instantanés ayant remplacé un instantané en attente du même nom
+     * @param rejetees          Instantanés refusés, file pleine
+     * @param ecrites           Sauvegardes écrites sur disque
+     * @param echecs            Échecs d'encodage ou d'écriture
+     * @param enAttente         Sauvegardes actuellement en attente
+     * @param enAttenteMax      Plus grand nombre de sauvegardes en attente observé
+     * @param dureeEcritureMoyenneNs Durée moyenne d'une écriture, en nanosecondes
+     */
+    public record Statistiques(long soumises, long coalescees, long rejetees, long ecrites, long echecs,
+                               int enAttente, int enAttenteMax, long dureeEcritureMoyenneNs) {
+    }
+
+    private final int capacite;
+    private final Map<String, ByteBuffer> enAttente;
+    private final Thread ecrivain;
+    private boolean ecritureEnCours;
+    private boolean ferme;
+
+    private long soumises;
+    private long coalescees;
+    private long rejetees;
+    private long ecrites;
+    private long echecs;
+    private int enAttenteMax;
+    private long dureeEcritureTotaleNs;
+    private Exception derniereErreur;
+
+    /**
+     * Constructeur de SauvegardeAutomatique. Démarre le thread d'écriture.
+     *
+     * @param capacite Nombre maximal de sauvegardes distinctes en attente
+     */
+    public SauvegardeAutomatique(int capacite) {
+        if (capacite < 1) {
+            throw new IllegalArgumentException("La capacité doit être positive");
+        }
+        this.capacite = capacite;
+        this.enAttente = new LinkedHashMap<>();
+        this.ecrivain = new Thread(this::ecrireEnBoucle, "jest-sauvegarde-auto");
+        this.ecrivain.setDaemon(true);
+        this.ecrivain.start();
+    }
+
+    /**
+     * Retourne l'écrivain partagé, créé au premier appel.
+     *
+     * @return Écrivain par défaut
+     */
+    public static synchronized SauvegardeAutomatique parDefaut() {
+        if (parDefaut == null || parDefaut.estFerme()) {
+            parDefaut = new SauvegardeAutomatique(CAPACITE_PAR_DEFAUT);
+        }
+        return parDefaut;
+    }
+
+    /**
+     * Encode la partie et confie l'instantané au thread d'écriture, sans attendre le disque.
+     *
+     * @param nomFichier Nom de la sauvegarde (sans extension)
+     * @param partie     Partie à sauvegarder
+     * @return true si l'instantané a été accepté (éventuellement en remplaçant un précédent),
+     *         false s'il a été refusé (file pleine, écrivain arrêté, nom invalide ou partie non encodable)
+     */
+    public boolean soumettre(String nomFichier, Partie partie) {
+        ByteBuffer instantane;
+        try {
+            GestionnaireSauvegarde.verifierNom(nomFichier);
+            instantane = FormatSauvegarde.encoder(partie);
+        } catch (IOException | RuntimeException e) {
+            synchronized (this) {
+                soumises++;
+                echecs++;
+                derniereErreur = e;
+            }
+            return false;
+        }
+
+        synchronized (this) {
+            soumises++;
+            if (ferme || !ecrivain.isAlive()) {
+                rejetees++;
+                return false;
+            }
+            if (enAttente.containsKey(nomFichier)) {
+                coalescees++;
+            } else if (enAttente.size() >= capacite) {
+                rejetees++;
+                return false;
+            }
+            enAttente.put(nomFichier, instantane);
+            enAttenteMax = Math.max(enAttenteMax, enAttente.size());
+            notifyAll();
+            return true;
+        }
+    }
+
+    /**
+     * Attend que toutes les sauvegardes en attente soient écrites.
+     *
+     * @throws InterruptedException Si le thread appelant est interrompu
+     */
+    public synchronized void vider() throws InterruptedException {
+        while ((!enAttente.isEmpty() || ecritureEnCours) && ecrivain.isAlive()) {
+            wait();
+        }
+    }
+
+    /**
+     * Écrit les sauvegardes en attente puis arrête le thread d'écriture.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            ferme = true;
+            notifyAll();
+        }
+        try {
+            ecrivain.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return true si l'écrivain a été fermé
+     */
+    public synchronized boolean estFerme() {
+        return ferme;
+    }
+
+    /**
+     * @return Compteurs de l'écrivain
+     */
+    public synchronized Statistiques getStatistiques() {
+        long dureeMoyenne = ecrites + echecs > 0 ? dureeEcritureTotaleNs / (ecrites + echecs) : 0;
+        return new Statistiques(soumises, coalescees, rejetees, ecrites, echecs,
+                enAttente.size(), enAttenteMax, dureeMoyenne);
+    }
+
+    /**
+     * @return Dernière erreur d'encodage ou d'écriture, ou null
+     */
+    public synchronized Exception getDerniereErreur() {
+        return derniereErreur;
+    }
+
+    private void ecrireEnBoucle() {
+        while (true) {
+            String nomFichier;
+            ByteBuffer instantane;
+            synchronized (this) {
+                while (enAttente.isEmpty() && !ferme) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        ferme = true;
+                    }
+                }
+                if (enAttente.isEmpty()) {
+                    notifyAll();
+                    return;
+                }
+                Iterator<Map.Entry<String, ByteBuffer>> premiere = enAttente.entrySet().iterator();
+                Map.Entry<String, ByteBuffer> entree = premiere.next();
+                premiere.remove();
+                nomFichier = entree.getKey();
+                instantane = entree.getValue();
+                ecritureEnCours = true;
+            }
+
+            long debut = System.nanoTime();
+            Exception erreur = null;
+            try {
+                GestionnaireSauvegarde.ecrire(nomFichier, instantane);
+            } catch (IOException | RuntimeException e) {
+                // Une exception non contrôlée ne doit pas arrêter le thread : les sauvegardes suivantes seraient perdues
+                erreur = e;
+            }
+
+            synchronized (this) {
+                dureeEcritureTotaleNs += System.nanoTime() - debut;
+                if (erreur == null) {
+                    ecrites++;
+                } else {
+                    echecs++;
+                    derniereErreur = erreur;
+                }
+                ecritureEnCours = false;
+                notifyAll();
+            }
+        }
+    }
+}
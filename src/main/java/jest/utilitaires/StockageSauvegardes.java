@@ -0,0 +1,419 @@
+package jest.utilitaires;
+
+import jest.modele.jeu.Partie;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+/**
+ * Stockage de nombreuses sauvegardes dans un unique fichier segment, projeté en mémoire.
+ * Alternative à {@link GestionnaireSauvegarde} (un fichier par partie) pour un serveur
+ * conservant des dizaines de milliers de parties suspendues.
+ * <p>
+ * Le segment est en ajout seul : enregistrer ou supprimer une partie ajoute une entrée à la fin.
+ * Un index en mémoire associe chaque nom à la position de sa dernière entrée (recherche en O(1)) ;
+ * il est reconstruit à l'ouverture en parcourant le segment. Chaque entrée est forcée sur disque
+ * (fsync) avant que l'index ne soit mis à jour : une partie enregistrée survit à un arrêt brutal,
+ * et une entrée à moitié écrite est détectée par sa somme de contrôle et écartée à la réouverture.
+ * Les entrées remplacées ou supprimées occupent de la place jusqu'au prochain {@link #compacter()}.
+ * <pre>
+ * En-tête (8 octets) : "JSTS" | version (i32)
+ * Entrée : type (u8) | nom (u16 + UTF-8) | longueur (i32) | CRC32 (i32) | données
+ *   type 1 : sauvegarde, données au {@link FormatSauvegarde format binaire} ;
+ *   type 2 : suppression, sans données ; type 0 : fin du segment.
+ * </pre>
+ * Les lectures peuvent être concurrentes ; les écritures sont exclusives.
+ * La taille du segment est limitée à 2 Go.
+ */
+public class StockageSauvegardes implements Closeable {
+    private static final byte[] SIGNATURE = {'J', 'S', 'T', 'S'};
+    private static final int VERSION = 1;
+    private static final int TAILLE_EN_TETE = 8;
+    /** type + longueur du nom + longueur des données + CRC32 */
+    private static final int TAILLE_ENTETE_ENTREE = 11;
+    private static final int TAILLE_INITIALE = 1 << 16;
+
+    private static final byte FIN = 0;
+    private static final byte SAUVEGARDE = 1;
+    private static final byte SUPPRESSION = 2;
+
+    /** Position et taille des données d'une sauvegarde dans le segment. */
+    private record Entree(int position, int longueur, int tailleTotale) {
+    }
+
+    private final Path fichier;
+    private final Map<String, Entree> index;
+    private final ReentrantReadWriteLock verrou;
+    private FileChannel canal;
+    private MappedByteBuffer segment;
+    private int fin;
+    private long octetsMorts;
+
+    /**
+     * Ouvre (ou crée) un segment de sauvegardes.
+     * Une entrée incomplète en fin de segment (arrêt brutal pendant une écriture) est écartée.
+     * @param fichier Chemin du fichier segment
+     * @throws IOException Si le fichier ne peut être ouvert ou n'est pas un segment de sauvegardes
+     */
+    public StockageSauvegardes(Path fichier) throws IOException {
+        this.fichier = fichier;
+        this.index = new HashMap<>();
+        this.verrou = new ReentrantReadWriteLock();
+        Path parent = fichier.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        ouvrir();
+    }
+
+    /**
+     * Ouvre le segment par défaut, {@code sauvegardes/parties.seg}.
+     * @throws IOException Si le fichier ne peut être ouvert
+     */
+    public StockageSauvegardes() throws IOException {
+        this(Paths.get("sauvegardes", "parties.seg"));
+    }
+
+    private void ouvrir() throws IOException {
+        canal = FileChannel.open(fichier, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        long taille = canal.size();
+        if (taille > Integer.MAX_VALUE) {
+            throw new IOException("Segment de sauvegardes trop volumineux : " + fichier);
+        }
+        boolean nouveau = taille == 0;
+        segment = canal.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(taille, TAILLE_INITIALE));
+        if (nouveau) {
+            segment.put(0, SIGNATURE);
+            segment.putInt(SIGNATURE.length, VERSION);
+            segment.force(0, TAILLE_EN_TETE);
+        } else if (!signatureValide() || segment.getInt(SIGNATURE.length) != VERSION) {
+            canal.close();
+            throw new IOException("Fichier segment invalide : " + fichier);
+        }
+        fin = TAILLE_EN_TETE;
+        octetsMorts = 0;
+        index.clear();
+        parcourir();
+    }
+
+    private boolean signatureValide() {
+        for (int i = 0; i < SIGNATURE.length; i++) {
+            if (segment.get(i) != SIGNATURE[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reconstruit l'index en parcourant les entrées jusqu'à la fin du segment.
+     * La première entrée invalide marque la fin : le reste du fichier est effacé.
+     */
+    private void parcourir() throws IOException {
+        while (fin + TAILLE_ENTETE_ENTREE <= segment.capacity()) {
+            byte type = segment.get(fin);
+            if (type == FIN) {
+                return;
+            }
+            int longueurNom = segment.getShort(fin + 1) & 0xFFFF;
+            int debutDonnees = fin + TAILLE_ENTETE_ENTREE + longueurNom;
+            int longueur = debutDonnees <= segment.capacity() ? segment.getInt(fin + 3 + longueurNom) : -1;
+            if ((type != SAUVEGARDE && type != SUPPRESSION) || longueur < 0
+                    || longueur > segment.capacity() - debutDonnees
+                    || segment.getInt(fin + 7 + longueurNom) != crc(fin, debutDonnees + longueur)) {
+                effacerApres(fin);
+                return;
+            }
+            byte[] nom = new byte[longueurNom];
+            segment.get(fin + 3, nom);
+            int taille = debutDonnees + longueur - fin;
+            Entree precedente = type == SAUVEGARDE
+                    ? index.put(new String(nom, StandardCharsets.UTF_8), new Entree(debutDonnees, longueur, taille))
+                    : index.remove(new String(nom, StandardCharsets.UTF_8));
+            if (precedente != null) {
+                octetsMorts += precedente.tailleTotale();
+            }
+            if (type == SUPPRESSION) {
+                octetsMorts += taille;
+            }
+            fin += taille;
+        }
+    }
+
+    private void effacerApres(int position) throws IOException {
+        for (int i = position; i < segment.capacity(); i++) {
+            segment.put(i, FIN);
+        }
+        segment.force();
+    }
+
+    /**
+     * CRC32 d'une entrée : type, nom, longueur et données (le champ CRC lui-même exclu).
+     */
+    private int crc(int debut, int finEntree) {
+        int longueurNom = segment.getShort(debut + 1) & 0xFFFF;
+        int champCrc = debut + 7 + longueurNom;
+        CRC32 crc = new CRC32();
+        crc.update(segment.slice(debut, champCrc - debut));
+        crc.update(segment.slice(champCrc + 4, finEntree - champCrc - 4));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Enregistre une partie sous un nom, en remplaçant l'éventuelle sauvegarde existante.
+     * L'entrée est sur disque au retour de la méthode.
+     * @param nom Nom de la sauvegarde
+     * @param partie Partie à sauvegarder
+     * @throws IOException Si erreur d'écriture
+     */
+    public void enregistrer(String nom, Partie partie) throws IOException {
+        ByteBuffer donnees = FormatSauvegarde.encoder(partie);
+        verrou.writeLock().lock();
+        try {
+            int position = ajouter(SAUVEGARDE, nom, donnees);
+            Entree precedente = index.put(nom, new Entree(fin - donnees.limit(), donnees.limit(), fin - position));
+            if (precedente != null) {
+                octetsMorts += precedente.tailleTotale();
+            }
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Charge une partie.
+     * @param nom Nom de la sauvegarde
+     * @return Partie restaurée
+     * @throws IOException Si la sauvegarde n'existe pas ou est invalide
+     */
+    public Partie charger(String nom) throws IOException {
+        ByteBuffer donnees;
+        verrou.readLock().lock();
+        try {
+            verifierOuvert();
+            Entree entree = index.get(nom);
+            if (entree == null) {
+                throw new IOException("Sauvegarde introuvable : " + nom);
+            }
+            donnees = segment.slice(entree.position(), entree.longueur());
+        } finally {
+            verrou.readLock().unlock();
+        }
+        return FormatSauvegarde.decoder(donnees);
+    }
+
+    /**
+     * @param nom Nom de la sauvegarde
+     * @return true si une sauvegarde porte ce nom
+     */
+    public boolean contient(String nom) {
+        verrou.readLock().lock();
+        try {
+            return index.containsKey(nom);
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Liste les sauvegardes du segment, sans accès au disque.
+     * @return Noms des sauvegardes
+     */
+    public List<String> listerSauvegardes() {
+        verrou.readLock().lock();
+        try {
+            return new ArrayList<>(index.keySet());
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Supprime une sauvegarde. La place n'est rendue qu'au prochain {@link #compacter()}.
+     * @param nom Nom de la sauvegarde
+     * @return true si la sauvegarde existait
+     * @throws IOException Si erreur d'écriture
+     */
+    public boolean supprimer(String nom) throws IOException {
+        verrou.writeLock().lock();
+        try {
+            Entree entree = index.get(nom);
+            if (entree == null) {
+                return false;
+            }
+            int position = ajouter(SUPPRESSION, nom, ByteBuffer.allocate(0));
+            index.remove(nom);
+            octetsMorts += entree.tailleTotale() + (fin - position);
+            return true;
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Réécrit le segment avec les seules sauvegardes actives.
+     * Le nouveau segment est écrit dans un fichier temporaire, forcé sur disque, puis renommé
+     * atomiquement, et le répertoire est forcé à son tour : un arrêt brutal laisse l'ancien segment
+     * ou le nouveau, jamais un mélange, et le renommage n'est pas perdu. Si le renommage échoue,
+     * le fichier temporaire est effacé et l'ancien segment rouvert.
+     * @throws IOException Si erreur d'écriture
+     */
+    public void compacter() throws IOException {
+        verrou.writeLock().lock();
+        try {
+            verifierOuvert();
+            Path temporaire = fichier.resolveSibling(fichier.getFileName() + ".tmp");
+            boolean remplace = false;
+            try {
+                try (FileChannel sortie = FileChannel.open(temporaire, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                    ByteBuffer enTete = ByteBuffer.allocate(TAILLE_EN_TETE);
+                    enTete.put(SIGNATURE).putInt(VERSION).flip();
+                    ecrireTout(sortie, enTete);
+                    for (Entree entree : index.values()) {
+                        int debut = entree.position() + entree.longueur() - entree.tailleTotale();
+                        ecrireTout(sortie, segment.slice(debut, entree.tailleTotale()));
+                    }
+                    sortie.force(true);
+                }
+                fermerCanal();
+                Files.move(temporaire, fichier, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                remplace = true;
+                GestionnaireSauvegarde.forcerRepertoire(fichier.toAbsolutePath().getParent());
+            } finally {
+                if (!remplace) {
+                    Files.deleteIfExists(temporaire);
+                }
+                if (canal == null) {
+                    ouvrir(); // Nouveau segment si le renommage a eu lieu, l'ancien sinon
+                }
+            }
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return Nombre d'octets occupés par des entrées remplacées ou supprimées
+     */
+    public long getOctetsMorts() {
+        verrou.readLock().lock();
+        try {
+            return octetsMorts;
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Taille utile du segment en octets
+     */
+    public long getTaille() {
+        verrou.readLock().lock();
+        try {
+            return fin;
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        verrou.writeLock().lock();
+        try {
+            if (canal != null) {
+                segment.force();
+                fermerCanal();
+            }
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ajoute une entrée en fin de segment et la force sur disque.
+     * @return Position de l'entrée
+     */
+    private int ajouter(byte type, String nom, ByteBuffer donnees) throws IOException {
+        verifierOuvert();
+        byte[] octetsNom = nomEnOctets(nom);
+        int taille = TAILLE_ENTETE_ENTREE + octetsNom.length + donnees.remaining();
+        assurerCapacite(taille);
+        int position = fin;
+        int champCrc = position + 7 + octetsNom.length;
+        segment.put(champCrc + 4, donnees, donnees.position(), donnees.remaining());
+        segment.putShort(position + 1, (short) octetsNom.length);
+        segment.put(position + 3, octetsNom);
+        segment.putInt(position + 3 + octetsNom.length, donnees.remaining());
+        segment.put(position, type);
+        segment.putInt(champCrc, crc(position, position + taille));
+        segment.force(position, taille);
+        fin += taille;
+        return position;
+    }
+
+    private static byte[] nomEnOctets(String nom) {
+        byte[] octets = nom.getBytes(StandardCharsets.UTF_8);
+        if (octets.length > 0xFFFF) {
+            throw new IllegalArgumentException("Nom de sauvegarde trop long");
+        }
+        return octets;
+    }
+
+    /**
+     * Agrandit le fichier (par doublement) et le reprojette si l'entrée ne tient pas.
+     * Une marque de fin doit toujours pouvoir suivre la dernière entrée.
+     */
+    private void assurerCapacite(int taille) throws IOException {
+        long requis = (long) fin + taille + 1;
+        if (requis <= segment.capacity()) {
+            return;
+        }
+        long nouvelle = segment.capacity();
+        while (nouvelle < requis) {
+            nouvelle *= 2;
+        }
+        if (nouvelle > Integer.MAX_VALUE) {
+            if (requis > Integer.MAX_VALUE) {
+                throw new IOException("Segment de sauvegardes plein : " + fichier);
+            }
+            nouvelle = Integer.MAX_VALUE;
+        }
+        segment.force();
+        segment = canal.map(FileChannel.MapMode.READ_WRITE, 0, nouvelle);
+    }
+
+    private static void ecrireTout(FileChannel sortie, ByteBuffer tampon) throws IOException {
+        while (tampon.hasRemaining()) {
+            sortie.write(tampon);
+        }
+    }
+
+    private void verifierOuvert() throws IOException {
+        if (canal == null) {
+            throw new IOException("Segment de sauvegardes fermé : " + fichier);
+        }
+    }
+
+    private void fermerCanal() throws IOException {
+        canal.close();
+        canal = null;
+        segment = null;
+    }
+}
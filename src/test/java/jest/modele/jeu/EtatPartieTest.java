@@ -0,0 +1,133 @@
+package jest.modele.jeu;
+
+import jest.modele.evenements.EcouteurJeu;
+import jest.modele.evenements.EvenementJeu.CartePrise;
+import jest.modele.joueurs.*;
+import jest.simulation.MoteurSimulation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'information imparfaite d'{@link EtatPartie} : un joueur sait où se trouvent
+ * les cartes cachées de ses offres prises par ses adversaires.
+ */
+class EtatPartieTest {
+    private static final int NB_PARTIES = 300;
+
+    private static MoteurSimulation moteur(int nbJoueurs, String variante) {
+        List<Supplier<StrategieJeu>> strategies =
+                List.of(StrategieAleatoire::new, StrategieGloutonne::new, StrategieDefensive::new, StrategieAleatoire::new);
+        return new MoteurSimulation(strategies.subList(0, nbJoueurs), MoteurSimulation.varianteDepuisNom(variante), true);
+    }
+
+    @Test
+    void depuisReprendLesCartesCacheesDonneesDeLaPartie() {
+        int donnees = 0;
+        for (int n = 0; n < NB_PARTIES; n++) {
+            Partie partie = moteur(3 + n % 2, "standard").creerPartie(MoteurSimulation.graineDePartie(11, n));
+            int[] attendues = new int[partie.getJoueurs().size()];
+            partie.ajouterEcouteur(new EcouteurJeu() {
+                @Override
+                public void surCartePrise(CartePrise evenement) {
+                    if (!evenement.visible() && evenement.proprietaire() != evenement.joueur()) {
+                        attendues[partie.getJoueurs().indexOf(evenement.proprietaire())] |= 1 << evenement.carte().getIndex();
+                    }
+                }
+            });
+            while (!partie.estTerminee()) {
+                partie.executerProchainTour();
+                EtatPartie etat = EtatPartie.depuis(partie);
+                for (int p = 0; p < attendues.length; p++) {
+                    assertEquals(attendues[p], etat.getMasqueCacheesDonnees(p), "partie " + n + ", siège " + p);
+                    donnees |= attendues[p];
+                }
+            }
+        }
+        assertNotEquals(0, donnees, "aucune carte cachée prise par un adversaire");
+    }
+
+    @Test
+    void cartesCacheesDonneesNeSontPasInconnues() {
+        SplittableRandom random = new SplittableRandom(5);
+        int[] actions = new int[EtatPartie.MAX_ACTIONS];
+        int donnees = 0;
+        for (int n = 0; n < NB_PARTIES; n++) {
+            Partie partie = moteur(3 + n % 2, "standard").creerPartie(MoteurSimulation.graineDePartie(12, n));
+            EtatPartie etat = EtatPartie.depuis(partie);
+            while (etat.getPhase() != EtatPartie.Phase.TERMINEE) {
+                if (etat.getPhase() == EtatPartie.Phase.DISTRIBUTION) {
+                    etat = etat.avancer(random);
+                    continue;
+                }
+                for (int observateur = 0; observateur < etat.getNbJoueurs(); observateur++) {
+                    int connues = etat.getMasqueCacheesDonnees(observateur);
+                    assertEquals(0, etat.getMasqueInconnues(observateur) & connues, "partie " + n);
+                    for (int p = 0; p < etat.getNbJoueurs(); p++) {
+                        assertEquals(0, etat.getMasqueJestInconnu(observateur, p) & connues, "partie " + n);
+                    }
+                    donnees |= connues;
+                }
+                etat = etat.appliquer(actions[random.nextInt(etat.actionsLegales(actions))]);
+            }
+        }
+        assertNotEquals(0, donnees, "aucune carte cachée prise par un adversaire");
+    }
+
+    @Test
+    void redistribuerNeDeplaceAucuneCarteVueParObservateur() {
+        SplittableRandom random = new SplittableRandom(6);
+        int[] actions = new int[EtatPartie.MAX_ACTIONS];
+        for (int n = 0; n < NB_PARTIES; n++) {
+            String variante = n % 3 == 0 ? "standard" : n % 3 == 1 ? "tactique" : "rapide";
+            Partie partie = moteur(3 + n % 2, variante).creerPartie(MoteurSimulation.graineDePartie(14, n));
+            EtatPartie etat = EtatPartie.depuis(partie);
+            while (etat.getPhase() != EtatPartie.Phase.TERMINEE) {
+                if (etat.getPhase() == EtatPartie.Phase.DISTRIBUTION) {
+                    etat = etat.avancer(random);
+                    continue;
+                }
+                int observateur = etat.getJoueurCourant();
+                verifierDeterminisation(etat, etat.redistribuer(observateur, random), observateur, "partie " + n);
+                etat = etat.appliquer(actions[random.nextInt(etat.actionsLegales(actions))]);
+            }
+        }
+    }
+
+    /**
+     * Seules les cartes inconnues de l'observateur changent de place, et chaque emplacement garde sa taille.
+     */
+    private static void verifierDeterminisation(EtatPartie etat, EtatPartie tire, int observateur, String contexte) {
+        int inconnues = etat.getMasqueInconnues(observateur);
+        assertEquals(etat.getPhase(), tire.getPhase(), contexte);
+        assertEquals(etat.getJoueurCourant(), tire.getJoueurCourant(), contexte);
+        assertArrayEquals(etat.getCartesResiduelles(), tire.getCartesResiduelles(), contexte);
+        assertEquals(etat.getTaillePioche(), tire.getTaillePioche(), contexte);
+        for (int p = 0; p < etat.getNbJoueurs(); p++) {
+            String siege = contexte + ", siège " + p;
+            int jestConnu = etat.getMasqueJest(p) & ~inconnues;
+            assertEquals(jestConnu, tire.getMasqueJest(p) & ~inconnues, siege);
+            assertEquals(Integer.bitCount(etat.getMasqueJest(p)), Integer.bitCount(tire.getMasqueJest(p)), siege);
+            assertEquals(etat.getMasqueJestVisible(p), tire.getMasqueJestVisible(p), siege);
+            assertEquals(etat.getMasqueOffreVisible(p), tire.getMasqueOffreVisible(p), siege);
+            assertEquals(etat.getMasqueCacheesDonnees(p), tire.getMasqueCacheesDonnees(p), siege);
+            assertEquals(Integer.bitCount(etat.getMasqueMain(p)), Integer.bitCount(tire.getMasqueMain(p)), siege);
+            assertEquals(etat.getCarteCachee(p) == EtatPartie.AUCUNE, tire.getCarteCachee(p) == EtatPartie.AUCUNE, siege);
+            if (p == observateur) {
+                assertEquals(etat.getMasqueJest(p), tire.getMasqueJest(p), siege);
+                assertEquals(etat.getMasqueMain(p), tire.getMasqueMain(p), siege);
+                assertEquals(etat.getCarteCachee(p), tire.getCarteCachee(p), siege);
+            } else {
+                assertEquals(0, (tire.getMasqueJest(p) & ~jestConnu) & ~inconnues, siege);
+                assertEquals(0, tire.getMasqueMain(p) & ~inconnues, siege);
+                if (tire.getCarteCachee(p) != EtatPartie.AUCUNE) {
+                    assertNotEquals(0, inconnues & (1 << tire.getCarteCachee(p)), siege);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package jest.modele.jeu;
+
+import jest.modele.cartes.Carte;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests des emplacements fixes d'{@link Offre}.
+ * Des offres tirées au hasard (graine fixe, de une à quatre cartes visibles plus une cachée) sont
+ * vidées carte à carte dans un ordre aléatoire ; après chaque opération, l'offre est comparée à un
+ * modèle de référence tenu dans une simple liste.
+ */
+class OffreTest {
+    private static final int NB_OFFRES = 20000;
+
+    private static void verifier(Offre offre, List<Carte> visibles, String etape) {
+        Carte plusForte = null;
+        for (Carte carte : visibles) {
+            if (plusForte == null || carte.comparerForce(plusForte) > 0) {
+                plusForte = carte;
+            }
+        }
+        List<Carte> restantes = new ArrayList<>(visibles);
+        if (offre.getCarteCachee() != null) {
+            restantes.add(offre.getCarteCachee());
+        }
+        assertSame(plusForte, offre.getCartePlusFortVisible(), etape);
+        assertEquals(visibles, offre.getCartesVisibles(), etape);
+        assertEquals(restantes, offre.getCartesRestantes(), etape);
+        assertSame(visibles.isEmpty() ? null : visibles.get(0), offre.getCarteVisible(), etape);
+        assertEquals(restantes.size() >= 2, offre.estComplete(), etape);
+    }
+
+    @Test
+    void ajoutsEtRetraitsAleatoiresSuiventUneListe() {
+        Random random = new Random(1);
+        for (int n = 0; n < NB_OFFRES; n++) {
+            List<Carte> paquet = new ArrayList<>(Carte.cartesDeBase());
+            Collections.shuffle(paquet, random);
+            int nbVisibles = 1 + random.nextInt(4);
+
+            Offre offre = new Offre(null);
+            List<Carte> visibles = new ArrayList<>();
+            for (int i = 0; i < nbVisibles; i++) {
+                offre.ajouterCarte(paquet.get(i), true);
+                visibles.add(paquet.get(i));
+                verifier(offre, visibles, "offre " + n + ", ajout " + (i + 1));
+            }
+            offre.ajouterCarte(paquet.get(nbVisibles), false);
+            verifier(offre, visibles, "offre " + n + ", carte cachée");
+
+            List<Carte> restantes = new ArrayList<>(offre.getCartesRestantes());
+            while (!restantes.isEmpty()) {
+                Carte carte = restantes.remove(random.nextInt(restantes.size()));
+                assertSame(carte, offre.retirerCarte(carte));
+                visibles.remove(carte);
+                verifier(offre, visibles, "offre " + n + ", retrait de " + carte);
+            }
+        }
+    }
+
+    @Test
+    void retirerUneCarteAbsenteEchoueSansModifierOffre() {
+        List<Carte> cartes = Carte.cartesDeBase();
+        Offre offre = new Offre(null);
+        offre.ajouterCarte(cartes.get(0), true);
+        offre.ajouterCarte(cartes.get(1), false);
+
+        assertThrows(IllegalArgumentException.class, () -> offre.retirerCarte(cartes.get(2)));
+        assertEquals(List.of(cartes.get(0), cartes.get(1)), offre.getCartesRestantes());
+    }
+}
@@ -0,0 +1,181 @@
+package jest.modele.jeu;
+
+import jest.modele.cartes.Carte;
+import jest.modele.evenements.EcouteurJeu;
+import jest.modele.evenements.EvenementJeu.*;
+import jest.modele.joueurs.*;
+import jest.simulation.MoteurSimulation;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests des prises de cartes d'un tour, sur des parties complètes à graine fixe.
+ */
+class TourTest {
+    private static final int NB_PARTIES = 500;
+
+    /**
+     * Joue des parties à graine fixe en observant leurs événements.
+     */
+    private static void jouer(int nbJoueurs, String variante, boolean magique, long graineBase,
+                              List<Supplier<StrategieJeu>> strategies, EcouteurJeu ecouteur) {
+        MoteurSimulation moteur = new MoteurSimulation(strategies.subList(0, nbJoueurs),
+                MoteurSimulation.varianteDepuisNom(variante), magique);
+        for (int n = 0; n < NB_PARTIES; n++) {
+            Partie partie = moteur.creerPartie(MoteurSimulation.graineDePartie(graineBase, n));
+            partie.ajouterEcouteur(ecouteur);
+            while (!partie.estTerminee()) {
+                partie.executerProchainTour();
+            }
+        }
+    }
+
+    /**
+     * Contrôle, à chaque prise, que la carte entre dans le Jest face visible si et seulement si elle
+     * était visible dans l'offre, et que l'événement {@link CartePrise} porte la même face.
+     */
+    private static final class ControleVisibilite implements EcouteurJeu {
+        private long visiblesDansOffres; // Bit i : la carte d'index i est face visible dans une offre du tour
+        private int prises;
+
+        @Override
+        public void surOffresCreees(OffresCreees evenement) {
+            visiblesDansOffres = 0;
+            for (Offre offre : evenement.offres()) {
+                for (Carte carte : offre.getCartesVisibles()) {
+                    visiblesDansOffres |= 1L << carte.getIndex();
+                }
+            }
+        }
+
+        @Override
+        public void surCartePrise(CartePrise evenement) {
+            Carte carte = evenement.carte();
+            boolean visible = (visiblesDansOffres & (1L << carte.getIndex())) != 0;
+            prises++;
+            assertEquals(visible, evenement.visible(), "face annoncée de " + carte);
+            assertEquals(visible, evenement.joueur().getJest().estVisible(carte), "face dans le Jest de " + carte);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 4})
+    void carteVisibleDansOffreResteVisibleDansLeJest(int nbJoueurs) {
+        // Variante tactique : deux cartes visibles par offre, chacune doit rester visible une fois prise
+        ControleVisibilite controle = new ControleVisibilite();
+        jouer(nbJoueurs, "tactique", false, 42,
+                List.of(StrategieAleatoire::new, StrategieGloutonne::new, StrategieAleatoire::new, StrategieGloutonne::new),
+                controle);
+        assertTrue(controle.prises > 0);
+    }
+
+    /**
+     * Recalcule, à partir des seuls événements, le joueur qui doit prendre une carte selon les règles
+     * (carte visible la plus forte, puis propriétaire de l'offre piochée s'il n'a pas joué) ainsi que
+     * les offres autorisées. Le modèle garde ses propres listes de cartes et parcourt tout à chaque fois :
+     * il ne partage rien avec l'indexation par siège de {@link Tour} ni avec les emplacements d'{@link Offre}.
+     */
+    private static final class ControleOrdreDeJeu implements EcouteurJeu {
+        private final List<Joueur> proprietaires = new ArrayList<>();
+        private final List<List<Carte>> visibles = new ArrayList<>();
+        private final List<Carte> cachees = new ArrayList<>();
+        private final List<Joueur> ontJoue = new ArrayList<>();
+        private Joueur attendu;
+        private int prises;
+
+        @Override
+        public void surOffresCreees(OffresCreees evenement) {
+            proprietaires.clear();
+            visibles.clear();
+            cachees.clear();
+            ontJoue.clear();
+            for (Offre offre : evenement.offres()) {
+                proprietaires.add(offre.getProprietaire());
+                visibles.add(new ArrayList<>(offre.getCartesVisibles()));
+                cachees.add(offre.getCarteCachee());
+            }
+            attendu = plusForteParmi(proprietaires);
+        }
+
+        @Override
+        public void surJoueurActif(JoueurActif evenement) {
+            assertSame(attendu, evenement.joueur(), "joueur actif");
+        }
+
+        @Override
+        public void surCartePrise(CartePrise evenement) {
+            prises++;
+            int offre = proprietaires.indexOf(evenement.proprietaire());
+            assertTrue(autorisee(offre, evenement.joueur()),
+                    evenement.joueur().getNom() + " prend dans l'offre de " + evenement.proprietaire().getNom());
+            if (!visibles.get(offre).remove(evenement.carte())) {
+                assertSame(cachees.get(offre), evenement.carte(), "carte prise");
+                cachees.set(offre, null);
+            }
+            ontJoue.add(evenement.joueur());
+
+            List<Joueur> restants = new ArrayList<>(proprietaires);
+            restants.removeAll(ontJoue);
+            attendu = restants.contains(evenement.proprietaire()) ? evenement.proprietaire() : plusForteParmi(restants);
+        }
+
+        private int taille(int offre) {
+            return visibles.get(offre).size() + (cachees.get(offre) != null ? 1 : 0);
+        }
+
+        /**
+         * Une offre est prise chez un autre joueur si possible, et toujours complète.
+         */
+        private boolean autorisee(int offre, Joueur joueur) {
+            if (taille(offre) < 2) {
+                return false;
+            }
+            if (proprietaires.get(offre) != joueur) {
+                return true;
+            }
+            for (int o = 0; o < proprietaires.size(); o++) {
+                if (o != offre && taille(o) >= 2) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Joueur dont l'offre montre la carte visible la plus forte (premier trouvé à égalité).
+         */
+        private Joueur plusForteParmi(List<Joueur> candidats) {
+            Joueur meilleur = null;
+            Carte carteMax = null;
+            for (int o = 0; o < proprietaires.size(); o++) {
+                if (!candidats.contains(proprietaires.get(o))) {
+                    continue;
+                }
+                for (Carte carte : visibles.get(o)) {
+                    if (carteMax == null || carte.comparerForce(carteMax) > 0) {
+                        carteMax = carte;
+                        meilleur = proprietaires.get(o);
+                    }
+                }
+            }
+            return meilleur;
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"standard, 3", "standard, 4", "tactique, 3", "tactique, 4", "rapide, 3", "rapide, 4"})
+    void ordreDeJeuEtOffresAutoriseesSuiventLesRegles(String variante, int nbJoueurs) {
+        ControleOrdreDeJeu controle = new ControleOrdreDeJeu();
+        jouer(nbJoueurs, variante, true, 7,
+                List.of(StrategieAleatoire::new, StrategieGloutonne::new, StrategieDefensive::new, StrategieAleatoire::new),
+                controle);
+        assertTrue(controle.prises > 0);
+    }
+}
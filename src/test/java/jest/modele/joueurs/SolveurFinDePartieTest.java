@@ -0,0 +1,52 @@
+package jest.modele.joueurs;
+
+import jest.modele.jeu.EtatPartie;
+import jest.simulation.MoteurSimulation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du solveur exact du dernier tour.
+ */
+class SolveurFinDePartieTest {
+
+    /**
+     * Parcourt des parties au hasard jusqu'à des positions du dernier tour où le joueur courant
+     * a donné une carte cachée à un adversaire : l'énumération doit compter exactement les
+     * répartitions annoncées par {@link SolveurFinDePartie#compterRepartitions(EtatPartie)}.
+     */
+    @Test
+    void enumerationLaisseEnPlaceLesCartesCacheesDonnees() {
+        List<Supplier<StrategieJeu>> strategies = List.of(StrategieAleatoire::new, StrategieAleatoire::new, StrategieAleatoire::new);
+        MoteurSimulation moteur = new MoteurSimulation(strategies, MoteurSimulation.varianteDepuisNom("standard"), false);
+        SolveurFinDePartie solveur = new SolveurFinDePartie(SolveurFinDePartie.ModeleAdversaires.ALEATOIRES, 5000, 500_000);
+        SplittableRandom random = new SplittableRandom(9);
+        int[] actions = new int[EtatPartie.MAX_ACTIONS];
+        int evaluees = 0;
+        for (int n = 0; evaluees < 10 && n < 2000; n++) {
+            EtatPartie etat = EtatPartie.depuis(moteur.creerPartie(MoteurSimulation.graineDePartie(17, n)));
+            while (etat.getPhase() != EtatPartie.Phase.TERMINEE) {
+                if (etat.getPhase() == EtatPartie.Phase.DISTRIBUTION) {
+                    etat = etat.avancer(random);
+                    continue;
+                }
+                int siege = etat.getJoueurCourant();
+                if (etat.getMasqueCacheesDonnees(siege) != 0 && SolveurFinDePartie.estDernierTour(etat)) {
+                    SolveurFinDePartie.Evaluation evaluation = solveur.evaluer(etat);
+                    if (evaluation != null) {
+                        assertEquals(SolveurFinDePartie.compterRepartitions(etat), evaluation.repartitions(), "partie " + n);
+                        evaluees++;
+                    }
+                    break;
+                }
+                etat = etat.appliquer(actions[random.nextInt(etat.actionsLegales(actions))]);
+            }
+        }
+        assertTrue(evaluees > 0, "aucune position du dernier tour avec une carte cachée donnée");
+    }
+}
@@ -0,0 +1,96 @@
+package jest.modele.score;
+
+import jest.modele.cartes.Carte;
+import jest.modele.cartes.ConditionTrophee;
+import jest.modele.cartes.Paquet;
+import jest.modele.extensions.ExtensionMagique;
+import jest.modele.joueurs.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests du moteur d'attribution des trophées.
+ * Les cartes d'un paquet sont réparties au hasard (graine fixe) entre 3 ou 4 Jests, avec ou sans
+ * extension ; pour chaque condition, le gagnant du moteur doit être celui de {@link ConditionTrophee}.
+ * Le même moteur sert pour toutes les donnes : ses tampons sont réutilisés d'une partie à 4 joueurs
+ * à une partie à 3.
+ */
+class MoteurTropheesTest {
+    private static final int NB_DONNES = 5000;
+
+    private final MoteurTrophees moteur = new MoteurTrophees();
+    private final CalculateurScore calculateur = new CalculateurScore();
+
+    /**
+     * Donne aléatoire : joueurs dont aucun Jest n'est vide, Jests compacts et scores de base.
+     */
+    private record Donne(List<Joueur> joueurs, JestCompact[] jests, int[] scores) {
+    }
+
+    private Donne donner(SplittableRandom random) {
+        while (true) {
+            int nbJoueurs = 3 + random.nextInt(2);
+            Paquet paquet = new Paquet(random.split());
+            paquet.initialiser(random.nextBoolean() ? new ExtensionMagique(nbJoueurs, random.split()) : null);
+            paquet.melanger();
+
+            List<Joueur> joueurs = new ArrayList<>();
+            for (int i = 0; i < nbJoueurs; i++) {
+                joueurs.add(new JoueurVirtuel("J" + (i + 1), new StrategieAleatoire()));
+            }
+            // Une part des cartes reste hors des Jests, comme les cartes résiduelles en fin de partie
+            for (Carte carte : paquet.distribuer(paquet.getTaille())) {
+                int siege = random.nextInt(nbJoueurs + 1);
+                if (siege < nbJoueurs) {
+                    joueurs.get(siege).ajouterCarteAuJest(carte, random.nextBoolean());
+                }
+            }
+            if (joueurs.stream().anyMatch(joueur -> joueur.getJest().getCartes().isEmpty())) {
+                continue;
+            }
+
+            JestCompact[] jests = new JestCompact[nbJoueurs];
+            int[] scores = new int[nbJoueurs];
+            for (int i = 0; i < nbJoueurs; i++) {
+                jests[i] = joueurs.get(i).getJest().getCompact();
+                scores[i] = calculateur.calculerScore(joueurs.get(i).getJest(), true);
+                joueurs.get(i).setScore(scores[i]); // Lu par evaluer(List) pour les conditions de meilleur Jest
+            }
+            return new Donne(joueurs, jests, scores);
+        }
+    }
+
+    @Test
+    void analyseCompacteDesigneLesGagnantsDeConditionTrophee() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (int n = 0; n < NB_DONNES; n++) {
+            Donne donne = donner(random);
+            moteur.analyser(donne.jests(), donne.scores());
+            for (ConditionTrophee condition : ConditionTrophee.values()) {
+                Joueur gagnant = condition.evaluer(donne.joueurs());
+                assertEquals(condition.evaluer(donne.jests(), donne.scores()), moteur.getGagnant(condition),
+                        "donne " + n + ", " + condition);
+                assertEquals(gagnant == null ? -1 : donne.joueurs().indexOf(gagnant), moteur.getGagnant(condition),
+                        "donne " + n + ", " + condition + " (liste)");
+            }
+        }
+    }
+
+    @Test
+    void analyseDesJoueursDesigneLesGagnantsDeConditionTrophee() {
+        SplittableRandom random = new SplittableRandom(4);
+        for (int n = 0; n < NB_DONNES; n++) {
+            Donne donne = donner(random);
+            moteur.analyser(donne.joueurs(), calculateur);
+            for (ConditionTrophee condition : ConditionTrophee.values()) {
+                assertEquals(condition.evaluer(donne.jests(), donne.scores()), moteur.getGagnant(condition),
+                        "donne " + n + ", " + condition);
+            }
+        }
+    }
+}
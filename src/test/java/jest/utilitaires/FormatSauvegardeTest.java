@@ -0,0 +1,40 @@
+package jest.utilitaires;
+
+import jest.modele.jeu.Partie;
+import jest.modele.joueurs.*;
+import jest.simulation.MoteurSimulation;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests du format binaire des sauvegardes.
+ */
+class FormatSauvegardeTest {
+
+    @Test
+    void cartesCacheesDonneesSontSauvegardees() throws IOException {
+        List<Supplier<StrategieJeu>> strategies =
+                List.of(StrategieAleatoire::new, StrategieGloutonne::new, StrategieDefensive::new, StrategieAleatoire::new);
+        MoteurSimulation moteur = new MoteurSimulation(strategies, MoteurSimulation.varianteDepuisNom("standard"), true);
+        for (int n = 0; n < 100; n++) {
+            Partie partie = moteur.creerPartie(MoteurSimulation.graineDePartie(13, n));
+            while (!partie.estTerminee()) {
+                partie.executerProchainTour();
+                Partie relue = FormatSauvegarde.decoder(FormatSauvegarde.encoder(partie));
+                for (int p = 0; p < partie.getJoueurs().size(); p++) {
+                    Joueur joueur = partie.getJoueurs().get(p);
+                    Joueur relu = relue.getJoueurs().get(p);
+                    assertEquals(joueur.getJest().getMasqueCacheesDonnees(), relu.getJest().getMasqueCacheesDonnees(),
+                            "partie " + n + ", " + joueur.getNom());
+                    assertEquals(joueur.getJest().getMasqueVisibles(), relu.getJest().getMasqueVisibles(),
+                            "partie " + n + ", " + joueur.getNom());
+                }
+            }
+        }
+    }
+}
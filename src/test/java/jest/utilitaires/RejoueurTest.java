@@ -0,0 +1,152 @@
+package jest.utilitaires;
+
+import jest.modele.cartes.Carte;
+import jest.modele.cartes.Trophee;
+import jest.modele.extensions.*;
+import jest.modele.jeu.Partie;
+import jest.modele.joueurs.*;
+import jest.simulation.MoteurSimulation;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests du rejeu déterministe par le journal d'actions.
+ * Chaque partie est jouée à graine fixe (variante, nombre de joueurs, extension et présence
+ * d'un joueur MCTS dépendent de son numéro) et journalisée, puis rejouée depuis le journal.
+ */
+class RejoueurTest {
+    private static final Variante[] VARIANTES = {new VarianteStandard(), new VarianteTactique(), new VarianteRapide()};
+
+    @TempDir
+    Path repertoire;
+
+    /**
+     * Partie jouée jusqu'au bout, son journal et l'empreinte de l'état à la fin de chaque tour.
+     */
+    private record PartieJournalisee(Partie partie, Path journal, List<String> etatsParTour, int decisionsParTour) {
+    }
+
+    static IntStream numeros() {
+        return IntStream.range(0, 60);
+    }
+
+    /**
+     * Empreinte d'une partie : Jests (faces comprises), trophées, scores, pioche, résiduelles et tour.
+     */
+    private static String empreinte(Partie partie) {
+        StringBuilder sb = new StringBuilder();
+        for (Joueur joueur : partie.getJoueurs()) {
+            sb.append(joueur.getNom()).append(joueur.getScore()).append(':');
+            for (Carte carte : joueur.getJest().getCartes()) {
+                sb.append(carte.getIndex()).append(joueur.getJest().estVisible(carte) ? 'v' : 'c').append(',');
+            }
+            for (Trophee trophee : joueur.getJest().getTrophees()) {
+                sb.append('T').append(trophee.getIndex());
+            }
+            sb.append('|');
+        }
+        for (Carte carte : partie.getCartesRestantesPioche()) {
+            sb.append(carte.getIndex()).append(',');
+        }
+        sb.append('|');
+        for (Carte carte : partie.getCartesResiduelles()) {
+            sb.append(carte.getIndex()).append(',');
+        }
+        return sb.append('|').append(partie.getTourActuel()).toString();
+    }
+
+    private static List<Joueur> creerJoueurs(int nbJoueurs, boolean avecMCTS) {
+        List<Joueur> joueurs = new ArrayList<>();
+        for (int i = 0; i < nbJoueurs; i++) {
+            StrategieJeu strategie;
+            if (i == 0 && avecMCTS) {
+                strategie = new StrategieMCTS(50, 0, 1);
+            } else if (i % 3 == 0) {
+                strategie = new StrategieAleatoire();
+            } else if (i % 3 == 1) {
+                strategie = new StrategieGloutonne();
+            } else {
+                strategie = new StrategieDefensive();
+            }
+            joueurs.add(new JoueurVirtuel("IA" + (i + 1), strategie));
+        }
+        return joueurs;
+    }
+
+    private PartieJournalisee jouer(int numero) throws IOException {
+        int nbJoueurs = 3 + numero % 2;
+        SplittableRandom random = new SplittableRandom(MoteurSimulation.graineDePartie(2024, numero));
+        Extension extension = numero % 4 < 2 ? new ExtensionMagique(nbJoueurs, random.split()) : null;
+        Path journal = repertoire.resolve("partie" + numero + ".jnl");
+
+        Partie partie = new Partie();
+        partie.initialiser(creerJoueurs(nbJoueurs, numero % 10 == 0), extension, VARIANTES[numero % 3], random.nextLong());
+        JournalActions journalActions = JournalActions.creer(journal, partie, false);
+        List<String> etatsParTour = new ArrayList<>();
+        while (!partie.estTerminee()) {
+            partie.executerProchainTour();
+            etatsParTour.add(empreinte(partie));
+        }
+        partie.afficherResultatsFinaux();
+        journalActions.close();
+        return new PartieJournalisee(partie, journal, etatsParTour, 3 * nbJoueurs); // Carte cachée, offre, carte
+    }
+
+    @ParameterizedTest
+    @MethodSource("numeros")
+    void rejeuCompletRedonneLaPartieJouee(int numero) throws IOException {
+        PartieJournalisee jouee = jouer(numero);
+        Partie rejouee = Rejoueur.reconstruire(jouee.journal());
+        rejouee.afficherResultatsFinaux();
+        assertEquals(empreinte(jouee.partie()), empreinte(rejouee));
+    }
+
+    @ParameterizedTest
+    @MethodSource("numeros")
+    void rejeuDesPremiersToursRedonneEtatDeFinDeTour(int numero) throws IOException {
+        PartieJournalisee jouee = jouer(numero);
+        for (int tour = 0; tour < jouee.etatsParTour().size(); tour++) {
+            Partie prefixe = Rejoueur.reconstruire(jouee.journal(), (tour + 1) * jouee.decisionsParTour());
+            assertEquals(jouee.etatsParTour().get(tour), empreinte(prefixe), "tour " + (tour + 1));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("numeros")
+    void repriseApresJournalTronqueEnPleinTour(int numero) throws IOException {
+        PartieJournalisee jouee = jouer(numero);
+        Path journal = jouee.journal();
+        int nbTours = jouee.etatsParTour().size();
+        long tailleComplete = Files.size(journal);
+        long entete = tailleComplete - (long) jouee.decisionsParTour() * nbTours;
+
+        // Arrêt brutal au milieu d'un tour : le journal est tronqué, puis la partie reprise
+        long coupure = entete + (long) jouee.decisionsParTour() * (nbTours / 2) + numero % jouee.decisionsParTour();
+        try (FileChannel canal = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+            canal.truncate(coupure);
+        }
+        Partie reprise = Rejoueur.reprendre(journal, false);
+        while (!reprise.estTerminee()) {
+            reprise.executerProchainTour();
+        }
+        reprise.afficherResultatsFinaux();
+
+        Partie relue = Rejoueur.reconstruire(journal);
+        relue.afficherResultatsFinaux();
+        assertEquals(empreinte(reprise), empreinte(relue));
+        assertEquals(tailleComplete, Files.size(journal), "taille du journal complété");
+    }
+}
@@ -0,0 +1,47 @@
+package jest.utilitaires;
+
+import jest.modele.jeu.Partie;
+import jest.modele.joueurs.*;
+import jest.simulation.MoteurSimulation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'écrivain de sauvegardes automatiques.
+ */
+class SauvegardeAutomatiqueTest {
+
+    private static Partie partie() {
+        List<Supplier<StrategieJeu>> strategies = List.of(StrategieAleatoire::new, StrategieGloutonne::new, StrategieDefensive::new);
+        return new MoteurSimulation(strategies, MoteurSimulation.varianteDepuisNom("standard"), false).creerPartie(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", ".", "..", "a/b", "../partie", "a\\b"})
+    void nomInvalideEstRefuse(String nom) {
+        try (SauvegardeAutomatique ecrivain = new SauvegardeAutomatique(4)) {
+            Partie partie = partie();
+            assertThrows(IllegalArgumentException.class, () -> partie.activerSauvegardeAutomatique(nom, ecrivain));
+
+            assertFalse(ecrivain.soumettre(nom, partie));
+            SauvegardeAutomatique.Statistiques statistiques = ecrivain.getStatistiques();
+            assertEquals(1, statistiques.echecs());
+            assertEquals(0, statistiques.enAttente());
+            assertInstanceOf(IllegalArgumentException.class, ecrivain.getDerniereErreur());
+        }
+    }
+
+    @Test
+    void ecrivainFermeRefuseLesInstantanes() {
+        SauvegardeAutomatique ecrivain = new SauvegardeAutomatique(4);
+        ecrivain.close();
+        assertFalse(ecrivain.soumettre("partie", partie()));
+        assertEquals(1, ecrivain.getStatistiques().rejetees());
+    }
+}
@@ -0,0 +1,69 @@
+package jest.utilitaires;
+
+import jest.modele.jeu.Partie;
+import jest.modele.joueurs.*;
+import jest.simulation.MoteurSimulation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du segment de sauvegardes.
+ */
+class StockageSauvegardesTest {
+    @TempDir
+    Path repertoire;
+
+    private static Partie partie(long graine) {
+        List<Supplier<StrategieJeu>> strategies = List.of(StrategieAleatoire::new, StrategieGloutonne::new, StrategieDefensive::new);
+        Partie partie = new MoteurSimulation(strategies, MoteurSimulation.varianteDepuisNom("standard"), true).creerPartie(graine);
+        partie.executerProchainTour();
+        return partie;
+    }
+
+    @Test
+    void compacterConserveLesSauvegardesActives() throws IOException {
+        Path fichier = repertoire.resolve("parties.seg");
+        try (StockageSauvegardes stockage = new StockageSauvegardes(fichier)) {
+            for (int i = 0; i < 5; i++) {
+                stockage.enregistrer("partie-" + i, partie(i));
+            }
+            stockage.supprimer("partie-1");
+            stockage.enregistrer("partie-2", partie(42));
+            stockage.compacter();
+
+            assertEquals(0, stockage.getOctetsMorts());
+            assertFalse(Files.exists(repertoire.resolve("parties.seg.tmp")));
+            assertEquals(3, stockage.charger("partie-2").getJoueurs().size());
+            stockage.enregistrer("partie-5", partie(5));
+        }
+        try (StockageSauvegardes stockage = new StockageSauvegardes(fichier)) {
+            assertEquals(Set.of("partie-0", "partie-2", "partie-3", "partie-4", "partie-5"),
+                    Set.copyOf(stockage.listerSauvegardes()));
+        }
+    }
+
+    @Test
+    void compacterEnEchecLaisseLeSegmentUtilisable() throws IOException {
+        Path fichier = repertoire.resolve("parties.seg");
+        try (StockageSauvegardes stockage = new StockageSauvegardes(fichier)) {
+            stockage.enregistrer("partie-0", partie(0));
+            // Le fichier temporaire ne peut pas être créé : un répertoire occupe son nom
+            Files.createDirectory(repertoire.resolve("parties.seg.tmp"));
+
+            assertThrows(IOException.class, stockage::compacter);
+            assertFalse(Files.exists(repertoire.resolve("parties.seg.tmp")));
+            stockage.enregistrer("partie-1", partie(1));
+            assertNotNull(stockage.charger("partie-0"));
+            assertNotNull(stockage.charger("partie-1"));
+        }
+    }
+}